@@ -0,0 +1,50 @@
+package com.study.covidinline.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 로컬(Caffeine) 캐시 설정.
+ * 통계(recordStats)를 켜 두면 actuator 의 cache 메트릭(cache.gets, cache.evictions 등)으로 노출된다.
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String EVENT_LISTINGS = "eventListings";
+    public static final String PLACE_LISTINGS = "placeListings";
+    public static final String EVENTS = "events";
+    public static final String PLACES = "places";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${covidinline.cache.listing.max-size:200}") long listingMaxSize,
+            @Value("${covidinline.cache.listing.expire-after-write-seconds:300}") long listingExpireSeconds,
+            @Value("${covidinline.cache.entity.max-size:1000}") long entityMaxSize,
+            @Value("${covidinline.cache.entity.expire-after-write-seconds:600}") long entityExpireSeconds
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(EVENT_LISTINGS, buildCache(listingMaxSize, listingExpireSeconds));
+        cacheManager.registerCustomCache(PLACE_LISTINGS, buildCache(listingMaxSize, listingExpireSeconds));
+        // 크기 제한이 있으면 Caffeine 은 W-TinyLFU 로 들일 항목을 고르므로, 한 번 보고 마는 id 가 자주 보는 id 를 밀어내지 않는다
+        cacheManager.registerCustomCache(EVENTS, buildCache(entityMaxSize, entityExpireSeconds));
+        cacheManager.registerCustomCache(PLACES, buildCache(entityMaxSize, entityExpireSeconds));
+
+        return cacheManager;
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(long maxSize, long expireSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.study.covidinline.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Hibernate 2차 캐시 영역별 통계 (/actuator/secondlevelcache).
+ * hibernate.generate_statistics 가 꺼져 있으면 모든 값이 0 이다.
+ */
+@Endpoint(id = "secondlevelcache")
+@Component
+public class SecondLevelCacheEndpoint {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, RegionStatistics> regions() {
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .map(this::region)
+                .filter(Objects::nonNull)
+                .forEach(region -> regions.put(region.regionName(), region));
+
+        return regions;
+    }
+
+    @ReadOperation
+    public RegionStatistics region(@Selector String regionName) {
+        CacheRegionStatistics regionStatistics;
+        try {
+            regionStatistics = statistics.getCacheRegionStatistics(regionName);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        return regionStatistics == null ? null : RegionStatistics.from(regionStatistics);
+    }
+
+
+    public record RegionStatistics(
+            String regionName,
+            long hitCount,
+            long missCount,
+            long putCount,
+            double hitRatio,
+            long elementCountInMemory
+    ) {
+        public static RegionStatistics from(CacheRegionStatistics statistics) {
+            long requests = statistics.getHitCount() + statistics.getMissCount();
+
+            return new RegionStatistics(
+                    statistics.getRegionName(),
+                    statistics.getHitCount(),
+                    statistics.getMissCount(),
+                    statistics.getPutCount(),
+                    requests == 0 ? 0 : (double) statistics.getHitCount() / requests,
+                    statistics.getElementCountInMemory()
+            );
+        }
+    }
+}
@@ -25,6 +25,9 @@ public enum ErrorCode {
     SPRING_BAD_REQUEST(10001, HttpStatus.BAD_REQUEST, "Spring-detected bad request"),
     VALIDATION_ERROR(10002, HttpStatus.BAD_REQUEST, "Validation error"),
     NOT_FOUND(10003, HttpStatus.NOT_FOUND, "Requested resource is not found"),
+    WAITLIST_FULL(10004, HttpStatus.BAD_REQUEST, "Waitlist is full"),
+    EVENT_TIME_CONFLICT(10005, HttpStatus.BAD_REQUEST, "Event time overlaps another event at the same place"),
+    WAITLIST_NOT_NEEDED(10006, HttpStatus.BAD_REQUEST, "Event has room, check in instead of waiting"),
 
     // server error
     INTERNAL_ERROR(20000, HttpStatus.INTERNAL_SERVER_ERROR, "Internal error"),
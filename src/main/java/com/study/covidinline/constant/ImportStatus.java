@@ -0,0 +1,5 @@
+package com.study.covidinline.constant;
+
+public enum ImportStatus {
+    RUNNING, COMPLETED, FAILED
+}
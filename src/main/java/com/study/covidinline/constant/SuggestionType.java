@@ -0,0 +1,5 @@
+package com.study.covidinline.constant;
+
+public enum SuggestionType {
+    PLACE, EVENT
+}
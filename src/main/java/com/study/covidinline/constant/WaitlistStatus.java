@@ -0,0 +1,5 @@
+package com.study.covidinline.constant;
+
+public enum WaitlistStatus {
+    WAITING, PROMOTED, CANCELLED
+}
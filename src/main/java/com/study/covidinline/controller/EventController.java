@@ -6,6 +6,7 @@ import com.study.covidinline.constant.EventStatus;
 import com.study.covidinline.domain.Event;
 import com.study.covidinline.dto.EventResponse;
 import com.study.covidinline.dto.EventViewResponse;
+import com.study.covidinline.dto.EventViewSliceResponse;
 import com.study.covidinline.exception.GeneralException;
 import com.study.covidinline.service.EventService;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
@@ -48,6 +50,10 @@ public class EventController {
         return new ModelAndView("event/index", map);
     }
 
+    /**
+     * cursor 파라미터가 있으면(빈 값이면 첫 페이지) offset 페이징 대신 keyset 페이징으로 조회한다.
+     * 다음 페이지가 있으면 다음 페이지 링크(nextPageUrl)도 함께 내려준다.
+     */
     @GetMapping("/custom")
     public ModelAndView customEvents(
             @Size(min = 2) String placeName,
@@ -55,9 +61,35 @@ public class EventController {
             EventStatus eventStatus,
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime eventStartDatetime,
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime eventEndDatetime,
+            String cursor,
             Pageable pageable
     ) {
         Map<String, Object> map = new HashMap<>();
+
+        if (cursor != null) {
+            EventViewSliceResponse slice = eventService.getEventViewSlice(
+                    placeName,
+                    eventName,
+                    eventStatus,
+                    eventStartDatetime,
+                    eventEndDatetime,
+                    cursor,
+                    pageable.getPageSize()
+            );
+
+            map.put("events", slice.events());
+            map.put("nextCursor", slice.nextCursor());
+            if (slice.hasNext()) {
+                // 검색 조건과 size 는 그대로 두고 cursor 만 바꾼 다음 페이지 링크
+                map.put("nextPageUrl", ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam("cursor", slice.nextCursor())
+                        .build(true)
+                        .toUriString());
+            }
+
+            return new ModelAndView("event/index", map);
+        }
+
         Page<EventViewResponse> events = eventService.getEventViewResponse(
                 placeName,
                 eventName,
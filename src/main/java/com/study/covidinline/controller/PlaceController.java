@@ -3,8 +3,10 @@ package com.study.covidinline.controller;
 import com.querydsl.core.types.Predicate;
 import com.study.covidinline.constant.ErrorCode;
 import com.study.covidinline.domain.Place;
+import com.study.covidinline.dto.PlaceDTO;
 import com.study.covidinline.dto.PlaceResponse;
 import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.service.PlaceOccupancyService;
 import com.study.covidinline.service.PlaceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.querydsl.binding.QuerydslPredicate;
@@ -24,13 +26,14 @@ import java.util.Map;
 public class PlaceController {
 
     private final PlaceService placeService;
+    private final PlaceOccupancyService placeOccupancyService;
 
     @GetMapping
     public ModelAndView places(@QuerydslPredicate(root = Place.class) Predicate predicate) {
         Map<String, Object> map = new HashMap<>();
         List<PlaceResponse> places = placeService.getPlaces(predicate)
                 .stream()
-                .map(PlaceResponse::from)
+                .map(this::toResponse)
                 .toList();
         map.put("places", places);
 
@@ -41,7 +44,7 @@ public class PlaceController {
     public ModelAndView placeDetail(@PathVariable Long placeId) {
         Map<String, Object> map = new HashMap<>();
         PlaceResponse place = placeService.getPlace(placeId)
-                .map(PlaceResponse::from)
+                .map(this::toResponse)
                 .orElseThrow(() -> new GeneralException(ErrorCode.NOT_FOUND));
 
         map.put("place", place);
@@ -49,4 +52,8 @@ public class PlaceController {
         return new ModelAndView("place/detail", map);
     }
 
+    private PlaceResponse toResponse(PlaceDTO placeDTO) {
+        return PlaceResponse.from(placeDTO, placeOccupancyService.getCurrentNumberOfPeople(placeDTO.id()).orElse(null));
+    }
+
 }
@@ -0,0 +1,106 @@
+package com.study.covidinline.controller.api;
+
+import com.querydsl.core.types.Predicate;
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.dto.APIDataResponse;
+import com.study.covidinline.dto.EventBulkUpdateRequest;
+import com.study.covidinline.dto.EventConflictResponse;
+import com.study.covidinline.dto.EventRequest;
+import com.study.covidinline.dto.ImportProgressResponse;
+import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.service.BulkImportService;
+import com.study.covidinline.service.EventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.querydsl.binding.QuerydslPredicate;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 관리자용 API.
+ */
+@RequiredArgsConstructor
+@Validated
+@RequestMapping("/api")
+@RestController
+public class APIAdminController {
+
+    private final EventService eventService;
+    private final BulkImportService bulkImportService;
+
+    /**
+     * 같은 장소에서 시간이 겹치는 이벤트 쌍 전체.
+     */
+    @GetMapping("/admin/event-conflicts")
+    public APIDataResponse<List<EventConflictResponse>> getEventConflicts() {
+        return APIDataResponse.of(eventService.getEventConflicts());
+    }
+
+    /**
+     * 이벤트 일괄 등록. 하나라도 실패하면 하나도 만들지 않는다.
+     */
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping("/events/batch")
+    public APIDataResponse<List<Long>> createEvents(@NotEmpty @RequestBody List<@Valid EventRequest> eventRequests) {
+        return APIDataResponse.of(eventService.createEvents(eventRequests.stream().map(EventRequest::toDTO).toList()));
+    }
+
+    /**
+     * 검색 조건에 맞는 이벤트들의 상태나 정원을 한꺼번에 바꾼다. 조건은 이벤트 목록 검색과 같은 파라미터에 place.id 를 더해 쓴다.
+     * 조건 없이 전체를 바꾸거나, 바꿀 값 없이 요청하면 거절한다.
+     *
+     * @return 바뀐 이벤트 수
+     */
+    @PatchMapping("/admin/events")
+    public APIDataResponse<Long> modifyEvents(
+            @QuerydslPredicate(root = Event.class) Predicate predicate,
+            @Valid @RequestBody EventBulkUpdateRequest request
+    ) {
+        return APIDataResponse.of(eventService.modifyEvents(predicate, request.eventStatus(), request.capacity()));
+    }
+
+    /**
+     * 장소 CSV 일괄 등록. 접수만 하고 바로 응답하므로, 진행 상황은 jobId 로 조회한다.
+     * 실패한 작업은 같은 jobId 와 같은 파일로 다시 요청하면 저장된 다음 행부터 이어서 한다.
+     */
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping("/admin/imports/places")
+    public APIDataResponse<ImportProgressResponse> importPlaces(
+            @Size(min = 1, max = 100) @RequestParam(required = false) String jobId,
+            @RequestParam MultipartFile file
+    ) throws IOException {
+        return APIDataResponse.of(bulkImportService.importPlaces(jobIdOrNew(jobId), file.getBytes()));
+    }
+
+    /**
+     * 이벤트 CSV 일괄 등록. placeId 는 이미 등록된 장소의 id.
+     */
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping("/admin/imports/events")
+    public APIDataResponse<ImportProgressResponse> importEvents(
+            @Size(min = 1, max = 100) @RequestParam(required = false) String jobId,
+            @RequestParam MultipartFile file
+    ) throws IOException {
+        return APIDataResponse.of(bulkImportService.importEvents(jobIdOrNew(jobId), file.getBytes()));
+    }
+
+    @GetMapping("/admin/imports/{jobId}")
+    public APIDataResponse<ImportProgressResponse> getImportProgress(@PathVariable String jobId) {
+        return APIDataResponse.of(bulkImportService.getProgress(jobId)
+                .orElseThrow(() -> new GeneralException(ErrorCode.NOT_FOUND)));
+    }
+
+
+    private String jobIdOrNew(String jobId) {
+        return jobId == null ? UUID.randomUUID().toString() : jobId;
+    }
+}
@@ -0,0 +1,120 @@
+package com.study.covidinline.controller.api;
+
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.constant.WaitlistStatus;
+import com.study.covidinline.dto.APIDataResponse;
+import com.study.covidinline.dto.WaitlistRequest;
+import com.study.covidinline.dto.WaitlistResponse;
+import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.service.EventOccupancyStreamService;
+import com.study.covidinline.service.EventService;
+import com.study.covidinline.service.EventWaitlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 이벤트 입장/퇴장, 대기열 API.
+ * 이벤트 자체의 CRUD 는 Spring Data REST 의 /api/events 가 담당한다.
+ */
+@RequiredArgsConstructor
+@Validated
+@RequestMapping("/api")
+@RestController
+public class APIEventOccupancyController {
+
+    private final EventService eventService;
+    private final EventWaitlistService eventWaitlistService;
+    private final EventOccupancyStreamService eventOccupancyStreamService;
+
+    @Value("${covidinline.waitlist.long-poll-timeout-ms:30000}")
+    private long longPollTimeoutMillis;
+
+    @PostMapping("/events/{eventId}/check-in")
+    public APIDataResponse<String> checkIn(@Positive @PathVariable Long eventId) {
+        boolean result = eventService.checkIn(eventId);
+
+        return APIDataResponse.of(Boolean.toString(result));
+    }
+
+    @PostMapping("/events/{eventId}/check-out")
+    public APIDataResponse<String> checkOut(@Positive @PathVariable Long eventId) {
+        boolean result = eventService.checkOut(eventId);
+
+        return APIDataResponse.of(Boolean.toString(result));
+    }
+
+    /**
+     * 이벤트 현재 인원 스트림 (SSE).
+     * 연결하면 snapshot 을 한 번 보내고, 이후로는 모아 둔 증감분(occupancy)만 주기적으로 보낸다.
+     */
+    @GetMapping(value = "/events/{eventId}/occupancy/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEventOccupancy(@Positive @PathVariable Long eventId) {
+        return eventOccupancyStreamService.subscribeEvent(eventId);
+    }
+
+    /**
+     * 장소에 속한 모든 이벤트의 현재 인원 스트림 (SSE).
+     */
+    @GetMapping(value = "/places/{placeId}/occupancy/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPlaceOccupancy(@Positive @PathVariable Long placeId) {
+        return eventOccupancyStreamService.subscribePlace(placeId);
+    }
+
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping("/events/{eventId}/waitlist")
+    public APIDataResponse<WaitlistResponse> joinWaitlist(
+            @Positive @PathVariable Long eventId,
+            @Valid @RequestBody WaitlistRequest waitlistRequest
+    ) {
+        return APIDataResponse.of(eventWaitlistService.join(eventId, waitlistRequest.phoneNumber()));
+    }
+
+    /**
+     * 대기 상태 조회 (long-poll).
+     * 대기 중이면 입장/취소될 때까지, 최대 timeout 동안 응답을 미뤘다가 그 시점의 상태를 돌려준다.
+     */
+    @GetMapping("/events/{eventId}/waitlist/{entryId}")
+    public DeferredResult<APIDataResponse<WaitlistResponse>> getWaitlistEntry(
+            @Positive @PathVariable Long eventId,
+            @Positive @PathVariable Long entryId
+    ) {
+        WaitlistResponse current = eventWaitlistService.getEntry(eventId, entryId)
+                .orElseThrow(() -> new GeneralException(ErrorCode.NOT_FOUND));
+
+        DeferredResult<APIDataResponse<WaitlistResponse>> result = new DeferredResult<>(longPollTimeoutMillis);
+        if (current.waitlistStatus() != WaitlistStatus.WAITING) {
+            result.setResult(APIDataResponse.of(current));
+            return result;
+        }
+
+        CompletableFuture<WaitlistResponse> promotion = eventWaitlistService.awaitPromotion(eventId, entryId);
+        result.onTimeout(() -> result.setResult(APIDataResponse.of(
+                eventWaitlistService.getEntry(eventId, entryId).orElse(current)
+        )));
+        result.onCompletion(() -> eventWaitlistService.releasePromotion(entryId, promotion));
+        promotion.thenAccept(response -> result.setResult(APIDataResponse.of(response)));
+
+        return result;
+    }
+
+    @DeleteMapping("/events/{eventId}/waitlist/{entryId}")
+    public APIDataResponse<String> cancelWaitlist(
+            @Positive @PathVariable Long eventId,
+            @Positive @PathVariable Long entryId
+    ) {
+        boolean result = eventWaitlistService.cancel(eventId, entryId);
+
+        return APIDataResponse.of(Boolean.toString(result));
+    }
+
+}
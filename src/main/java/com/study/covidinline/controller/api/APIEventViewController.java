@@ -0,0 +1,121 @@
+package com.study.covidinline.controller.api;
+
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.constant.ExportFormat;
+import com.study.covidinline.dto.APIDataResponse;
+import com.study.covidinline.dto.EventViewSliceResponse;
+import com.study.covidinline.service.EventExportService;
+import com.study.covidinline.service.EventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 뷰 검색, 내보내기 API.
+ * 검색은 keyset 페이징으로, 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회한다.
+ */
+@RequiredArgsConstructor
+@Validated
+@RequestMapping("/api")
+@RestController
+public class APIEventViewController {
+
+    private final EventService eventService;
+    private final EventExportService eventExportService;
+
+    @GetMapping("/event-views")
+    public APIDataResponse<EventViewSliceResponse> getEventViews(
+            @Size(min = 2) String placeName,
+            @Size(min = 2) String eventName,
+            EventStatus eventStatus,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime eventStartDatetime,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime eventEndDatetime,
+            String cursor,
+            @Positive @Max(100) @RequestParam(defaultValue = "20") int size
+    ) {
+        return APIDataResponse.of(eventService.getEventViewSlice(
+                placeName,
+                eventName,
+                eventStatus,
+                eventStartDatetime,
+                eventEndDatetime,
+                cursor,
+                size
+        ));
+    }
+
+    /**
+     * 시각 at(기본은 지금)에 진행 중인 이벤트들. 현황판처럼 자주 부르는 용도라 테이블을 훑지 않고 시간 색인으로 찾는다.
+     * 검색과 같은 keyset 페이징으로 나눠서 준다.
+     */
+    @GetMapping("/event-views/live")
+    public APIDataResponse<EventViewSliceResponse> getLiveEventViews(
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            String cursor,
+            @Positive @Max(100) @RequestParam(defaultValue = "20") int size
+    ) {
+        return APIDataResponse.of(eventService.getLiveEventViews(at == null ? LocalDateTime.now() : at, cursor, size));
+    }
+
+    /**
+     * [from, to) 시간대와 겹치는 이벤트들. 검색과 같은 keyset 페이징으로 나눠서 준다.
+     */
+    @GetMapping("/event-views/overlapping")
+    public APIDataResponse<EventViewSliceResponse> getOverlappingEventViews(
+            @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @RequestParam LocalDateTime from,
+            @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @RequestParam LocalDateTime to,
+            String cursor,
+            @Positive @Max(100) @RequestParam(defaultValue = "20") int size
+    ) {
+        return APIDataResponse.of(eventService.getOverlappingEventViews(from, to, cursor, size));
+    }
+
+    /**
+     * 검색 조건에 맞는 이벤트 뷰 전체를 NDJSON 또는 CSV 로 내려준다.
+     * DB 커서에서 읽는 대로 바로 쓰므로 첫 줄이 빨리 도착하고, 건수가 많아도 메모리를 더 쓰지 않는다.
+     * 쓰기는 비동기 요청으로 돌고, 제한 시간은 spring.mvc.async.request-timeout 을 따른다. (컨테이너 기본값에 맡기지 않는다)
+     */
+    @GetMapping("/event-views/export")
+    public ResponseEntity<StreamingResponseBody> exportEventViews(
+            @Size(min = 2) String placeName,
+            @Size(min = 2) String eventName,
+            EventStatus eventStatus,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime eventStartDatetime,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime eventEndDatetime,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        StreamingResponseBody body = outputStream -> eventExportService.export(
+                format,
+                placeName,
+                eventName,
+                eventStatus,
+                eventStartDatetime,
+                eventEndDatetime,
+                outputStream
+        );
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("events." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+}
@@ -27,7 +27,8 @@ public class APIPlaceController {
                 "서울시 강남구 강남대로 1234",
                 "010-1234-5678",
                 30,
-                "신장개업"
+                "신장개업",
+                0
         )));
     }
 
@@ -50,7 +51,8 @@ public class APIPlaceController {
                 "서울시 강남구 강남대로 1234",
                 "010-1234-5678",
                 30,
-                "신장개업"
+                "신장개업",
+                0
         ));
     }
 
@@ -0,0 +1,50 @@
+package com.study.covidinline.controller.api;
+
+import com.study.covidinline.dto.APIDataResponse;
+import com.study.covidinline.dto.SearchResponse;
+import com.study.covidinline.dto.SuggestionResponse;
+import com.study.covidinline.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+import java.util.List;
+
+/**
+ * 장소, 이벤트 검색, 자동완성 API.
+ * 초성("ㅂㄷㅁㅌ")이나 입력 중인 글자("배드미")로도 이름, 주소의 단어 앞부분을 찾는다.
+ */
+@RequiredArgsConstructor
+@Validated
+@RequestMapping("/api")
+@RestController
+public class APISearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping("/search")
+    public APIDataResponse<SearchResponse> search(
+            @NotBlank @RequestParam String q,
+            @Positive @Max(50) @RequestParam(defaultValue = "10") int limit
+    ) {
+        return APIDataResponse.of(searchService.search(q, limit));
+    }
+
+    /**
+     * 타이핑할 때마다 부르는 자동완성. 인기(입장 수)와 현재 인원 순으로 상위 limit 개.
+     */
+    @GetMapping("/suggest")
+    public APIDataResponse<List<SuggestionResponse>> suggest(
+            @NotBlank @RequestParam String q,
+            @Positive @Max(20) @RequestParam(defaultValue = "10") int limit
+    ) {
+        return APIDataResponse.of(searchService.suggest(q, limit));
+    }
+
+}
@@ -1,9 +1,13 @@
 package com.study.covidinline.domain;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.study.covidinline.constant.EventStatus;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,17 +21,33 @@ import java.util.Objects;
 @ToString
 @Table(indexes = {
         @Index(columnList = "eventName"),
-        @Index(columnList = "eventStartDatetime"),
+        @Index(columnList = "eventStartDatetime, id"),
         @Index(columnList = "eventEndDatetime"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "modifiedAt")
 })
+@DynamicUpdate
 @EntityListeners(AuditingEntityListener.class)
 @Entity
 public class Event {
 
+    /**
+     * id 를 50개씩 미리 받아 두고 쓴다. (pooled-lo)
+     * IDENTITY 와 달리 insert 전에 id 가 정해지므로 JDBC batch insert 가 된다.
+     * sequence 가 없는 DB(MySQL)에서는 hibernate 가 테이블로 대신한다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_id")
+    @GenericGenerator(
+            name = "event_id",
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "event_seq"),
+                    @Parameter(name = "initial_value", value = "1000"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            }
+    )
     private Long id;
 
 
@@ -53,6 +73,8 @@ public class Event {
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private LocalDateTime eventEndDatetime;
 
+    /** 입장/퇴장 API 로만 바뀐다. Spring Data REST 로 들어온 값은 무시한다. */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     @Setter @Column(nullable = false, columnDefinition = "integer default 0")
     private Integer currentNumberOfPeople;
 
@@ -63,6 +85,11 @@ public class Event {
     private String memo;
 
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+
     @Column(nullable = false, insertable = false, updatable = false,
             columnDefinition = "datetime default CURRENT_TIMESTAMP")
     @CreatedDate
@@ -0,0 +1,77 @@
+package com.study.covidinline.domain;
+
+import com.study.covidinline.constant.ImportTarget;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 일괄 등록 작업이 어디까지 저장했는지. 저장한 묶음(chunk)과 같은 트랜잭션에서 갱신한다.
+ * 같은 파일로 다시 실행하면 committedRows 다음 행부터 이어서 저장한다.
+ */
+@Getter
+@ToString
+@EntityListeners(AuditingEntityListener.class)
+@Entity
+public class ImportCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String jobId;
+
+
+    @Column(nullable = false, columnDefinition = "varchar(20)")
+    @Enumerated(EnumType.STRING)
+    private ImportTarget importTarget;
+
+    /** 다른 파일로 이어서 저장하는 것을 막기 위한 파일 내용의 SHA-256. */
+    @Column(nullable = false, length = 64)
+    private String fileHash;
+
+    @Column(nullable = false)
+    private Long committedRows;
+
+
+    @Column(nullable = false, insertable = false, updatable = false,
+            columnDefinition = "datetime default CURRENT_TIMESTAMP")
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false, insertable = false, updatable = false,
+            columnDefinition = "datetime default CURRENT_TIMESTAMP on update CURRENT_TIMESTAMP")
+    @LastModifiedDate
+    private LocalDateTime modifiedAt;
+
+
+    protected ImportCheckpoint() {}
+
+    protected ImportCheckpoint(String jobId, ImportTarget importTarget, String fileHash, Long committedRows) {
+        this.jobId = jobId;
+        this.importTarget = importTarget;
+        this.fileHash = fileHash;
+        this.committedRows = committedRows;
+    }
+
+    public static ImportCheckpoint of(String jobId, ImportTarget importTarget, String fileHash, Long committedRows) {
+        return new ImportCheckpoint(jobId, importTarget, fileHash, committedRows);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        return jobId != null && jobId.equals(((ImportCheckpoint) obj).getJobId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jobId);
+    }
+
+}
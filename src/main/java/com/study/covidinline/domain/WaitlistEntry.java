@@ -0,0 +1,92 @@
+package com.study.covidinline.domain;
+
+import com.study.covidinline.constant.WaitlistStatus;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "waitlistStatus"),
+        @Index(columnList = "createdAt"),
+        @Index(columnList = "modifiedAt")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Entity
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_entry_id")
+    @GenericGenerator(
+            name = "waitlist_entry_id",
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "waitlist_entry_seq"),
+                    @Parameter(name = "initial_value", value = "1000"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            }
+    )
+    private Long id;
+
+
+    @ToString.Exclude
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    private Event event;
+
+    @Setter
+    @Column(nullable = false)
+    private String phoneNumber;
+
+    @Setter
+    @Column(nullable = false, columnDefinition = "varchar(20) default 'WAITING'")
+    @Enumerated(EnumType.STRING)
+    private WaitlistStatus waitlistStatus;
+
+
+    @Column(nullable = false, insertable = false, updatable = false,
+            columnDefinition = "datetime default CURRENT_TIMESTAMP")
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false, insertable = false, updatable = false,
+            columnDefinition = "datetime default CURRENT_TIMESTAMP on update CURRENT_TIMESTAMP")
+    @LastModifiedDate
+    private LocalDateTime modifiedAt;
+
+
+    protected WaitlistEntry() {}
+
+    protected WaitlistEntry(Event event, String phoneNumber, WaitlistStatus waitlistStatus) {
+        this.event = event;
+        this.phoneNumber = phoneNumber;
+        this.waitlistStatus = waitlistStatus;
+    }
+
+    public static WaitlistEntry of(Event event, String phoneNumber, WaitlistStatus waitlistStatus) {
+        return new WaitlistEntry(event, phoneNumber, waitlistStatus);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        return id != null && id.equals(((WaitlistEntry) obj).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(phoneNumber, waitlistStatus, createdAt, modifiedAt);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.study.covidinline.dto;
+
+import java.util.List;
+
+/**
+ * 여러 이벤트를 한 번에 바꿨을 때의 변경 알림 (application event). 건마다 {@link EventChange} 를 따로 보내지 않는다.
+ * 받는 쪽은 잠금, 캐시 비우기 같은 일을 한 번만 하고 안의 변경을 차례로 반영한다.
+ */
+public record EventBatchChange(
+        List<EventChange> changes
+) {
+    public static EventBatchChange of(List<EventChange> changes) {
+        return new EventBatchChange(List.copyOf(changes));
+    }
+}
@@ -0,0 +1,14 @@
+package com.study.covidinline.dto;
+
+import com.study.covidinline.constant.EventStatus;
+
+import javax.validation.constraints.Positive;
+
+public record EventBulkUpdateRequest(
+        EventStatus eventStatus,
+        @Positive Integer capacity
+) {
+    public static EventBulkUpdateRequest of(EventStatus eventStatus, Integer capacity) {
+        return new EventBulkUpdateRequest(eventStatus, capacity);
+    }
+}
@@ -0,0 +1,17 @@
+package com.study.covidinline.dto;
+
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.domain.Event;
+
+/**
+ * 이벤트 생성/수정/삭제 알림 (application event). 삭제된 경우 event 는 null.
+ */
+public record EventChange(
+        ChangeType changeType,
+        Long eventId,
+        Event event
+) {
+    public static EventChange of(ChangeType changeType, Long eventId, Event event) {
+        return new EventChange(changeType, eventId, event);
+    }
+}
@@ -0,0 +1,21 @@
+package com.study.covidinline.dto;
+
+import java.time.LocalDateTime;
+
+public record EventConflictResponse(
+        Long placeId,
+        Long eventId,
+        Long conflictingEventId,
+        LocalDateTime overlapStartDatetime,
+        LocalDateTime overlapEndDatetime
+) {
+    public static EventConflictResponse of(
+            Long placeId,
+            Long eventId,
+            Long conflictingEventId,
+            LocalDateTime overlapStartDatetime,
+            LocalDateTime overlapEndDatetime
+    ) {
+        return new EventConflictResponse(placeId, eventId, conflictingEventId, overlapStartDatetime, overlapEndDatetime);
+    }
+}
@@ -77,12 +77,15 @@ public record EventDTO(
         );
     }
 
+    /**
+     * 현재 인원은 입장/퇴장 API 에서만 바꾼다.
+     * 클라이언트가 읽어 둔 값으로 덮어쓰면 동시에 들어온 입장/퇴장이 유실되기 때문.
+     */
     public Event updateEntity(Event event) {
         if (eventName != null) { event.setEventName(eventName); }
         if (eventStatus != null) { event.setEventStatus(eventStatus); }
         if (eventStartDatetime != null) { event.setEventStartDatetime(eventStartDatetime); }
         if (eventEndDatetime != null) { event.setEventEndDatetime(eventEndDatetime); }
-        if (currentNumberOfPeople != null) { event.setCurrentNumberOfPeople(currentNumberOfPeople); }
         if (capacity != null) { event.setCapacity(capacity); }
         if (memo != null) { event.setMemo(memo); }
 
@@ -43,7 +43,7 @@ public record EventRequest(
     public EventDTO toDTO() {
         return EventDTO.of(
                 null,
-                null, // TODO: 반드시 수정 필요
+                PlaceDTO.of(this.placeId(), null, null, null, null, null, null, null, null),
                 this.eventName(),
                 this.eventStatus(),
                 this.eventStartDatetime(),
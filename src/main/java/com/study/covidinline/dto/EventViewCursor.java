@@ -0,0 +1,51 @@
+package com.study.covidinline.dto;
+
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.exception.GeneralException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 이벤트 뷰 keyset 페이징의 위치 (eventStartDatetime, id).
+ * 클라이언트에는 내부 구조를 알 수 없는 문자열(Base64)로 내려준다.
+ */
+public record EventViewCursor(
+        LocalDateTime eventStartDatetime,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static EventViewCursor of(LocalDateTime eventStartDatetime, Long id) {
+        return new EventViewCursor(eventStartDatetime, id);
+    }
+
+    public static EventViewCursor from(EventViewResponse eventViewResponse) {
+        return EventViewCursor.of(eventViewResponse.eventStartDatetime(), eventViewResponse.id());
+    }
+
+    /**
+     * 비어 있으면 첫 페이지(null)로 본다.
+     */
+    public static EventViewCursor decode(String token) {
+        if (token == null || token.isBlank()) { return null; }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+
+            return EventViewCursor.of(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "잘못된 cursor 입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String raw = eventStartDatetime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
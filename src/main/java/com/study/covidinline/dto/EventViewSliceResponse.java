@@ -0,0 +1,16 @@
+package com.study.covidinline.dto;
+
+import java.util.List;
+
+/**
+ * keyset 페이징 결과. 전체 개수는 세지 않고, 다음 페이지가 있으면 nextCursor 를 준다.
+ */
+public record EventViewSliceResponse(
+        List<EventViewResponse> events,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static EventViewSliceResponse of(List<EventViewResponse> events, String nextCursor, boolean hasNext) {
+        return new EventViewSliceResponse(events, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,31 @@
+package com.study.covidinline.dto;
+
+import com.study.covidinline.constant.ImportStatus;
+import com.study.covidinline.constant.ImportTarget;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 진행 상황. skippedRows 는 이전 실행에서 이미 저장되어 건너뛴 행 수.
+ */
+public record ImportProgressResponse(
+        String jobId,
+        ImportTarget importTarget,
+        ImportStatus importStatus,
+        Long totalRows,
+        Long skippedRows,
+        Long writtenRows,
+        List<String> errors
+) {
+    public static ImportProgressResponse of(
+            String jobId,
+            ImportTarget importTarget,
+            ImportStatus importStatus,
+            Long totalRows,
+            Long skippedRows,
+            Long writtenRows,
+            List<String> errors
+    ) {
+        return new ImportProgressResponse(jobId, importTarget, importStatus, totalRows, skippedRows, writtenRows, errors);
+    }
+}
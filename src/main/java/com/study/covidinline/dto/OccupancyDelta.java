@@ -0,0 +1,13 @@
+package com.study.covidinline.dto;
+
+/**
+ * 이벤트 현재 인원 증감분. 인원이 바뀌면 application event 로 발행되고, SSE 로 그대로 내려간다.
+ */
+public record OccupancyDelta(
+        Long eventId,
+        Integer delta
+) {
+    public static OccupancyDelta of(Long eventId, Integer delta) {
+        return new OccupancyDelta(eventId, delta);
+    }
+}
@@ -0,0 +1,28 @@
+package com.study.covidinline.dto;
+
+import com.study.covidinline.domain.Event;
+
+public record OccupancyResponse(
+        Long eventId,
+        Long placeId,
+        Integer currentNumberOfPeople,
+        Integer capacity
+) {
+    public static OccupancyResponse of(
+            Long eventId,
+            Long placeId,
+            Integer currentNumberOfPeople,
+            Integer capacity
+    ) {
+        return new OccupancyResponse(eventId, placeId, currentNumberOfPeople, capacity);
+    }
+
+    public static OccupancyResponse from(Event event) {
+        return OccupancyResponse.of(
+                event.getId(),
+                event.getPlace().getId(),
+                event.getCurrentNumberOfPeople(),
+                event.getCapacity()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.study.covidinline.dto;
+
+import java.util.List;
+
+/**
+ * 여러 장소를 한 번에 바꿨을 때의 변경 알림 (application event). {@link EventBatchChange} 의 장소 쪽.
+ */
+public record PlaceBatchChange(
+        List<PlaceChange> changes
+) {
+    public static PlaceBatchChange of(List<PlaceChange> changes) {
+        return new PlaceBatchChange(List.copyOf(changes));
+    }
+}
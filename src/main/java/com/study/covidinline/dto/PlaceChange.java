@@ -0,0 +1,17 @@
+package com.study.covidinline.dto;
+
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.domain.Place;
+
+/**
+ * 장소 생성/수정/삭제 알림 (application event). 삭제된 경우 place 는 null.
+ */
+public record PlaceChange(
+        ChangeType changeType,
+        Long placeId,
+        Place place
+) {
+    public static PlaceChange of(ChangeType changeType, Long placeId, Place place) {
+        return new PlaceChange(changeType, placeId, place);
+    }
+}
@@ -9,7 +9,8 @@ public record PlaceResponse(
         String address,
         String phoneNumber,
         Integer capacity,
-        String memo
+        String memo,
+        Integer currentNumberOfPeople
 ) {
     public static PlaceResponse of(
             Long id,
@@ -18,12 +19,20 @@ public record PlaceResponse(
             String address,
             String phoneNumber,
             Integer capacity,
-            String memo
+            String memo,
+            Integer currentNumberOfPeople
     ) {
-        return new PlaceResponse(id, placeType, placeName, address, phoneNumber, capacity, memo);
+        return new PlaceResponse(id, placeType, placeName, address, phoneNumber, capacity, memo, currentNumberOfPeople);
     }
 
     public static PlaceResponse from(PlaceDTO placeDTO) {
+        return from(placeDTO, null);
+    }
+
+    /**
+     * currentNumberOfPeople 은 장소에서 열린 이벤트들의 현재 인원 합.
+     */
+    public static PlaceResponse from(PlaceDTO placeDTO, Integer currentNumberOfPeople) {
         if (placeDTO == null) return null;
         return PlaceResponse.of(
                 placeDTO.id(),
@@ -32,7 +41,8 @@ public record PlaceResponse(
                 placeDTO.address(),
                 placeDTO.phoneNumber(),
                 placeDTO.capacity(),
-                placeDTO.memo()
+                placeDTO.memo(),
+                currentNumberOfPeople
         );
     }
 }
\ No newline at end of file
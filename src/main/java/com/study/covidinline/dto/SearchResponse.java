@@ -0,0 +1,12 @@
+package com.study.covidinline.dto;
+
+import java.util.List;
+
+public record SearchResponse(
+        List<PlaceResponse> places,
+        List<EventResponse> events
+) {
+    public static SearchResponse of(List<PlaceResponse> places, List<EventResponse> events) {
+        return new SearchResponse(places, events);
+    }
+}
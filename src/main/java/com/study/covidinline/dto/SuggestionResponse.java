@@ -0,0 +1,14 @@
+package com.study.covidinline.dto;
+
+import com.study.covidinline.constant.SuggestionType;
+
+public record SuggestionResponse(
+        SuggestionType type,
+        Long id,
+        String text,
+        Long score
+) {
+    public static SuggestionResponse of(SuggestionType type, Long id, String text, Long score) {
+        return new SuggestionResponse(type, id, text, score);
+    }
+}
@@ -0,0 +1,11 @@
+package com.study.covidinline.dto;
+
+import javax.validation.constraints.NotBlank;
+
+public record WaitlistRequest(
+        @NotBlank String phoneNumber
+) {
+    public static WaitlistRequest of(String phoneNumber) {
+        return new WaitlistRequest(phoneNumber);
+    }
+}
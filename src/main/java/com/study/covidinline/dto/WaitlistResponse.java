@@ -0,0 +1,19 @@
+package com.study.covidinline.dto;
+
+import com.study.covidinline.constant.WaitlistStatus;
+
+public record WaitlistResponse(
+        Long id,
+        Long eventId,
+        WaitlistStatus waitlistStatus,
+        Integer position
+) {
+    public static WaitlistResponse of(
+            Long id,
+            Long eventId,
+            WaitlistStatus waitlistStatus,
+            Integer position
+    ) {
+        return new WaitlistResponse(id, eventId, waitlistStatus, position);
+    }
+}
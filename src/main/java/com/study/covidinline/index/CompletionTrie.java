@@ -0,0 +1,265 @@
+package com.study.covidinline.index;
+
+import java.util.*;
+
+/**
+ * 점수 순 top-K 자동완성용 trie.
+ * 노드와 항목을 객체 대신 원시 배열(글자, 부모, 첫 자식, 다음 형제, 하위 최고 점수)로 들고 있어서 메모리가 작다.
+ * 각 노드는 자기 아래 항목 점수의 상한을 가지므로, 상한이 큰 노드부터 펼치는 best-first 탐색으로
+ * 앞부분이 같은 항목이 아무리 많아도 점수 높은 K 개만 보고 끝난다.
+ *
+ * 점수가 내려가도 상한은 그대로 두는데(여전히 상한이므로 결과는 맞다), 지운 항목이 많아지면 통째로 다시 만든다.
+ * 스레드 안전하지 않으므로 여러 스레드에서 쓰면 호출하는 쪽에서 잠금을 건다.
+ */
+public class CompletionTrie {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // 노드
+    private char[] labels = new char[INITIAL_CAPACITY];
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private int[] firstChildren = new int[INITIAL_CAPACITY];
+    private int[] nextSiblings = new int[INITIAL_CAPACITY];
+    private int[] firstSlots = new int[INITIAL_CAPACITY];
+    private long[] bounds = new long[INITIAL_CAPACITY];
+    private int nodeCount;
+
+    // 항목 자리(slot). key 하나가 여러 글자열로 들어가면 slot 도 여러 개다
+    private long[] slotKeys = new long[INITIAL_CAPACITY];
+    private long[] slotScores = new long[INITIAL_CAPACITY];
+    private int[] slotNodes = new int[INITIAL_CAPACITY];
+    private int[] nextSlots = new int[INITIAL_CAPACITY];
+    private int slotCount;
+    private int freeSlot = NONE;
+    private int freeSlotCount;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    public CompletionTrie() {
+        clear();
+    }
+
+    /**
+     * key 를 terms 로 넣는다. 이미 있으면 terms, score 를 바꾼다.
+     */
+    public void put(long key, long score, Collection<String> terms) {
+        List<String> distinct = terms.stream().filter(term -> term != null && !term.isEmpty()).distinct().toList();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.terms().equals(distinct)) {
+            updateScore(key, score);
+            return;
+        }
+
+        remove(key);
+        int[] slots = new int[distinct.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = insert(distinct.get(i), key, score);
+        }
+        entries.put(key, new Entry(distinct, slots));
+    }
+
+    public void updateScore(long key, long score) {
+        Entry entry = entries.get(key);
+        if (entry == null) { return; }
+
+        for (int slot : entry.slots()) {
+            slotScores[slot] = score;
+            raiseBound(slotNodes[slot], score);
+        }
+    }
+
+    public void remove(long key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) { return; }
+
+        for (int slot : entry.slots()) {
+            unlink(slot);
+        }
+        if (freeSlotCount > INITIAL_CAPACITY && freeSlotCount > slotCount / 2) {
+            compact();
+        }
+    }
+
+    public void clear() {
+        labels = new char[INITIAL_CAPACITY];
+        parents = new int[INITIAL_CAPACITY];
+        firstChildren = new int[INITIAL_CAPACITY];
+        nextSiblings = new int[INITIAL_CAPACITY];
+        firstSlots = new int[INITIAL_CAPACITY];
+        bounds = new long[INITIAL_CAPACITY];
+        nodeCount = 0;
+        slotCount = 0;
+        freeSlot = NONE;
+        freeSlotCount = 0;
+        entries.clear();
+        newNode(NONE, '\0');
+    }
+
+    public boolean contains(long key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * prefix 로 시작하는 항목 중 점수가 높은 순서로 최대 limit 개.
+     * 펼치는 노드 수를 maxVisits 로 제한해서, 최악의 경우에도 지연 시간이 정해진 범위 안에 있다.
+     */
+    public List<Suggestion> topK(String prefix, int limit, int maxVisits) {
+        int node = find(prefix);
+        if (node == NONE || limit <= 0) { return List.of(); }
+
+        // 노드는 하위 상한, 항목은 실제 점수로 같은 큐에 넣는다. 항목이 맨 위에 오면 남은 어떤 것보다도 점수가 높다
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(b[0], a[0]));
+        queue.add(new long[] {bounds[node], 0, node});
+
+        List<Suggestion> result = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        int visits = 0;
+        while (!queue.isEmpty() && result.size() < limit && visits < maxVisits) {
+            long[] item = queue.poll();
+            if (item[1] == 1) {
+                long key = slotKeys[(int) item[2]];
+                if (seen.add(key)) { result.add(new Suggestion(key, item[0])); }
+                continue;
+            }
+
+            visits++;
+            int current = (int) item[2];
+            for (int slot = firstSlots[current]; slot != NONE; slot = nextSlots[slot]) {
+                queue.add(new long[] {slotScores[slot], 1, slot});
+            }
+            for (int child = firstChildren[current]; child != NONE; child = nextSiblings[child]) {
+                if (bounds[child] != Long.MIN_VALUE) {
+                    queue.add(new long[] {bounds[child], 0, child});
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private int find(String prefix) {
+        int node = ROOT;
+        for (int i = 0; i < prefix.length() && node != NONE; i++) {
+            node = child(node, prefix.charAt(i));
+        }
+
+        return node;
+    }
+
+    private int insert(String term, long key, long score) {
+        int node = ROOT;
+        for (int i = 0; i < term.length(); i++) {
+            int child = child(node, term.charAt(i));
+            node = child == NONE ? newNode(node, term.charAt(i)) : child;
+        }
+
+        int slot = newSlot(key, score, node);
+        raiseBound(node, score);
+
+        return slot;
+    }
+
+    private int child(int node, char label) {
+        for (int child = firstChildren[node]; child != NONE; child = nextSiblings[child]) {
+            if (labels[child] == label) { return child; }
+        }
+
+        return NONE;
+    }
+
+    private int newNode(int parent, char label) {
+        if (nodeCount == labels.length) {
+            int capacity = labels.length * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            firstChildren = Arrays.copyOf(firstChildren, capacity);
+            nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+            firstSlots = Arrays.copyOf(firstSlots, capacity);
+            bounds = Arrays.copyOf(bounds, capacity);
+        }
+
+        int node = nodeCount++;
+        labels[node] = label;
+        parents[node] = parent;
+        firstChildren[node] = NONE;
+        firstSlots[node] = NONE;
+        bounds[node] = Long.MIN_VALUE;
+        if (parent != NONE) {
+            nextSiblings[node] = firstChildren[parent];
+            firstChildren[parent] = node;
+        } else {
+            nextSiblings[node] = NONE;
+        }
+
+        return node;
+    }
+
+    private int newSlot(long key, long score, int node) {
+        int slot;
+        if (freeSlot != NONE) {
+            slot = freeSlot;
+            freeSlot = nextSlots[slot];
+            freeSlotCount--;
+        } else {
+            if (slotCount == slotKeys.length) {
+                int capacity = slotKeys.length * 2;
+                slotKeys = Arrays.copyOf(slotKeys, capacity);
+                slotScores = Arrays.copyOf(slotScores, capacity);
+                slotNodes = Arrays.copyOf(slotNodes, capacity);
+                nextSlots = Arrays.copyOf(nextSlots, capacity);
+            }
+            slot = slotCount++;
+        }
+
+        slotKeys[slot] = key;
+        slotScores[slot] = score;
+        slotNodes[slot] = node;
+        nextSlots[slot] = firstSlots[node];
+        firstSlots[node] = slot;
+
+        return slot;
+    }
+
+    private void unlink(int slot) {
+        int node = slotNodes[slot];
+        if (firstSlots[node] == slot) {
+            firstSlots[node] = nextSlots[slot];
+        } else {
+            int previous = firstSlots[node];
+            while (nextSlots[previous] != slot) {
+                previous = nextSlots[previous];
+            }
+            nextSlots[previous] = nextSlots[slot];
+        }
+
+        nextSlots[slot] = freeSlot;
+        freeSlot = slot;
+        freeSlotCount++;
+    }
+
+    private void raiseBound(int node, long score) {
+        for (int current = node; current != NONE && bounds[current] < score; current = parents[current]) {
+            bounds[current] = score;
+        }
+    }
+
+    private void compact() {
+        Map<Long, Entry> live = new HashMap<>(entries);
+        Map<Long, Long> scores = new HashMap<>();
+        live.forEach((key, entry) -> scores.put(key, entry.slots().length == 0 ? 0 : slotScores[entry.slots()[0]]));
+
+        clear();
+        live.forEach((key, entry) -> put(key, scores.get(key), entry.terms()));
+    }
+
+
+    public record Suggestion(long key, long score) {}
+
+    private record Entry(List<String> terms, int[] slots) {}
+}
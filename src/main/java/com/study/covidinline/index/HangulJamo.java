@@ -0,0 +1,107 @@
+package com.study.covidinline.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한글 음절을 자모로 풀어 쓰는 도구.
+ * 입력 중인 글자("배드미" -> "배드민")나 초성("ㅂㄷㅁ")으로도 앞부분 일치 검색을 할 수 있도록,
+ * 겹자음/겹모음까지 낱자로 풀고(ㅘ -> ㅗㅏ, ㄺ -> ㄹㄱ) 공백은 없앤다. 한글이 아닌 글자는 소문자로 둔다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    /** 호환용 자모 중 겹자음/겹모음 (ㄳ ~ ㅢ) 을 낱자로 */
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulJamo() {}
+
+    /**
+     * "서울 배드민턴장" -> "ㅅㅓㅇㅜㄹㅂㅐㄷㅡㅁㅣㄴㅌㅓㄴㅈㅏㅇ"
+     */
+    public static String decompose(String text) {
+        if (text == null) { return ""; }
+
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isWhitespace(c)) { continue; }
+
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                builder.append(CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)))
+                        .append(JUNG[index % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT])
+                        .append(JONG[index % JONG_COUNT]);
+            } else {
+                int compound = COMPOUND_JAMO.indexOf(c);
+                builder.append(compound < 0 ? String.valueOf(c) : COMPOUND_JAMO_SPLIT[compound]);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * "서울 배드민턴장" -> "ㅅㅇㅂㄷㅁㅌㅈ". 한글이 아닌 글자는 그대로(소문자) 둔다.
+     */
+    public static String chosung(String text) {
+        if (text == null) { return ""; }
+
+        StringBuilder builder = new StringBuilder(text.length());
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isWhitespace(c)) { continue; }
+
+            builder.append(isSyllable(c) ? CHO.charAt((c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)) : c);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * 공백을 빼고 모두 초성으로 쓸 수 있는 자음(ㄱ ~ ㅎ)이면 초성 검색어로 본다.
+     */
+    public static boolean isChosungQuery(String query) {
+        if (query == null || query.isBlank()) { return false; }
+
+        return query.chars()
+                .filter(c -> !Character.isWhitespace(c))
+                .allMatch(c -> CHO.indexOf(c) >= 0);
+    }
+
+    /**
+     * 단어가 시작하는 위치마다 그 뒤 전체. ("서울 배드민턴장" -> "서울 배드민턴장", "배드민턴장")
+     */
+    public static List<String> wordStarts(String text) {
+        List<String> result = new ArrayList<>();
+        if (text == null || text.isBlank()) { return result; }
+
+        String[] words = text.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            result.add(String.join(" ", Arrays.copyOfRange(words, i, words.length)));
+        }
+
+        return result;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -0,0 +1,42 @@
+package com.study.covidinline.index;
+
+import java.util.*;
+
+/**
+ * 구간들 사이의 겹치는 쌍을 모두 찾는 sweep-line.
+ * 시작 순으로 훑으면서 아직 끝나지 않은 구간들만 들고 있으므로 O(n log n + 겹치는 쌍의 수)다.
+ * 빈 구간(끝이 시작보다 빠르거나 같은)은 건너뛴다.
+ */
+public final class IntervalSweep {
+
+    private IntervalSweep() {}
+
+    public static List<Overlap> overlaps(Collection<Interval> intervals) {
+        List<Interval> sorted = intervals.stream()
+                .filter(interval -> interval.end() > interval.start())
+                .sorted(Comparator.comparingLong(Interval::start).thenComparingLong(Interval::id))
+                .toList();
+
+        List<Overlap> overlaps = new ArrayList<>();
+        PriorityQueue<Interval> active = new PriorityQueue<>(Comparator.comparingLong(Interval::end));
+        for (Interval interval : sorted) {
+            while (!active.isEmpty() && active.peek().end() <= interval.start()) {
+                active.poll();
+            }
+            for (Interval other : active) {
+                overlaps.add(new Overlap(other.id(), interval.id(), interval.start(), Math.min(other.end(), interval.end())));
+            }
+            active.add(interval);
+        }
+
+        return overlaps;
+    }
+
+
+    public record Interval(long id, long start, long end) {}
+
+    /**
+     * 먼저 시작한 구간 id, 나중에 시작한 구간 id, 겹치는 구간 [start, end).
+     */
+    public record Overlap(long id, long otherId, long start, long end) {}
+}
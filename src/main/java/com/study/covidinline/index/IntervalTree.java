@@ -0,0 +1,185 @@
+package com.study.covidinline.index;
+
+import java.util.*;
+import java.util.function.LongConsumer;
+
+/**
+ * 구간 [start, end) 색인. 시작 시각 순으로 정렬한 treap 에 하위 트리의 가장 늦은 끝 시각(maxEnd)을 같이 둔다.
+ * 넣기/빼기는 O(log n), 겹치는 구간 찾기는 O(log n + 결과 수)다.
+ * 끝이 시작보다 빠르거나 같은 구간은 어떤 구간과도 겹치지 않는 빈 구간으로 본다.
+ *
+ * 스레드 안전하지 않으므로 여러 스레드에서 쓰면 호출하는 쪽에서 잠금을 건다.
+ */
+public class IntervalTree {
+
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    public void put(long id, long start, long end) {
+        remove(id);
+
+        Node node = new Node(id, start, end, random.nextInt());
+        nodes.put(id, node);
+        root = insert(root, node);
+    }
+
+    public void remove(long id) {
+        Node node = nodes.remove(id);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    public void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * [from, to) 와 겹치는 구간의 id 들을 시작 시각 순서로.
+     */
+    public List<Long> overlapping(long from, long to) {
+        List<Long> result = new ArrayList<>();
+        forEachOverlapping(root, from, to, result::add);
+
+        return result;
+    }
+
+    /**
+     * 시각 at 에 진행 중인(start <= at < end) 구간의 id 들.
+     */
+    public List<Long> containing(long at) {
+        return overlapping(at, at + 1);
+    }
+
+    /**
+     * excludeId 를 빼고 [from, to) 와 겹치는 구간이 하나라도 있으면 그 id. 수정할 때 자기 자신은 빼고 보기 위함이다.
+     */
+    public OptionalLong findAnyOverlap(long from, long to, long excludeId) {
+        return findAnyOverlap(root, from, to, excludeId);
+    }
+
+    private void forEachOverlapping(Node node, long from, long to, LongConsumer consumer) {
+        if (node == null || node.maxEnd <= from || from >= to) { return; }
+
+        forEachOverlapping(node.left, from, to, consumer);
+        if (node.start >= to) { return; }    // 오른쪽은 모두 이보다 늦게 시작한다
+
+        if (node.end > from && node.end > node.start) {
+            consumer.accept(node.id);
+        }
+        forEachOverlapping(node.right, from, to, consumer);
+    }
+
+    private OptionalLong findAnyOverlap(Node node, long from, long to, long excludeId) {
+        if (node == null || node.maxEnd <= from || from >= to) { return OptionalLong.empty(); }
+
+        OptionalLong left = findAnyOverlap(node.left, from, to, excludeId);
+        if (left.isPresent()) { return left; }
+        if (node.start >= to) { return OptionalLong.empty(); }
+
+        if (node.id != excludeId && node.end > from && node.end > node.start) {
+            return OptionalLong.of(node.id);
+        }
+
+        return findAnyOverlap(node.right, from, to, excludeId);
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) { return inserted; }
+
+        if (inserted.compareTo(node) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) { node = rotateRight(node); }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) { node = rotateLeft(node); }
+        }
+        node.update();
+
+        return node;
+    }
+
+    private Node delete(Node node, Node deleted) {
+        if (node == null) { return null; }
+
+        int compared = deleted.compareTo(node);
+        if (compared < 0) {
+            node.left = delete(node.left, deleted);
+        } else if (compared > 0) {
+            node.right = delete(node.right, deleted);
+        } else {
+            if (node.left == null) { return node.right; }
+            if (node.right == null) { return node.left; }
+
+            // 우선순위가 높은 자식을 위로 올려서 지울 노드를 아래로 내린다
+            if (node.left.priority > node.right.priority) {
+                node = rotateRight(node);
+                node.right = delete(node.right, deleted);
+            } else {
+                node = rotateLeft(node);
+                node.left = delete(node.left, deleted);
+            }
+        }
+        node.update();
+
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+
+        return left;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+
+        return right;
+    }
+
+
+    private static final class Node implements Comparable<Node> {
+
+        private final long id;
+        private final long start;
+        private final long end;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(long id, long start, long end, int priority) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        private void update() {
+            maxEnd = end;
+            if (left != null) { maxEnd = Math.max(maxEnd, left.maxEnd); }
+            if (right != null) { maxEnd = Math.max(maxEnd, right.maxEnd); }
+        }
+
+        @Override
+        public int compareTo(Node other) {
+            int compared = Long.compare(start, other.start);
+            return compared != 0 ? compared : Long.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.study.covidinline.index;
+
+import java.util.*;
+
+/**
+ * 한글 자모/초성 앞부분 일치 검색 색인.
+ * 각 글의 단어 시작 위치마다 그 뒤를 자모로 푼 key 와 초성 key 를 만들어서, 검색어로 시작하는 key 를 찾는다.
+ * ("배드미" 나 "ㅂㄷㅁㅌ" 으로 "서울 배드민턴장" 을 찾는다)
+ *
+ * 본체는 정렬된 원시 배열({@link PrefixArray})이고, 그 뒤의 변경은 작은 delta 에 모아 두었다가
+ * 일정 개수가 넘으면 본체를 다시 만든다. 읽기는 불변 상태를 통째로 바꿔 끼우는 방식이라 잠금이 없다.
+ */
+public class JamoIndex {
+
+    private static final int DEFAULT_MAX_PENDING_CHANGES = 512;
+
+    private final int maxPendingChanges;
+    private final Map<Long, List<String>> texts = new HashMap<>();
+    private volatile State state = State.EMPTY;
+
+    public JamoIndex() {
+        this(DEFAULT_MAX_PENDING_CHANGES);
+    }
+
+    public JamoIndex(int maxPendingChanges) {
+        this.maxPendingChanges = Math.max(1, maxPendingChanges);
+    }
+
+    /**
+     * id 의 글을 넣거나 바꾼다. 한 id 에 여러 글(이름, 주소 등)을 줄 수 있다.
+     */
+    public synchronized void put(long id, String... values) {
+        apply(Map.of(id, Arrays.asList(values)), List.of());
+    }
+
+    public synchronized void remove(long id) {
+        apply(Map.of(), List.of(id));
+    }
+
+    /**
+     * 여러 id 의 글을 한 번에 넣거나 바꾼다. 기존 내용은 그대로 둔다.
+     * 건마다 {@link #put} 을 부르면 쓰기마다 delta 를 통째로 복사하므로, 대량 반영은 이쪽으로 한다.
+     */
+    public synchronized void putAll(Map<Long, List<String>> values) {
+        apply(values, List.of());
+    }
+
+    public synchronized void removeAll(Collection<Long> ids) {
+        apply(Map.of(), ids);
+    }
+
+    /**
+     * 전체를 한 번에 채운다. 기존 내용은 버린다.
+     */
+    public synchronized void replaceAll(Map<Long, List<String>> values) {
+        texts.clear();
+        values.forEach((id, list) -> texts.put(id, list.stream().filter(Objects::nonNull).toList()));
+        rebuild();
+    }
+
+    /**
+     * 검색어로 시작하는 글(단어 단위)을 가진 id 들을 최대 limit 개까지.
+     * 검색어가 초성으로만 되어 있으면 초성으로, 아니면 자모로 풀어서 비교한다.
+     */
+    public List<Long> search(String query, int limit) {
+        State current = state;
+        boolean chosung = HangulJamo.isChosungQuery(query);
+        String prefix = chosung ? HangulJamo.chosung(query) : HangulJamo.decompose(query);
+        if (prefix.isEmpty() || limit <= 0) { return List.of(); }
+
+        Set<Long> result = new LinkedHashSet<>();
+        (chosung ? current.chosung() : current.jamo()).forEachPrefixed(prefix, id -> {
+            if (!current.changed().contains(id)) { result.add(id); }
+            return result.size() < limit;
+        });
+        for (Map.Entry<Long, Keys> entry : current.delta().entrySet()) {
+            if (result.size() >= limit) { break; }
+
+            String[] keys = chosung ? entry.getValue().chosung() : entry.getValue().jamo();
+            if (Arrays.stream(keys).anyMatch(key -> key.startsWith(prefix))) {
+                result.add(entry.getKey());
+            }
+        }
+
+        return List.copyOf(result);
+    }
+
+    public synchronized int size() {
+        return texts.size();
+    }
+
+    /**
+     * 바뀐 것만 골라 delta 와 changed 를 한 번씩만 복사해서 새 상태로 바꾼다.
+     * 밀린 변경이 많아지면 복사하지 않고 본체를 다시 만든다.
+     */
+    private void apply(Map<Long, List<String>> puts, Collection<Long> removes) {
+        Map<Long, Keys> added = new HashMap<>();
+        puts.forEach((id, values) -> {
+            List<String> list = values.stream().filter(Objects::nonNull).toList();
+            if (!list.equals(texts.get(id))) {
+                texts.put(id, list);
+                added.put(id, Keys.of(list));
+            }
+        });
+        Set<Long> removed = new HashSet<>();
+        removes.forEach(id -> {
+            if (texts.remove(id) != null) {
+                removed.add(id);
+                added.remove(id);
+            }
+        });
+        if (added.isEmpty() && removed.isEmpty()) { return; }
+
+        Set<Long> changed = new HashSet<>(state.changed());
+        changed.addAll(added.keySet());
+        changed.addAll(removed);
+        if (changed.size() > maxPendingChanges) {
+            rebuild();
+            return;
+        }
+
+        Map<Long, Keys> delta = new HashMap<>(state.delta());
+        delta.keySet().removeAll(removed);
+        delta.putAll(added);
+        state = new State(state.jamo(), state.chosung(), Set.copyOf(changed), Map.copyOf(delta));
+    }
+
+    private void rebuild() {
+        List<String> jamoKeys = new ArrayList<>();
+        List<Long> jamoIds = new ArrayList<>();
+        List<String> chosungKeys = new ArrayList<>();
+        List<Long> chosungIds = new ArrayList<>();
+
+        texts.forEach((id, list) -> {
+            Keys keys = Keys.of(list);
+            for (String key : keys.jamo()) {
+                jamoKeys.add(key);
+                jamoIds.add(id);
+            }
+            for (String key : keys.chosung()) {
+                chosungKeys.add(key);
+                chosungIds.add(id);
+            }
+        });
+
+        state = new State(
+                PrefixArray.build(jamoKeys, jamoIds),
+                PrefixArray.build(chosungKeys, chosungIds),
+                Set.of(),
+                Map.of()
+        );
+    }
+
+
+    /**
+     * @param changed 본체를 만든 뒤에 바뀌거나 지워진 id. 본체의 결과에서는 빼고 delta 에서 찾는다.
+     */
+    private record State(PrefixArray jamo, PrefixArray chosung, Set<Long> changed, Map<Long, Keys> delta) {
+        static final State EMPTY = new State(PrefixArray.EMPTY, PrefixArray.EMPTY, Set.of(), Map.of());
+    }
+
+    /**
+     * 글 하나에서 단어가 시작하는 위치마다 끝까지를 key 로 만든다. ("서울 배드민턴장" -> "서울배드민턴장", "배드민턴장")
+     */
+    private record Keys(String[] jamo, String[] chosung) {
+        static Keys of(List<String> texts) {
+            Set<String> jamo = new LinkedHashSet<>();
+            Set<String> chosung = new LinkedHashSet<>();
+            for (String text : texts) {
+                for (String suffix : HangulJamo.wordStarts(text)) {
+                    jamo.add(HangulJamo.decompose(suffix));
+                    chosung.add(HangulJamo.chosung(suffix));
+                }
+            }
+
+            return new Keys(jamo.toArray(String[]::new), chosung.toArray(String[]::new));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.study.covidinline.index;
+
+import java.util.*;
+
+/**
+ * 부분 문자열 검색용 n-gram 역색인.
+ * 1~3 글자 조각마다 그 조각이 들어 있는 id 목록(posting)을 두고, 검색어의 조각별 목록을 교집합해서 후보를 찾는다.
+ * 검색 비용은 전체 건수가 아니라 가장 짧은 posting 길이에 비례한다.
+ * 대소문자는 구분하지 않는다. (DB 의 containsIgnoreCase 와 같은 결과)
+ *
+ * 스레드 안전하지 않으므로 여러 스레드에서 쓰면 호출하는 쪽에서 잠금을 건다.
+ */
+public class NGramIndex {
+
+    static final int MAX_GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, String> texts = new HashMap<>();
+
+    public void put(Long id, String text) {
+        if (id == null) { return; }
+
+        String normalized = normalize(text);
+        String previous = texts.get(id);
+        if (normalized.equals(previous)) { return; }
+
+        remove(id);
+        texts.put(id, normalized);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    public void remove(Long id) {
+        String previous = texts.remove(id);
+        if (previous == null) { return; }
+
+        for (String gram : grams(previous)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) { postings.remove(gram); }
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+        texts.clear();
+    }
+
+    /**
+     * 검색어를 부분 문자열로 포함하는 id 들. 검색어가 비어 있으면 전체.
+     */
+    public Set<Long> search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) { return new HashSet<>(texts.keySet()); }
+
+        // 3 글자 이하는 조각 그대로 찾으면 되고, 그보다 길면 조각들을 교집합한 뒤 실제로 포함하는지 확인한다
+        if (normalized.length() <= MAX_GRAM_LENGTH) {
+            return new HashSet<>(postings.getOrDefault(normalized, Set.of()));
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (int i = 0; i + MAX_GRAM_LENGTH <= normalized.length(); i++) {
+            Set<Long> ids = postings.get(normalized.substring(i, i + MAX_GRAM_LENGTH));
+            if (ids == null) { return new HashSet<>(); }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>();
+        for (Long id : lists.get(0)) {
+            if (lists.stream().allMatch(ids -> ids.contains(id)) && texts.get(id).contains(normalized)) {
+                result.add(id);
+            }
+        }
+
+        return result;
+    }
+
+    public int size() {
+        return texts.size();
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
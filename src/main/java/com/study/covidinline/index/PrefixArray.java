@@ -0,0 +1,99 @@
+package com.study.covidinline.index;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * 정렬된 문자열 key 배열. 앞부분 일치하는 key 범위를 이진 탐색으로 찾는다.
+ * key 들은 char[] 하나에 이어 붙이고 시작 위치만 int[] 로 두어서, String 객체 없이 원시 배열 세 개로만 들고 있는다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 잠금 없이 읽어도 된다.
+ */
+final class PrefixArray {
+
+    static final PrefixArray EMPTY = new PrefixArray(new char[0], new int[] {0}, new long[0]);
+
+    private final char[] chars;
+    private final int[] offsets;
+    private final long[] ids;
+
+    private PrefixArray(char[] chars, int[] offsets, long[] ids) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.ids = ids;
+    }
+
+    static PrefixArray build(List<String> keys, List<Long> ids) {
+        Integer[] order = new Integer[keys.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> keys.get(a).compareTo(keys.get(b)));
+
+        int length = keys.stream().mapToInt(String::length).sum();
+        char[] chars = new char[length];
+        int[] offsets = new int[keys.size() + 1];
+        long[] sortedIds = new long[keys.size()];
+
+        int position = 0;
+        for (int i = 0; i < order.length; i++) {
+            String key = keys.get(order[i]);
+            key.getChars(0, key.length(), chars, position);
+            offsets[i] = position;
+            sortedIds[i] = ids.get(order[i]);
+            position += key.length();
+        }
+        offsets[order.length] = position;
+
+        return new PrefixArray(chars, offsets, sortedIds);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * prefix 로 시작하는 key 의 id 들을 key 순서대로 넘긴다. consumer 가 false 를 돌려주면 멈춘다.
+     */
+    void forEachPrefixed(String prefix, LongPredicate consumer) {
+        for (int i = lowerBound(prefix); i < ids.length && startsWith(i, prefix); i++) {
+            if (!consumer.test(ids[i])) { return; }
+        }
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private int compare(int index, String other) {
+        int begin = offsets[index];
+        int length = offsets[index + 1] - begin;
+        int limit = Math.min(length, other.length());
+        for (int i = 0; i < limit; i++) {
+            int diff = chars[begin + i] - other.charAt(i);
+            if (diff != 0) { return diff; }
+        }
+
+        return length - other.length();
+    }
+
+    private boolean startsWith(int index, String prefix) {
+        int begin = offsets[index];
+        if (offsets[index + 1] - begin < prefix.length()) { return false; }
+
+        for (int i = 0; i < prefix.length(); i++) {
+            if (chars[begin + i] != prefix.charAt(i)) { return false; }
+        }
+
+        return true;
+    }
+}
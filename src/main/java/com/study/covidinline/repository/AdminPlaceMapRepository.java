@@ -2,6 +2,22 @@ package com.study.covidinline.repository;
 
 import com.study.covidinline.domain.AdminPlaceMap;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.util.List;
 
 public interface AdminPlaceMapRepository extends JpaRepository<AdminPlaceMap, Long> {
+
+    /**
+     * 관리자-장소 매핑은 거의 바뀌지 않으므로 쿼리 결과(id 목록)까지 캐시한다.
+     * 매핑 테이블이 바뀌면 Hibernate 가 캐시된 결과를 알아서 버린다.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<AdminPlaceMap> findAllByAdminId(@Param("adminId") Long adminId);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<AdminPlaceMap> findAllByPlaceId(@Param("placeId") Long placeId);
+
 }
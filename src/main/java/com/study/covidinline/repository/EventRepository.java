@@ -2,13 +2,24 @@ package com.study.covidinline.repository;
 
 import com.querydsl.core.types.dsl.ComparableExpression;
 import com.querydsl.core.types.dsl.StringExpression;
+import com.study.covidinline.constant.EventStatus;
 import com.study.covidinline.domain.Event;
 import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.dto.OccupancyResponse;
 import com.study.covidinline.repository.querydsl.EventRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface EventRepository extends
         JpaRepository<Event, Long>,
@@ -19,11 +30,80 @@ public interface EventRepository extends
     @Override
     default void customize(QuerydslBindings bindings, QEvent root) {
         bindings.excludeUnlistedProperties(true);
-        bindings.including(root.place.placeName, root.eventName, root.eventStatus, root.eventStartDatetime, root.eventEndDatetime);
+        bindings.including(root.place.id, root.place.placeName, root.eventName, root.eventStatus, root.eventStartDatetime, root.eventEndDatetime);
         bindings.bind(root.place.placeName).first(StringExpression::containsIgnoreCase);
         bindings.bind(root.eventName).first(StringExpression::containsIgnoreCase);
         bindings.bind(root.eventStartDatetime).first(ComparableExpression::goe);
         bindings.bind(root.eventEndDatetime).first(ComparableExpression::loe);
     }
 
+    @RestResource(exported = false)
+    List<Event> findAllByPlaceId(Long placeId);
+
+    /**
+     * 인원 스트림의 첫 스냅샷용. 엔티티 대신 인원 정보만 읽는다.
+     */
+    @RestResource(exported = false)
+    @Query("select new com.study.covidinline.dto.OccupancyResponse(e.id, e.place.id, e.currentNumberOfPeople, e.capacity) " +
+            "from Event e where e.id = :eventId")
+    Optional<OccupancyResponse> findOccupancyById(@Param("eventId") Long eventId);
+
+    @RestResource(exported = false)
+    @Query("select new com.study.covidinline.dto.OccupancyResponse(e.id, e.place.id, e.currentNumberOfPeople, e.capacity) " +
+            "from Event e where e.place.id = :placeId")
+    List<OccupancyResponse> findOccupanciesByPlaceId(@Param("placeId") Long placeId);
+
+    /**
+     * 부분 수정 전에 엔티티 대신 version 만 읽는다.
+     */
+    @RestResource(exported = false)
+    @Query("select e.version from Event e where e.id = :eventId")
+    Optional<Long> findVersionById(@Param("eventId") Long eventId);
+
+    /**
+     * 정원에 여유가 있는 열린 이벤트일 때만 현재 인원을 1 늘린다.
+     * 조건 검사와 증가가 한 문장에서 일어나므로 동시에 요청해도 정원을 넘지 않는다.
+     *
+     * @return 변경된 row 수 (1 이면 입장 성공)
+     */
+    @RestResource(exported = false)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Event e set e.currentNumberOfPeople = e.currentNumberOfPeople + 1 " +
+            "where e.id = :eventId " +
+            "and e.currentNumberOfPeople < e.capacity " +
+            "and e.eventStatus = com.study.covidinline.constant.EventStatus.OPENED")
+    int checkIn(@Param("eventId") Long eventId);
+
+    /**
+     * 현재 인원이 있을 때만 1 줄인다.
+     *
+     * @return 변경된 row 수 (1 이면 퇴장 성공)
+     */
+    @RestResource(exported = false)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Event e set e.currentNumberOfPeople = e.currentNumberOfPeople - 1 " +
+            "where e.id = :eventId " +
+            "and e.currentNumberOfPeople > 0")
+    int checkOut(@Param("eventId") Long eventId);
+
+    /**
+     * ids 중 상태가 fromStatuses 인 이벤트만 toStatus 로 바꾼다. (시작/종료 시각에 따른 상태 자동 전환)
+     * 그 사이 관리자가 상태를 바꾼 이벤트는 건드리지 않고, version 을 올려서 동시에 수정 중인 요청이 다시 읽게 한다.
+     *
+     * @return 변경된 row 수
+     */
+    @RestResource(exported = false)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Event e set e.eventStatus = :toStatus, e.version = e.version + 1 " +
+            "where e.id in :ids " +
+            "and e.eventStatus in :fromStatuses")
+    int updateEventStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("fromStatuses") Collection<EventStatus> fromStatuses,
+            @Param("toStatus") EventStatus toStatus
+    );
+
 }
@@ -0,0 +1,12 @@
+package com.study.covidinline.repository;
+
+import com.study.covidinline.domain.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+/**
+ * 일괄 등록 진행 지점은 /api/admin/imports API 로만 다루므로 Spring Data REST 로는 노출하지 않는다.
+ */
+@RepositoryRestResource(exported = false)
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
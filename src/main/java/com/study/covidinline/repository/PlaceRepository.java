@@ -3,13 +3,24 @@ package com.study.covidinline.repository;
 import com.querydsl.core.types.dsl.StringExpression;
 import com.study.covidinline.domain.Place;
 import com.study.covidinline.domain.QPlace;
+import com.study.covidinline.repository.querydsl.PlaceRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface PlaceRepository extends
         JpaRepository<Place, Long>,
+        PlaceRepositoryCustom,
         QuerydslPredicateExecutor<Place>,
         QuerydslBinderCustomizer<QPlace> {
 
@@ -21,5 +32,25 @@ public interface PlaceRepository extends
         bindings.bind(root.address).first(StringExpression::containsIgnoreCase);
         bindings.bind(root.phoneNumber).first(StringExpression::containsIgnoreCase);
     }
-}
 
+    /**
+     * 부분 수정 전에 엔티티 대신 version 만 읽는다.
+     */
+    @RestResource(exported = false)
+    @Query("select p.version from Place p where p.id = :placeId")
+    Optional<Long> findVersionById(@Param("placeId") Long placeId);
+
+    /**
+     * 같은 장소의 이벤트 시간 겹침 검사와 저장을 직렬화하려고 장소 행을 잠근다. (select ... for update)
+     * 여러 장소를 잠그는 요청끼리 교착되지 않도록 id 순서로 잠근다.
+     */
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Place p where p.id in :placeIds order by p.id")
+    List<Place> findAllForUpdate(@Param("placeIds") Collection<Long> placeIds);
+
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Place p where p.id = (select e.place.id from Event e where e.id = :eventId)")
+    Optional<Place> findForUpdateByEventId(@Param("eventId") Long eventId);
+}
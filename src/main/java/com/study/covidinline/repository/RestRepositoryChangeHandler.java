@@ -0,0 +1,95 @@
+package com.study.covidinline.repository;
+
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.PlaceChange;
+import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.service.EventIntervalIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.rest.core.annotation.*;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Data REST(/api/events, /api/places)를 통한 변경은 서비스를 거치지 않으므로,
+ * 서비스와 같은 변경 알림을 여기서 발행해서 캐시 등이 함께 갱신되도록 한다.
+ * 같은 장소에서 시간이 겹치는 이벤트를 막는 검사도 서비스와 같이 한다.
+ * 단, 여기서는 검사가 저장 트랜잭션 밖에서 돌고 장소 행을 잠그지 않으므로,
+ * 이 경로로 같은 장소에 동시에 들어온 요청끼리는 겹침을 막지 못한다. 동시 요청이 있는 곳은 서비스 API 를 쓴다.
+ */
+@RequiredArgsConstructor
+@RepositoryEventHandler
+@Component
+public class RestRepositoryChangeHandler {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventIntervalIndex eventIntervalIndex;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+
+    /**
+     * 현재 인원은 요청 본문에서 읽지 않으므로(읽기 전용) 새 이벤트는 0명에서 시작한다.
+     */
+    @HandleBeforeCreate
+    public void beforeEventCreate(Event event) {
+        event.setCurrentNumberOfPeople(0);
+        checkTimeConflict(event);
+    }
+
+    @HandleBeforeSave
+    public void beforeEventSave(Event event) {
+        checkTimeConflict(event);
+    }
+
+    @HandleBeforeDelete
+    public void beforeEventDelete(Event event) {
+        waitlistEntryRepository.deleteAllByEventId(event.getId());
+    }
+
+    @HandleAfterCreate
+    public void afterEventCreate(Event event) {
+        eventPublisher.publishEvent(EventChange.of(ChangeType.CREATED, event.getId(), event));
+    }
+
+    @HandleAfterSave
+    public void afterEventSave(Event event) {
+        eventPublisher.publishEvent(EventChange.of(ChangeType.MODIFIED, event.getId(), event));
+    }
+
+    @HandleAfterDelete
+    public void afterEventDelete(Event event) {
+        eventPublisher.publishEvent(EventChange.of(ChangeType.REMOVED, event.getId(), null));
+    }
+
+    @HandleAfterCreate
+    public void afterPlaceCreate(Place place) {
+        eventPublisher.publishEvent(PlaceChange.of(ChangeType.CREATED, place.getId(), place));
+    }
+
+    @HandleAfterSave
+    public void afterPlaceSave(Place place) {
+        eventPublisher.publishEvent(PlaceChange.of(ChangeType.MODIFIED, place.getId(), place));
+    }
+
+    @HandleAfterDelete
+    public void afterPlaceDelete(Place place) {
+        eventPublisher.publishEvent(PlaceChange.of(ChangeType.REMOVED, place.getId(), null));
+    }
+
+    private void checkTimeConflict(Event event) {
+        eventIntervalIndex.findConflict(
+                event.getId(),
+                event.getPlace() == null ? null : event.getPlace().getId(),
+                event.getEventStatus(),
+                event.getEventStartDatetime(),
+                event.getEventEndDatetime()
+        ).ifPresent(conflictingEventId -> {
+            throw new GeneralException(
+                    ErrorCode.EVENT_TIME_CONFLICT,
+                    ErrorCode.EVENT_TIME_CONFLICT.getMessage() + " - eventId: " + conflictingEventId
+            );
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package com.study.covidinline.repository;
+
+import com.study.covidinline.constant.WaitlistStatus;
+import com.study.covidinline.domain.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 대기열은 /api/events/{eventId}/waitlist API 로만 다루므로 Spring Data REST 로는 노출하지 않는다.
+ */
+@RepositoryRestResource(exported = false)
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    List<WaitlistEntry> findAllByWaitlistStatusOrderByIdAsc(WaitlistStatus waitlistStatus);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update WaitlistEntry w set w.waitlistStatus = :waitlistStatus where w.id = :entryId")
+    int updateWaitlistStatus(@Param("entryId") Long entryId, @Param("waitlistStatus") WaitlistStatus waitlistStatus);
+
+    /**
+     * 대기 정보 행이 이벤트를 참조하므로, 이벤트를 지우기 전에 부른다.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from WaitlistEntry w where w.event.id = :eventId")
+    int deleteAllByEventId(@Param("eventId") Long eventId);
+
+}
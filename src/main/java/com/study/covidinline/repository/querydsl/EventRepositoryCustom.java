@@ -1,14 +1,69 @@
 package com.study.covidinline.repository.querydsl;
 
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.types.Predicate;
 import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.EventViewCursor;
 import com.study.covidinline.dto.EventViewResponse;
+import com.study.covidinline.dto.EventViewSliceResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface EventRepositoryCustom {
+    /**
+     * predicate 로 이벤트를 조회하면서 장소를 fetch join 으로 함께 읽는다. (이벤트 수와 상관없이 쿼리 1번)
+     */
+    List<Event> findAllWithPlace(Predicate predicate);
+
+    /**
+     * predicate 로 이벤트를 조회해서 엔티티를 거치지 않고 바로 {@link EventDTO} 로 읽는다.
+     * 영속성 컨텍스트에 올라가지 않으므로 dirty checking, 컬렉션 초기화 비용이 없다. (목록 조회 전용)
+     */
+    List<EventDTO> findEventDTOs(Predicate predicate);
+
+    /**
+     * 새 이벤트들을 한 트랜잭션에서 JDBC batch insert 로 저장한다. (hibernate.jdbc.batch_size 단위)
+     * batch 마다 영속성 컨텍스트를 비우므로, 돌려받은 엔티티는 id 가 채워진 준영속 상태다.
+     */
+    List<Event> insertAll(List<Event> events);
+
+    /**
+     * dto 에서 null 이 아닌 값만 UPDATE 문 하나로 바로 반영한다. (엔티티를 읽지 않음, 버전은 1 올림)
+     * version 이 그대로일 때만 바꾸고, 그 사이 다른 요청이 고쳤으면 {@link org.springframework.orm.ObjectOptimisticLockingFailureException} 을 던진다.
+     * 현재 인원은 입장/퇴장 처리에서만 바꾸므로 건드리지 않는다. 바꿀 값이 없으면 쿼리를 보내지 않고 0 을 돌려준다.
+     *
+     * @param version 수정 전에 읽은 version
+     * @return 바뀐 row 수
+     */
+    long updatePartially(Long eventId, Long version, EventDTO dto);
+
+    /**
+     * 여러 이벤트에 {@link #updatePartially(Long, Long, EventDTO)} 와 같은 값을 한 트랜잭션에서 set 단위 UPDATE 로 반영한다.
+     * 관리자 일괄 변경이라 version 은 비교하지 않고 올리기만 한다. id 가 많으면 IN 절을 나눠서 보낸다.
+     *
+     * @return 바뀐 row 수
+     */
+    long updateAllPartially(Collection<Long> eventIds, EventDTO dto);
+
+    /**
+     * 이벤트와 그 이벤트의 대기열을 한 트랜잭션에서 set 단위 DELETE 로 지운다.
+     * 외래 키 순서(waitlist_entry → event)대로 지운다.
+     *
+     * @return 지운 이벤트 수 (없는 이벤트면 0)
+     */
+    long deleteWithDependents(Long eventId);
+
+    /**
+     * 검색 조건에 맞는 이벤트 뷰 페이지. eventIds 가 있으면 이름 조건(placeName, eventName) 대신 그 id 들 중에서 찾는다.
+     */
     Page<EventViewResponse> findEventViewPageBySearchParams(
+            Collection<Long> eventIds,
             String placeName,
             String eventName,
             EventStatus eventStatus,
@@ -16,4 +71,36 @@ public interface EventRepositoryCustom {
             LocalDateTime eventEndDatetime,
             Pageable pageable
     );
+
+    /**
+     * 검색 조건에 맞는 이벤트 뷰를 (eventStartDatetime, id) 순서로 forward-only 커서에서 한 건씩 읽는다.
+     * 트랜잭션 안에서 쓰고, 다 읽으면 반드시 close 해야 한다.
+     */
+    CloseableIterator<EventViewResponse> iterateEventViewsBySearchParams(
+            String placeName,
+            String eventName,
+            EventStatus eventStatus,
+            LocalDateTime eventStartDatetime,
+            LocalDateTime eventEndDatetime,
+            int fetchSize
+    );
+
+    /**
+     * (eventStartDatetime, id) 순서의 keyset 페이징. cursor 가 null 이면 첫 페이지.
+     */
+    EventViewSliceResponse findEventViewSliceBySearchParams(
+            Collection<Long> eventIds,
+            String placeName,
+            String eventName,
+            EventStatus eventStatus,
+            LocalDateTime eventStartDatetime,
+            LocalDateTime eventEndDatetime,
+            EventViewCursor cursor,
+            int size
+    );
+
+    /**
+     * predicate 에 맞는 이벤트 뷰의 (eventStartDatetime, id) 순서 keyset 페이징. cursor 가 null 이면 첫 페이지.
+     */
+    EventViewSliceResponse findEventViewSlice(Predicate predicate, EventViewCursor cursor, int size);
 }
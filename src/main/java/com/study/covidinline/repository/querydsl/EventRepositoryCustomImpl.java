@@ -1,30 +1,159 @@
 package com.study.covidinline.repository.querydsl;
 
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.dml.UpdateClause;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.AbstractJPAQuery;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import com.study.covidinline.constant.ErrorCode;
 import com.study.covidinline.constant.EventStatus;
 import com.study.covidinline.domain.Event;
 import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.domain.QWaitlistEntry;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.EventViewCursor;
 import com.study.covidinline.dto.EventViewResponse;
+import com.study.covidinline.dto.EventViewSliceResponse;
 import com.study.covidinline.exception.GeneralException;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public class EventRepositoryCustomImpl extends QuerydslRepositorySupport implements EventRepositoryCustom{
 
-    public EventRepositoryCustomImpl() {
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    private final int batchSize;
+
+    public EventRepositoryCustomImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
         super(Event.class);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public List<Event> findAllWithPlace(Predicate predicate) {
+        QEvent event = QEvent.event;
+
+        return from(event)
+                .innerJoin(event.place).fetchJoin()
+                .where(predicate)
+                .fetch();
+    }
+
+    @Override
+    public List<EventDTO> findEventDTOs(Predicate predicate) {
+        QEvent event = QEvent.event;
+
+        return from(event)
+                .select(Projections.constructor(
+                        EventDTO.class,
+                        event.id,
+                        PlaceRepositoryCustomImpl.placeDTO(event.place),
+                        event.eventName,
+                        event.eventStatus,
+                        event.eventStartDatetime,
+                        event.eventEndDatetime,
+                        event.currentNumberOfPeople,
+                        event.capacity,
+                        event.memo,
+                        event.createdAt,
+                        event.modifiedAt
+                ))
+                .where(predicate)
+                .fetch();
+    }
+
+    @Transactional
+    @Override
+    public List<Event> insertAll(List<Event> events) {
+        EntityManager entityManager = Optional.ofNullable(getEntityManager())
+                .orElseThrow(() -> new GeneralException(ErrorCode.DATA_ACCESS_ERROR, "Spring Data JPA 로부터 EntityManager 를 못 가져옴"));
+
+        for (int i = 0; i < events.size(); i++) {
+            entityManager.persist(events.get(i));
+            if ((i + 1) % batchSize == 0) {
+                // batch 크기만큼 모이면 내보내고, 영속성 컨텍스트가 계속 커지지 않게 비운다
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        return events;
+    }
+
+    @Transactional
+    @Override
+    public long updatePartially(Long eventId, Long version, EventDTO dto) {
+        QEvent event = QEvent.event;
+
+        Optional<UpdateClause<JPAUpdateClause>> update = setChanges(dto);
+        if (update.isEmpty()) { return 0; }
+
+        long updated = update.get()
+                .where(event.id.eq(eventId), event.version.eq(version))
+                .execute();
+        if (updated == 0) {
+            // version 을 읽은 뒤 다른 요청이 먼저 고쳤거나 지웠다
+            throw new ObjectOptimisticLockingFailureException(Event.class, eventId);
+        }
+        // 벌크 UPDATE 는 영속성 컨텍스트를 거치지 않으므로, 이 이벤트가 올라와 있었다면 그것만 떼어 낸다
+        getEntityManager().detach(getEntityManager().getReference(Event.class, eventId));
+
+        return updated;
+    }
+
+    @Transactional
+    @Override
+    public long updateAllPartially(Collection<Long> eventIds, EventDTO dto) {
+        List<Long> ids = List.copyOf(eventIds);
+        long updated = 0;
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size()));
+            updated += setChanges(dto)
+                    .map(update -> update.where(QEvent.event.id.in(chunk)).execute())
+                    .orElse(0L);
+        }
+        getEntityManager().clear();
+
+        return updated;
+    }
+
+    @Transactional
+    @Override
+    public long deleteWithDependents(Long eventId) {
+        QEvent event = QEvent.event;
+        QWaitlistEntry waitlistEntry = QWaitlistEntry.waitlistEntry;
+
+        delete(waitlistEntry)
+                .where(waitlistEntry.event.id.eq(eventId))
+                .execute();
+        long deleted = delete(event)
+                .where(event.id.eq(eventId))
+                .execute();
+        // 벌크 DELETE 는 영속성 컨텍스트를 거치지 않으므로, 이미 올라와 있던 엔티티를 버린다 (2차 캐시는 hibernate 가 비움)
+        getEntityManager().clear();
+
+        return deleted;
     }
 
     @Override
     public Page<EventViewResponse> findEventViewPageBySearchParams(
+            Collection<Long> eventIds,
             String placeName,
             String eventName,
             EventStatus eventStatus,
@@ -34,7 +163,109 @@ public class EventRepositoryCustomImpl extends QuerydslRepositorySupport impleme
     ) {
         QEvent event = QEvent.event;
 
-        JPQLQuery<EventViewResponse> query = from(event)
+        JPQLQuery<EventViewResponse> query = selectEventView(event);
+        applySearchParams(query, event, eventIds, placeName, eventName, eventStatus, eventStartDatetime, eventEndDatetime);
+
+        List<EventViewResponse> events = Optional.ofNullable(getQuerydsl())
+                .orElseThrow(() -> new GeneralException(ErrorCode.DATA_ACCESS_ERROR, "Spring Data JPA 로부터 Querydsl 인스턴스를 못 가져옴"))
+                .applyPagination(pageable, query)
+                .fetch();
+
+        return new PageImpl<>(events, pageable, query.fetchCount());
+    }
+
+    @Override
+    public CloseableIterator<EventViewResponse> iterateEventViewsBySearchParams(
+            String placeName,
+            String eventName,
+            EventStatus eventStatus,
+            LocalDateTime eventStartDatetime,
+            LocalDateTime eventEndDatetime,
+            int fetchSize
+    ) {
+        QEvent event = QEvent.event;
+
+        JPQLQuery<EventViewResponse> query = selectEventView(event);
+        applySearchParams(query, event, null, placeName, eventName, eventStatus, eventStartDatetime, eventEndDatetime);
+        query.orderBy(event.eventStartDatetime.asc(), event.id.asc());
+
+        if (query instanceof AbstractJPAQuery<?, ?> jpaQuery) {
+            jpaQuery.setHint(QueryHints.HINT_FETCH_SIZE, fetchSize);
+        }
+
+        // 결과를 List 로 모으지 않고 ScrollableResults(FORWARD_ONLY) 로 한 건씩 넘긴다
+        return query.iterate();
+    }
+
+    @Override
+    public EventViewSliceResponse findEventViewSliceBySearchParams(
+            Collection<Long> eventIds,
+            String placeName,
+            String eventName,
+            EventStatus eventStatus,
+            LocalDateTime eventStartDatetime,
+            LocalDateTime eventEndDatetime,
+            EventViewCursor cursor,
+            int size
+    ) {
+        QEvent event = QEvent.event;
+
+        JPQLQuery<EventViewResponse> query = selectEventView(event);
+        applySearchParams(query, event, eventIds, placeName, eventName, eventStatus, eventStartDatetime, eventEndDatetime);
+
+        return fetchSlice(query, event, cursor, size);
+    }
+
+    @Override
+    public EventViewSliceResponse findEventViewSlice(Predicate predicate, EventViewCursor cursor, int size) {
+        QEvent event = QEvent.event;
+
+        return fetchSlice(selectEventView(event).where(predicate), event, cursor, size);
+    }
+
+    private EventViewSliceResponse fetchSlice(JPQLQuery<EventViewResponse> query, QEvent event, EventViewCursor cursor, int size) {
+        if (cursor != null) {
+            // offset 없이 마지막으로 본 (시작 일시, id) 다음부터 읽으므로 페이지 깊이와 상관없이 인덱스 범위 탐색만 한다
+            query.where(event.eventStartDatetime.gt(cursor.eventStartDatetime())
+                    .or(event.eventStartDatetime.eq(cursor.eventStartDatetime()).and(event.id.gt(cursor.id()))));
+        }
+
+        // 다음 페이지 존재 여부는 한 건 더 읽어서 판단 (count 쿼리 없음)
+        List<EventViewResponse> events = query
+                .orderBy(event.eventStartDatetime.asc(), event.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = events.size() > size;
+        if (hasNext) {
+            events = events.subList(0, size);
+        }
+        String nextCursor = hasNext ? EventViewCursor.from(events.get(events.size() - 1)).encode() : null;
+
+        return EventViewSliceResponse.of(events, nextCursor, hasNext);
+    }
+
+    /**
+     * dto 에서 null 이 아닌 값만 SET 절에 넣고 version 을 1 올린다. 현재 인원은 입장/퇴장 처리에서만 바꾸므로 넣지 않는다.
+     * 바꿀 값이 없으면 비어 있다.
+     */
+    private Optional<UpdateClause<JPAUpdateClause>> setChanges(EventDTO dto) {
+        QEvent event = QEvent.event;
+
+        UpdateClause<JPAUpdateClause> update = update(event);
+        if (dto.eventName() != null) { update.set(event.eventName, dto.eventName()); }
+        if (dto.eventStatus() != null) { update.set(event.eventStatus, dto.eventStatus()); }
+        if (dto.eventStartDatetime() != null) { update.set(event.eventStartDatetime, dto.eventStartDatetime()); }
+        if (dto.eventEndDatetime() != null) { update.set(event.eventEndDatetime, dto.eventEndDatetime()); }
+        if (dto.capacity() != null) { update.set(event.capacity, dto.capacity()); }
+        if (dto.memo() != null) { update.set(event.memo, dto.memo()); }
+        if (update.isEmpty()) { return Optional.empty(); }
+
+        return Optional.of(update.set(event.version, event.version.add(1L)));
+    }
+
+    private JPQLQuery<EventViewResponse> selectEventView(QEvent event) {
+        return from(event)
                 .select(Projections.constructor(
                         EventViewResponse.class,
                         event.id,
@@ -47,12 +278,28 @@ public class EventRepositoryCustomImpl extends QuerydslRepositorySupport impleme
                         event.capacity,
                         event.memo
                 ));
+    }
 
-        if (placeName != null && !placeName.isBlank()) {
-            query.where(event.place.placeName.containsIgnoreCase(placeName));
-        }
-        if (eventName != null && !eventName.isBlank()) {
-            query.where(event.eventName.containsIgnoreCase(eventName));
+    private void applySearchParams(
+            JPQLQuery<EventViewResponse> query,
+            QEvent event,
+            Collection<Long> eventIds,
+            String placeName,
+            String eventName,
+            EventStatus eventStatus,
+            LocalDateTime eventStartDatetime,
+            LocalDateTime eventEndDatetime
+    ) {
+        if (eventIds != null) {
+            // 이름 조건은 색인에서 이미 id 로 풀었으므로 PK 로만 거른다. 빈 IN 절 대신 항상 거짓인 조건을 쓴다
+            query.where(eventIds.isEmpty() ? event.id.isNull() : event.id.in(eventIds));
+        } else {
+            if (placeName != null && !placeName.isBlank()) {
+                query.where(event.place.placeName.containsIgnoreCase(placeName));
+            }
+            if (eventName != null && !eventName.isBlank()) {
+                query.where(event.eventName.containsIgnoreCase(eventName));
+            }
         }
         if (eventStatus != null) {
             query.where(event.eventStatus.eq(eventStatus));
@@ -63,12 +310,5 @@ public class EventRepositoryCustomImpl extends QuerydslRepositorySupport impleme
         if (eventEndDatetime != null) {
             query.where(event.eventStartDatetime.loe(eventEndDatetime));
         }
-
-        List<EventViewResponse> events = Optional.ofNullable(getQuerydsl())
-                .orElseThrow(() -> new GeneralException(ErrorCode.DATA_ACCESS_ERROR, "Spring Data JPA 로부터 Querydsl 인스턴스를 못 가져옴"))
-                .applyPagination(pageable, query)
-                .fetch();
-
-        return new PageImpl<>(events, pageable, query.fetchCount());
     }
 }
@@ -0,0 +1,31 @@
+package com.study.covidinline.repository.querydsl;
+
+import com.querydsl.core.types.Predicate;
+import com.study.covidinline.dto.PlaceDTO;
+
+import java.util.List;
+
+public interface PlaceRepositoryCustom {
+    /**
+     * predicate 로 장소를 조회해서 엔티티를 거치지 않고 바로 {@link PlaceDTO} 로 읽는다.
+     */
+    List<PlaceDTO> findPlaceDTOs(Predicate predicate);
+
+    /**
+     * dto 에서 null 이 아닌 값만 UPDATE 문 하나로 바로 반영한다. (엔티티를 읽지 않음, 버전은 1 올림)
+     * version 이 그대로일 때만 바꾸고, 그 사이 다른 요청이 고쳤으면 {@link org.springframework.orm.ObjectOptimisticLockingFailureException} 을 던진다.
+     * 바꿀 값이 없으면 쿼리를 보내지 않고 0 을 돌려준다.
+     *
+     * @param version 수정 전에 읽은 version
+     * @return 바뀐 row 수
+     */
+    long updatePartially(Long placeId, Long version, PlaceDTO dto);
+
+    /**
+     * 장소와 그 장소에 딸린 대기열, 이벤트, 관리자 매핑을 한 트랜잭션에서 set 단위 DELETE 로 지운다.
+     * 외래 키 순서(waitlist_entry → event → admin_place_map → place)대로 지우고, 컬렉션은 읽지 않는다.
+     *
+     * @return 지운 이벤트 id 들
+     */
+    List<Long> deleteWithDependents(Long placeId);
+}
@@ -0,0 +1,119 @@
+package com.study.covidinline.repository.querydsl;
+
+import com.querydsl.core.dml.UpdateClause;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.domain.QAdminPlaceMap;
+import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.domain.QPlace;
+import com.study.covidinline.domain.QWaitlistEntry;
+import com.study.covidinline.dto.PlaceDTO;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class PlaceRepositoryCustomImpl extends QuerydslRepositorySupport implements PlaceRepositoryCustom {
+
+    public PlaceRepositoryCustomImpl() {
+        super(Place.class);
+    }
+
+    @Override
+    public List<PlaceDTO> findPlaceDTOs(Predicate predicate) {
+        QPlace place = QPlace.place;
+
+        return from(place)
+                .select(placeDTO(place))
+                .where(predicate)
+                .fetch();
+    }
+
+    @Transactional
+    @Override
+    public long updatePartially(Long placeId, Long version, PlaceDTO dto) {
+        QPlace place = QPlace.place;
+
+        UpdateClause<JPAUpdateClause> update = update(place);
+        if (dto.placeType() != null) { update.set(place.placeType, dto.placeType()); }
+        if (dto.placeName() != null) { update.set(place.placeName, dto.placeName()); }
+        if (dto.address() != null) { update.set(place.address, dto.address()); }
+        if (dto.phoneNumber() != null) { update.set(place.phoneNumber, dto.phoneNumber()); }
+        if (dto.capacity() != null) { update.set(place.capacity, dto.capacity()); }
+        if (dto.memo() != null) { update.set(place.memo, dto.memo()); }
+        if (update.isEmpty()) { return 0; }
+
+        long updated = update
+                .set(place.version, place.version.add(1L))
+                .where(place.id.eq(placeId), place.version.eq(version))
+                .execute();
+        if (updated == 0) {
+            // version 을 읽은 뒤 다른 요청이 먼저 고쳤거나 지웠다
+            throw new ObjectOptimisticLockingFailureException(Place.class, placeId);
+        }
+        // 벌크 UPDATE 는 영속성 컨텍스트를 거치지 않으므로, 이 장소가 올라와 있었다면 그것만 떼어 낸다 (2차 캐시는 hibernate 가 비움)
+        getEntityManager().detach(getEntityManager().getReference(Place.class, placeId));
+
+        return updated;
+    }
+
+    @Transactional
+    @Override
+    public List<Long> deleteWithDependents(Long placeId) {
+        QPlace place = QPlace.place;
+        QEvent event = QEvent.event;
+        QWaitlistEntry waitlistEntry = QWaitlistEntry.waitlistEntry;
+        QAdminPlaceMap adminPlaceMap = QAdminPlaceMap.adminPlaceMap;
+
+        // 변경 알림용 id 만 읽는다 (엔티티, 컬렉션은 만들지 않음)
+        List<Long> eventIds = from(event)
+                .select(event.id)
+                .where(event.place.id.eq(placeId))
+                .fetch();
+
+        if (!eventIds.isEmpty()) {
+            delete(waitlistEntry)
+                    .where(waitlistEntry.event.id.in(JPAExpressions
+                            .select(event.id)
+                            .from(event)
+                            .where(event.place.id.eq(placeId))))
+                    .execute();
+            delete(event)
+                    .where(event.place.id.eq(placeId))
+                    .execute();
+        }
+        delete(adminPlaceMap)
+                .where(adminPlaceMap.place.id.eq(placeId))
+                .execute();
+        delete(place)
+                .where(place.id.eq(placeId))
+                .execute();
+        // 벌크 DELETE 는 영속성 컨텍스트를 거치지 않으므로, 이미 올라와 있던 엔티티를 버린다 (2차 캐시는 hibernate 가 비움)
+        getEntityManager().clear();
+
+        return eventIds;
+    }
+
+    /**
+     * 장소 컬럼을 {@link PlaceDTO} 로 바로 담는 projection. 이벤트 조회에서도 중첩해서 쓴다.
+     */
+    static ConstructorExpression<PlaceDTO> placeDTO(QPlace place) {
+        return Projections.constructor(
+                PlaceDTO.class,
+                place.id,
+                place.placeType,
+                place.placeName,
+                place.address,
+                place.phoneNumber,
+                place.capacity,
+                place.memo,
+                place.createdAt,
+                place.modifiedAt
+        );
+    }
+}
@@ -0,0 +1,491 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.constant.ImportStatus;
+import com.study.covidinline.constant.ImportTarget;
+import com.study.covidinline.constant.PlaceType;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.ImportCheckpoint;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.ImportProgressResponse;
+import com.study.covidinline.dto.PlaceBatchChange;
+import com.study.covidinline.dto.PlaceChange;
+import com.study.covidinline.dto.PlaceDTO;
+import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.repository.EventRepository;
+import com.study.covidinline.repository.ImportCheckpointRepository;
+import com.study.covidinline.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장소, 이벤트 CSV 일괄 등록.
+ * 행 해석과 검사는 fork-join pool 에서 병렬로 하고, 이벤트의 장소(placeId)는 한 번에 읽어 둔 map 에서 찾는다.
+ * 하나라도 잘못된 행이 있으면 아무것도 저장하지 않고 행 번호와 이유를 돌려준다.
+ *
+ * 저장은 chunk 단위 트랜잭션(JDBC batch insert)으로 하고, 같은 트랜잭션에서 진행 지점({@link ImportCheckpoint})을 남긴다.
+ * 중간에 실패하면 같은 jobId 와 같은 파일로 다시 요청해서 저장된 다음 행부터 이어서 한다.
+ * 작업은 한 번에 하나씩 뒤에서 돌고, 진행 상황은 jobId 로 조회한다.
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    private static final List<String> PLACE_COLUMNS = List.of("placeType", "placeName", "address", "phoneNumber", "capacity");
+    private static final List<String> EVENT_COLUMNS = List.of("placeId", "eventName", "eventStatus", "eventStartDatetime", "eventEndDatetime", "capacity");
+
+    private final PlaceRepository placeRepository;
+    private final EventRepository eventRepository;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final EventIntervalIndex eventIntervalIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    private final ForkJoinPool parsePool;
+    private final ExecutorService runner = Executors.newSingleThreadExecutor();
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public BulkImportService(
+            PlaceRepository placeRepository,
+            EventRepository eventRepository,
+            ImportCheckpointRepository importCheckpointRepository,
+            EventIntervalIndex eventIntervalIndex,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${covidinline.import.parallelism:4}") int parallelism,
+            @Value("${covidinline.import.chunk-size:1000}") int chunkSize,
+            @Value("${covidinline.import.max-errors:100}") int maxErrors
+    ) {
+        this.placeRepository = placeRepository;
+        this.eventRepository = eventRepository;
+        this.importCheckpointRepository = importCheckpointRepository;
+        this.eventIntervalIndex = eventIntervalIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxErrors = Math.max(1, maxErrors);
+        this.parsePool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    public ImportProgressResponse importPlaces(String jobId, byte[] csv) {
+        return start(ImportTarget.PLACE, jobId, csv);
+    }
+
+    public ImportProgressResponse importEvents(String jobId, byte[] csv) {
+        return start(ImportTarget.EVENT, jobId, csv);
+    }
+
+    /**
+     * 앱이 다시 뜨면 진행 상황은 사라지지만, 진행 지점은 남아 있어서 이어서 할 수 있다.
+     */
+    public Optional<ImportProgressResponse> getProgress(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toResponse);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        parsePool.shutdownNow();
+    }
+
+    private ImportProgressResponse start(ImportTarget importTarget, String jobId, byte[] csv) {
+        Job job = new Job(jobId, importTarget);
+        Job registered = jobs.compute(jobId, (id, existing) ->
+                existing != null && existing.importStatus == ImportStatus.RUNNING ? existing : job);
+        if (registered != job) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "Import job is already running - jobId: " + jobId);
+        }
+
+        try {
+            runner.execute(() -> run(job, csv));
+        } catch (RejectedExecutionException e) {
+            job.fail(List.of("import runner is not available"));
+            throw new GeneralException(ErrorCode.INTERNAL_ERROR, e);
+        }
+
+        return job.toResponse();
+    }
+
+    private void run(Job job, byte[] csv) {
+        try {
+            String fileHash = sha256(csv);
+            Optional<ImportCheckpoint> checkpoint = importCheckpointRepository.findById(job.jobId);
+            if (checkpoint.isPresent()
+                    && (checkpoint.get().getImportTarget() != job.importTarget || !checkpoint.get().getFileHash().equals(fileHash))) {
+                job.fail(List.of("checkpoint of jobId " + job.jobId + " belongs to another file"));
+                return;
+            }
+
+            List<CsvReader.Record> records = CsvReader.read(new String(csv, StandardCharsets.UTF_8));
+            if (records.isEmpty()) {
+                job.complete();
+                return;
+            }
+
+            Map<String, Integer> header = header(records.get(0));
+            List<String> missingColumns = (job.importTarget == ImportTarget.PLACE ? PLACE_COLUMNS : EVENT_COLUMNS).stream()
+                    .filter(column -> !header.containsKey(normalize(column)))
+                    .toList();
+            if (!missingColumns.isEmpty()) {
+                job.fail(List.of("line " + records.get(0).lineNumber() + ": missing columns " + missingColumns));
+                return;
+            }
+
+            List<CsvReader.Record> rows = records.subList(1, records.size());
+            int skippedRows = (int) Math.min(checkpoint.map(ImportCheckpoint::getCommittedRows).orElse(0L), rows.size());
+            job.start(rows.size(), skippedRows);
+            log.info("일괄 등록 시작 - jobId: {}, target: {}, rows: {}, skipped: {}", job.jobId, job.importTarget, rows.size(), skippedRows);
+
+            List<CsvReader.Record> remaining = rows.subList(skippedRows, rows.size());
+            if (job.importTarget == ImportTarget.PLACE) {
+                importPlaceRows(job, fileHash, header, remaining);
+            } else {
+                importEventRows(job, fileHash, header, remaining);
+            }
+        } catch (Exception e) {
+            log.warn("일괄 등록 실패 - jobId: {}", job.jobId, e);
+            job.fail(List.of(Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName())));
+        }
+    }
+
+    private void importPlaceRows(Job job, String fileHash, Map<String, Integer> header, List<CsvReader.Record> rows) {
+        List<Row<Place>> parsed = parse(rows, record -> toPlace(header, record));
+        if (failIfInvalid(job, parsed)) { return; }
+
+        write(job, fileHash, parsed, places -> {
+            List<Place> saved = placeRepository.saveAll(places);
+            return () -> eventPublisher.publishEvent(PlaceBatchChange.of(saved.stream()
+                    .map(place -> PlaceChange.of(ChangeType.CREATED, place.getId(), place))
+                    .toList()));
+        });
+    }
+
+    private void importEventRows(Job job, String fileHash, Map<String, Integer> header, List<CsvReader.Record> rows) {
+        List<Row<EventDTO>> parsed = parse(rows, record -> toEventDTO(header, record));
+
+        // 장소는 행마다 읽지 않고 한 번에 읽어서 map 으로 찾는다
+        Set<Long> placeIds = parsed.stream()
+                .filter(Row::valid)
+                .map(row -> row.value().placeDTO().id())
+                .collect(Collectors.toSet());
+        Map<Long, Place> places = placeRepository.findAllById(placeIds).stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+        List<Row<EventDTO>> checked = parsePool.submit(() -> parsed.parallelStream()
+                .map(row -> row.valid() ? checkEvent(row, places) : row)
+                .toList()
+        ).join();
+
+        // 파일 안에서 같은 장소끼리 시간이 겹치면 뒤에 나온 행을 잘못된 행으로 보고, 겹치는 앞 행을 모두 알려준다
+        List<Row<EventDTO>> result = new ArrayList<>(checked);
+        Map<Integer, List<Long>> overlappedLines = new TreeMap<>();
+        eventIntervalIndex.findConflictsAmong(checked.stream().map(row -> row.valid() ? row.value() : null).toList())
+                .forEach(overlap -> overlappedLines
+                        .computeIfAbsent((int) Math.max(overlap.id(), overlap.otherId()), index -> new ArrayList<>())
+                        .add(checked.get((int) Math.min(overlap.id(), overlap.otherId())).lineNumber()));
+        overlappedLines.forEach((index, lineNumbers) -> result.set(index, result.get(index).invalid(
+                "event time overlaps line " + lineNumbers.stream().sorted().map(String::valueOf).collect(Collectors.joining(", ")) + " at the same place"
+        )));
+        if (failIfInvalid(job, result)) { return; }
+
+        write(job, fileHash, result, eventDTOs -> {
+            // 검사한 뒤 다른 요청이 같은 장소에 끼어들었을 수 있으므로, 장소를 잠그고 이 chunk 를 다시 검사한다
+            placeRepository.findAllForUpdate(eventDTOs.stream().map(eventDTO -> eventDTO.placeDTO().id()).collect(Collectors.toSet()));
+            eventDTOs.forEach(eventDTO -> eventIntervalIndex.findConflict(
+                            null,
+                            eventDTO.placeDTO().id(),
+                            eventDTO.eventStatus(),
+                            eventDTO.eventStartDatetime(),
+                            eventDTO.eventEndDatetime()
+                    )
+                    .ifPresent(conflictingEventId -> {
+                        throw new IllegalStateException("event time overlaps eventId " + conflictingEventId + " at the same place");
+                    }));
+
+            List<Event> events = eventRepository.insertAll(eventDTOs.stream()
+                    .map(eventDTO -> eventDTO.toEntity(places.get(eventDTO.placeDTO().id())))
+                    .toList());
+            return () -> eventPublisher.publishEvent(EventBatchChange.of(events.stream()
+                    .map(event -> EventChange.of(ChangeType.CREATED, event.getId(), event))
+                    .toList()));
+        });
+    }
+
+    private Row<EventDTO> checkEvent(Row<EventDTO> row, Map<Long, Place> places) {
+        EventDTO eventDTO = row.value();
+        if (!places.containsKey(eventDTO.placeDTO().id())) {
+            return row.invalid("place not found - placeId: " + eventDTO.placeDTO().id());
+        }
+
+        return eventIntervalIndex.findConflict(
+                        null,
+                        eventDTO.placeDTO().id(),
+                        eventDTO.eventStatus(),
+                        eventDTO.eventStartDatetime(),
+                        eventDTO.eventEndDatetime()
+                )
+                .map(conflictingEventId -> row.invalid("event time overlaps eventId " + conflictingEventId + " at the same place"))
+                .orElse(row);
+    }
+
+    /**
+     * 행 해석과 검사를 fork-join pool 에서 병렬로 한다. 결과는 파일 순서 그대로.
+     */
+    private <T> List<Row<T>> parse(List<CsvReader.Record> records, Function<CsvReader.Record, T> parser) {
+        return parsePool.submit(() -> records.parallelStream()
+                .map(record -> {
+                    try {
+                        return Row.of(record.lineNumber(), parser.apply(record));
+                    } catch (RuntimeException e) {
+                        return Row.<T>error(record.lineNumber(), e.getMessage());
+                    }
+                })
+                .toList()
+        ).join();
+    }
+
+    private <T> boolean failIfInvalid(Job job, List<Row<T>> rows) {
+        List<String> errors = rows.stream()
+                .filter(row -> !row.valid())
+                .map(row -> "line " + row.lineNumber() + ": " + row.error())
+                .toList();
+        if (errors.isEmpty()) { return false; }
+
+        List<String> reported = new ArrayList<>(errors.subList(0, Math.min(errors.size(), maxErrors)));
+        if (errors.size() > maxErrors) {
+            reported.add("... and " + (errors.size() - maxErrors) + " more");
+        }
+        job.fail(reported);
+
+        return true;
+    }
+
+    /**
+     * chunk 마다 한 트랜잭션에서 저장하고 진행 지점을 남긴다.
+     * 변경 알림은 writer 가 잡은 잠금이 풀리기 전에 색인이 그 장소들을 반영 대기로 두도록 같은 트랜잭션의 끝에서 보낸다.
+     *
+     * @param writer chunk 를 저장하고, 진행 지점을 남긴 뒤에 할 일(변경 알림)을 돌려준다
+     */
+    private <T> void write(Job job, String fileHash, List<Row<T>> rows, Function<List<T>, Runnable> writer) {
+        long committedRows = job.skippedRows;
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<Row<T>> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            long nextCommittedRows = committedRows + chunk.size();
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Runnable notifier = writer.apply(chunk.stream().map(Row::value).toList());
+                    importCheckpointRepository.save(ImportCheckpoint.of(job.jobId, job.importTarget, fileHash, nextCommittedRows));
+                    notifier.run();
+                });
+            } catch (Exception e) {
+                log.warn("일괄 등록 저장 실패 - jobId: {}, committed: {}", job.jobId, committedRows, e);
+                job.fail(List.of("line " + chunk.get(0).lineNumber() + "-" + chunk.get(chunk.size() - 1).lineNumber()
+                        + ": " + Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName())));
+                return;
+            }
+
+            committedRows = nextCommittedRows;
+            job.writtenRows.addAndGet(chunk.size());
+            log.info("일괄 등록 진행 - jobId: {}, {}/{}", job.jobId, committedRows, job.totalRows);
+        }
+
+        job.complete();
+    }
+
+    private static Place toPlace(Map<String, Integer> header, CsvReader.Record record) {
+        Integer capacity = integer("capacity", required(header, record, "capacity"));
+        if (capacity < 0) { throw new IllegalArgumentException("capacity must not be negative"); }
+
+        return Place.of(
+                enumValue(PlaceType.class, "placeType", required(header, record, "placeType")),
+                required(header, record, "placeName"),
+                required(header, record, "address"),
+                required(header, record, "phoneNumber"),
+                capacity,
+                text(header, record, "memo")
+        );
+    }
+
+    private static EventDTO toEventDTO(Map<String, Integer> header, CsvReader.Record record) {
+        long placeId = longValue("placeId", required(header, record, "placeId"));
+        if (placeId <= 0) { throw new IllegalArgumentException("placeId must be positive"); }
+
+        LocalDateTime eventStartDatetime = datetime("eventStartDatetime", required(header, record, "eventStartDatetime"));
+        LocalDateTime eventEndDatetime = datetime("eventEndDatetime", required(header, record, "eventEndDatetime"));
+        if (!eventEndDatetime.isAfter(eventStartDatetime)) {
+            throw new IllegalArgumentException("eventEndDatetime must be after eventStartDatetime");
+        }
+
+        Integer capacity = integer("capacity", required(header, record, "capacity"));
+        String currentNumberOfPeopleText = text(header, record, "currentNumberOfPeople");
+        Integer currentNumberOfPeople = currentNumberOfPeopleText == null ? 0 : integer("currentNumberOfPeople", currentNumberOfPeopleText);
+        if (capacity <= 0) { throw new IllegalArgumentException("capacity must be positive"); }
+        if (currentNumberOfPeople < 0 || currentNumberOfPeople > capacity) {
+            throw new IllegalArgumentException("currentNumberOfPeople must be between 0 and capacity");
+        }
+
+        return EventDTO.of(
+                null,
+                PlaceDTO.of(placeId, null, null, null, null, null, null, null, null),
+                required(header, record, "eventName"),
+                enumValue(EventStatus.class, "eventStatus", required(header, record, "eventStatus")),
+                eventStartDatetime,
+                eventEndDatetime,
+                currentNumberOfPeople,
+                capacity,
+                text(header, record, "memo"),
+                null,
+                null
+        );
+    }
+
+    /**
+     * 대소문자, 밑줄을 무시하고 찾는다. (placeId, place_id, PLACE_ID 모두 같은 컬럼)
+     */
+    private static Map<String, Integer> header(CsvReader.Record record) {
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < record.fields().size(); i++) {
+            header.putIfAbsent(normalize(record.fields().get(i)), i);
+        }
+
+        return header;
+    }
+
+    private static String normalize(String column) {
+        return column.strip().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String text(Map<String, Integer> header, CsvReader.Record record, String column) {
+        Integer index = header.get(normalize(column));
+        if (index == null || index >= record.fields().size()) { return null; }
+
+        String value = record.fields().get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String required(Map<String, Integer> header, CsvReader.Record record, String column) {
+        String value = text(header, record, column);
+        if (value == null) { throw new IllegalArgumentException(column + " is required"); }
+
+        return value;
+    }
+
+    private static Integer integer(String column, String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a number: " + value);
+        }
+    }
+
+    private static long longValue(String column, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a number: " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String column, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(column + " must be one of " + Arrays.toString(type.getEnumConstants()) + ": " + value);
+        }
+    }
+
+    /**
+     * ISO 형식(2021-01-01T09:00:00)과 data.sql 형식(2021-01-01 09:00:00) 모두 받는다.
+     */
+    private static LocalDateTime datetime(String column, String value) {
+        try {
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + " is not a datetime: " + value);
+        }
+    }
+
+    private static String sha256(byte[] bytes) throws NoSuchAlgorithmException {
+        return String.format("%064x", new BigInteger(1, MessageDigest.getInstance("SHA-256").digest(bytes)));
+    }
+
+
+    /**
+     * 해석한 행. 잘못된 행이면 value 대신 error 가 있다.
+     */
+    private record Row<T>(long lineNumber, T value, String error) {
+        static <T> Row<T> of(long lineNumber, T value) {
+            return new Row<>(lineNumber, value, null);
+        }
+
+        static <T> Row<T> error(long lineNumber, String error) {
+            return new Row<>(lineNumber, null, error);
+        }
+
+        boolean valid() {
+            return error == null;
+        }
+
+        Row<T> invalid(String error) {
+            return new Row<>(lineNumber, null, error);
+        }
+    }
+
+    private static final class Job {
+
+        private final String jobId;
+        private final ImportTarget importTarget;
+        private volatile ImportStatus importStatus = ImportStatus.RUNNING;
+        private volatile long totalRows;
+        private volatile long skippedRows;
+        private final AtomicLong writtenRows = new AtomicLong();
+        private volatile List<String> errors = List.of();
+
+        private Job(String jobId, ImportTarget importTarget) {
+            this.jobId = jobId;
+            this.importTarget = importTarget;
+        }
+
+        void start(long totalRows, long skippedRows) {
+            this.totalRows = totalRows;
+            this.skippedRows = skippedRows;
+        }
+
+        void complete() {
+            importStatus = ImportStatus.COMPLETED;
+        }
+
+        void fail(List<String> errors) {
+            this.errors = List.copyOf(errors);
+            importStatus = ImportStatus.FAILED;
+        }
+
+        ImportProgressResponse toResponse() {
+            return ImportProgressResponse.of(jobId, importTarget, importStatus, totalRows, skippedRows, writtenRows.get(), errors);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.study.covidinline.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 를 레코드 단위로 나눈다. 따옴표 안의 쉼표, 줄바꿈, 두 번 쓴 따옴표도 처리한다.
+ * 따옴표 상태를 앞에서부터 따라가야 하므로 나누는 것은 순서대로 하고, 값 해석은 호출하는 쪽에서 병렬로 한다.
+ */
+final class CsvReader {
+
+    private CsvReader() {}
+
+    /**
+     * 빈 줄은 건너뛴다.
+     *
+     * @throws IllegalArgumentException 따옴표가 닫히지 않은 경우
+     */
+    static List<Record> read(String text) {
+        List<Record> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        long line = 1;
+        long recordLine = 1;
+
+        // UTF-8 BOM 은 버린다
+        int start = text.startsWith("\uFEFF") ? 1 : 0;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    if (c == '\n') { line++; }
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                addRecord(records, recordLine, fields, field);
+                fields = new ArrayList<>();
+                line++;
+                recordLine = line;
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("line " + recordLine + ": unterminated quote");
+        }
+        addRecord(records, recordLine, fields, field);
+
+        return records;
+    }
+
+    private static void addRecord(List<Record> records, long lineNumber, List<String> fields, StringBuilder field) {
+        fields.add(field.toString());
+        field.setLength(0);
+        if (fields.size() == 1 && fields.get(0).isBlank()) { return; }
+
+        records.add(new Record(lineNumber, List.copyOf(fields)));
+    }
+
+
+    record Record(long lineNumber, List<String> fields) {}
+}
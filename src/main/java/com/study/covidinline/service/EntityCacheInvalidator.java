@@ -0,0 +1,76 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.config.CacheConfig;
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.OccupancyDelta;
+import com.study.covidinline.dto.PlaceBatchChange;
+import com.study.covidinline.dto.PlaceChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * id 캐시(events, places) 무효화.
+ * 서비스의 수정/삭제는 @CacheEvict 로 바로 지우고, 여기서는 그 밖의 변경(생성, Spring Data REST 를 통한 변경, 인원 증감)과
+ * 장소 정보가 함께 들어 있는 이벤트 캐시를 처리한다.
+ * 변경 알림은 트랜잭션이 커밋된 뒤에 반영한다. 커밋 전에 버리면 그 사이 getEvent, getPlace 가 커밋 전 엔티티를 다시 캐시할 수 있다.
+ */
+@RequiredArgsConstructor
+@Component
+public class EntityCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventChanged(EventChange change) {
+        evict(CacheConfig.EVENTS, change.eventId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventsChanged(EventBatchChange batch) {
+        batch.changes().forEach(this::onEventChanged);
+    }
+
+    /**
+     * 캐시된 이벤트에는 현재 인원이 들어 있으므로, 입장/퇴장으로 인원이 바뀌면 그 이벤트만 버린다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOccupancyChanged(OccupancyDelta occupancyDelta) {
+        evict(CacheConfig.EVENTS, occupancyDelta.eventId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlaceChanged(PlaceChange change) {
+        evict(CacheConfig.PLACES, change.placeId());
+        if (change.changeType() == ChangeType.CREATED || change.placeId() == null) { return; }
+
+        Cache events = cacheManager.getCache(CacheConfig.EVENTS);
+        if (events instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().asMap().values().removeIf(value -> value instanceof EventDTO event
+                    && event.placeDTO() != null
+                    && change.placeId().equals(event.placeDTO().id()));
+        } else if (events != null) {
+            events.clear();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlacesChanged(PlaceBatchChange batch) {
+        batch.changes().forEach(this::onPlaceChanged);
+    }
+
+    private void evict(String cacheName, Long id) {
+        if (id == null) { return; }
+
+        Optional.ofNullable(cacheManager.getCache(cacheName)).ifPresent(cache -> cache.evict(id));
+    }
+}
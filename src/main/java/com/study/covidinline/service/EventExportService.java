@@ -0,0 +1,154 @@
+package com.study.covidinline.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mysema.commons.lang.CloseableIterator;
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.constant.ExportFormat;
+import com.study.covidinline.dto.EventViewResponse;
+import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 목록 내보내기.
+ * DB 커서에서 한 건씩 읽어서 바로 응답에 쓰므로, 내보내는 건수와 상관없이 메모리 사용량이 일정하다.
+ */
+@Service
+public class EventExportService {
+
+    private static final String CSV_HEADER = "id,placeName,eventName,eventStatus,eventStartDatetime,eventEndDatetime,currentNumberOfPeople,capacity,memo";
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter objectWriter;
+    private final int fetchSize;
+
+    public EventExportService(
+            EventRepository eventRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${covidinline.export.fetch-size:500}") int fetchSize
+    ) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectWriter = objectMapper.writerFor(EventViewResponse.class);
+        this.fetchSize = Math.max(1, fetchSize);
+    }
+
+    /**
+     * @return 내보낸 건수
+     */
+    public long export(
+            ExportFormat format,
+            String placeName,
+            String eventName,
+            EventStatus eventStatus,
+            LocalDateTime eventStartDatetime,
+            LocalDateTime eventEndDatetime,
+            OutputStream outputStream
+    ) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        Long count;
+        try {
+            count = transactionTemplate.execute(status -> exportRows(
+                    format,
+                    placeName,
+                    eventName,
+                    eventStatus,
+                    eventStartDatetime,
+                    eventEndDatetime,
+                    writer
+            ));
+        } catch (UncheckedIOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+
+        return count == null ? 0 : count;
+    }
+
+    private long exportRows(
+            ExportFormat format,
+            String placeName,
+            String eventName,
+            EventStatus eventStatus,
+            LocalDateTime eventStartDatetime,
+            LocalDateTime eventEndDatetime,
+            Writer writer
+    ) {
+        try (CloseableIterator<EventViewResponse> events = eventRepository.iterateEventViewsBySearchParams(
+                placeName,
+                eventName,
+                eventStatus,
+                eventStartDatetime,
+                eventEndDatetime,
+                fetchSize
+        )) {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            long written = 0;
+            while (events.hasNext()) {
+                writeRow(format, events.next(), writer);
+                written++;
+
+                // 첫 줄은 바로 내보내고, 이후로는 fetch size 단위로 내보낸다
+                if (written == 1 || written % fetchSize == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+
+            return written;
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊은 경우
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRow(ExportFormat format, EventViewResponse event, Writer writer) throws IOException {
+        switch (format) {
+            case NDJSON -> writer.write(objectWriter.writeValueAsString(event));
+            case CSV -> writer.write(String.join(",",
+                    csv(event.id()),
+                    csv(event.placeName()),
+                    csv(event.eventName()),
+                    csv(event.eventStatus()),
+                    csv(event.eventStartDatetime()),
+                    csv(event.eventEndDatetime()),
+                    csv(event.currentNumberOfPeople()),
+                    csv(event.capacity()),
+                    csv(event.memo())
+            ));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다.
+     */
+    private String csv(Object value) {
+        if (value == null) { return ""; }
+
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+
+        return text;
+    }
+}
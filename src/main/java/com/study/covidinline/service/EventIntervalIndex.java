@@ -0,0 +1,371 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.BooleanBuilder;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventConflictResponse;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.index.IntervalSweep;
+import com.study.covidinline.index.IntervalTree;
+import com.study.covidinline.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이벤트 진행 시간([시작, 종료)) 색인. ({@link IntervalTree})
+ * "지금 진행 중", "이 시간대와 겹치는" 이벤트를 테이블을 훑지 않고 찾는다.
+ * 시작, 종료 컬럼 인덱스가 따로 있어서 두 조건을 같이 거는 겹침 조회는 DB 에서 한쪽 범위를 전부 읽게 된다.
+ * 장소별 색인도 따로 두어서, 같은 장소에서 시간이 겹치는 이벤트를 만들거나 고칠 때 O(log n) 으로 걸러낸다.
+ * 취소, 중단된 이벤트는 장소의 시간을 차지하지 않는 것으로 본다.
+ *
+ * 앱이 뜰 때 한 번 채우고, 이후에는 변경 알림(EventChange)으로 갱신한다.
+ * 준비되기 전에는 조회는 비어 있는 결과를 돌려주고(호출하는 쪽이 DB 조회로 대신), 겹침 검사는 DB 로 한다.
+ *
+ * 트랜잭션 안에서 온 변경 알림은 커밋된 뒤에 반영하고, 롤백되면 버린다.
+ * 커밋하면 장소 행 잠금이 바로 풀리므로 반영 전에 다음 요청이 잠금을 잡고 옛 색인으로 검사할 수 있다.
+ * 그래서 알림을 받은 때부터 반영할 때까지 그 장소들을 반영 대기로 두고, 그 장소의 겹침 검사는 DB 로 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class EventIntervalIndex {
+
+    private final EventRepository eventRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IntervalTree tree = new IntervalTree();
+    private final Map<Long, IntervalTree> placeTrees = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, Integer> pendingPlaces = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            tree.clear();
+            placeTrees.clear();
+            entries.clear();
+            eventRepository.findEventDTOs(new BooleanBuilder()).forEach(event -> put(
+                    event.id(),
+                    event.placeDTO() == null ? null : event.placeDTO().id(),
+                    event.eventStatus(),
+                    event.eventStartDatetime(),
+                    event.eventEndDatetime()
+            ));
+            ready = true;
+
+            log.info("이벤트 시간 색인 준비 완료 - events: {}, places: {}", tree.size(), placeTrees.size());
+        } catch (Exception e) {
+            log.warn("이벤트 시간 색인 준비 실패", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * [from, to) 와 겹치는 이벤트 id 들을 시작 시각 순서로.
+     */
+    public Optional<List<Long>> findEventIds(LocalDateTime from, LocalDateTime to) {
+        if (!ready || from == null || to == null) { return Optional.empty(); }
+
+        lock.readLock().lock();
+        try {
+            return Optional.of(tree.overlapping(toKey(from), toKey(to)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 시각 at 에 진행 중인 이벤트 id 들.
+     */
+    public Optional<List<Long>> findLiveEventIds(LocalDateTime at) {
+        if (!ready || at == null) { return Optional.empty(); }
+
+        lock.readLock().lock();
+        try {
+            return Optional.of(tree.containing(toKey(at)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 같은 장소에서 [start, end) 와 시간이 겹치는 다른 이벤트의 id.
+     * 이벤트를 고칠 때는 eventId 를 주고, 주지 않은 값(null)은 그 이벤트의 지금 값으로 채운다.
+     */
+    public Optional<Long> findConflict(Long eventId, Long placeId, EventStatus status, LocalDateTime start, LocalDateTime end) {
+        if (!ready || isPending(eventId, placeId)) { return findConflictFromDatabase(eventId, placeId, status, start, end); }
+
+        lock.readLock().lock();
+        try {
+            Entry current = eventId == null ? null : entries.get(eventId);
+            boolean active = status != null ? occupiesTime(status) : current == null || current.active();
+            if (!active) { return Optional.empty(); }
+
+            Long targetPlaceId = placeId != null ? placeId : current == null ? null : current.placeId();
+            Long from = start != null ? Long.valueOf(toKey(start)) : current == null ? null : current.start();
+            Long to = end != null ? Long.valueOf(toKey(end)) : current == null ? null : current.end();
+            if (targetPlaceId == null || from == null || to == null) { return Optional.empty(); }
+
+            IntervalTree placeTree = placeTrees.get(targetPlaceId);
+            if (placeTree == null) { return Optional.empty(); }
+
+            OptionalLong conflict = placeTree.findAnyOverlap(from, to, eventId == null ? Long.MIN_VALUE : eventId);
+            return conflict.isPresent() ? Optional.of(conflict.getAsLong()) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 한 번에 새로 만들 이벤트들끼리 같은 장소에서 시간이 겹치는 쌍 전부. id 대신 목록 안의 순번(index)으로, 순번 순서로 돌려준다.
+     * 기존 이벤트와의 겹침은 {@link #findConflict} 로 따로 본다.
+     */
+    public List<IntervalSweep.Overlap> findConflictsAmong(List<EventDTO> events) {
+        Map<Long, List<IntervalSweep.Interval>> intervalsByPlace = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            EventDTO event = events.get(i);
+            if (event == null || event.placeDTO() == null || event.eventStartDatetime() == null || event.eventEndDatetime() == null) { continue; }
+            if (!occupiesTime(event.eventStatus())) { continue; }
+
+            intervalsByPlace
+                    .computeIfAbsent(event.placeDTO().id(), placeId -> new ArrayList<>())
+                    .add(new IntervalSweep.Interval(i, toKey(event.eventStartDatetime()), toKey(event.eventEndDatetime())));
+        }
+
+        return intervalsByPlace.values().stream()
+                .flatMap(intervals -> IntervalSweep.overlaps(intervals).stream())
+                .sorted(Comparator.comparingLong(IntervalSweep.Overlap::id).thenComparingLong(IntervalSweep.Overlap::otherId))
+                .toList();
+    }
+
+    /**
+     * 모든 장소에서 시간이 겹치는 이벤트 쌍들. 장소별로 나눠서 병렬로 sweep-line 을 돌린다.
+     */
+    public List<EventConflictResponse> findAllConflicts() {
+        Map<Long, List<IntervalSweep.Interval>> intervalsByPlace = new HashMap<>();
+        if (ready) {
+            lock.readLock().lock();
+            try {
+                entries.forEach((eventId, entry) -> {
+                    if (entry.active()) {
+                        intervalsByPlace
+                                .computeIfAbsent(entry.placeId(), placeId -> new ArrayList<>())
+                                .add(new IntervalSweep.Interval(eventId, entry.start(), entry.end()));
+                    }
+                });
+            } finally {
+                lock.readLock().unlock();
+            }
+        } else {
+            eventRepository.findEventDTOs(new BooleanBuilder()).stream()
+                    .filter(event -> event.placeDTO() != null && event.eventStartDatetime() != null && event.eventEndDatetime() != null)
+                    .filter(event -> occupiesTime(event.eventStatus()))
+                    .forEach(event -> intervalsByPlace
+                            .computeIfAbsent(event.placeDTO().id(), placeId -> new ArrayList<>())
+                            .add(new IntervalSweep.Interval(event.id(), toKey(event.eventStartDatetime()), toKey(event.eventEndDatetime()))));
+        }
+
+        return intervalsByPlace.entrySet().parallelStream()
+                .flatMap(placeIntervals -> IntervalSweep.overlaps(placeIntervals.getValue()).stream()
+                        .map(overlap -> EventConflictResponse.of(
+                                placeIntervals.getKey(),
+                                overlap.id(),
+                                overlap.otherId(),
+                                toDateTime(overlap.start()),
+                                toDateTime(overlap.end())
+                        )))
+                .sorted(Comparator.comparing(EventConflictResponse::placeId)
+                        .thenComparing(EventConflictResponse::overlapStartDatetime)
+                        .thenComparing(EventConflictResponse::eventId)
+                        .thenComparing(EventConflictResponse::conflictingEventId))
+                .toList();
+    }
+
+    @EventListener
+    public void onEventChanged(EventChange change) {
+        if (change.eventId() == null) { return; }
+
+        applyAfterCommit(List.of(change));
+    }
+
+    @EventListener
+    public void onEventsChanged(EventBatchChange batch) {
+        applyAfterCommit(batch.changes());
+    }
+
+    /**
+     * 트랜잭션 밖이면 바로 반영한다. 안이면 바뀌는 장소들을 반영 대기로 두고, 커밋되면 반영, 롤백되면 버린다.
+     */
+    private void applyAfterCommit(List<EventChange> changes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            apply(changes);
+            return;
+        }
+
+        Set<Long> placeIds = placeIdsOf(changes);
+        placeIds.forEach(placeId -> pendingPlaces.merge(placeId, 1, Integer::sum));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) { apply(changes); }
+                } finally {
+                    placeIds.forEach(placeId -> pendingPlaces.computeIfPresent(placeId, (id, count) -> count == 1 ? null : count - 1));
+                }
+            }
+        });
+    }
+
+    /**
+     * 쓰기 잠금은 한 번만 잡고 안의 변경을 차례로 반영한다.
+     */
+    private void apply(List<EventChange> changes) {
+        lock.writeLock().lock();
+        try {
+            for (EventChange change : changes) {
+                if (change.eventId() == null) { continue; }
+
+                Event event = change.event();
+                if (event == null) {
+                    remove(change.eventId());
+                } else {
+                    put(
+                            change.eventId(),
+                            event.getPlace() == null ? null : event.getPlace().getId(),
+                            event.getEventStatus(),
+                            event.getEventStartDatetime(),
+                            event.getEventEndDatetime()
+                    );
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 바뀌는 이벤트들의 지금 장소와 바뀐 뒤 장소.
+     */
+    private Set<Long> placeIdsOf(List<EventChange> changes) {
+        Set<Long> placeIds = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (EventChange change : changes) {
+                if (change.eventId() == null) { continue; }
+
+                Entry current = entries.get(change.eventId());
+                if (current != null) { placeIds.add(current.placeId()); }
+                if (change.event() != null && change.event().getPlace() != null) { placeIds.add(change.event().getPlace().getId()); }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return placeIds;
+    }
+
+    /**
+     * 검사할 장소에 아직 반영하지 않은 변경이 있는지. 장소를 모르는(색인에 아직 없는) 이벤트도 반영 대기로 본다.
+     */
+    private boolean isPending(Long eventId, Long placeId) {
+        if (pendingPlaces.isEmpty()) { return false; }
+        if (placeId != null) { return pendingPlaces.containsKey(placeId); }
+        if (eventId == null) { return false; }
+
+        lock.readLock().lock();
+        try {
+            Entry current = entries.get(eventId);
+            return current == null || pendingPlaces.containsKey(current.placeId());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long eventId, Long placeId, EventStatus status, LocalDateTime start, LocalDateTime end) {
+        remove(eventId);
+        if (start == null || end == null) { return; }
+
+        long from = toKey(start);
+        long to = toKey(end);
+        tree.put(eventId, from, to);
+        if (placeId == null) { return; }
+
+        boolean active = occupiesTime(status);
+        entries.put(eventId, new Entry(placeId, active, from, to));
+        if (active) {
+            placeTrees.computeIfAbsent(placeId, id -> new IntervalTree()).put(eventId, from, to);
+        }
+    }
+
+    private void remove(Long eventId) {
+        tree.remove(eventId);
+
+        Entry entry = entries.remove(eventId);
+        if (entry == null) { return; }
+
+        IntervalTree placeTree = placeTrees.get(entry.placeId());
+        if (placeTree != null) {
+            placeTree.remove(eventId);
+            if (placeTree.size() == 0) { placeTrees.remove(entry.placeId()); }
+        }
+    }
+
+    private Optional<Long> findConflictFromDatabase(Long eventId, Long placeId, EventStatus status, LocalDateTime start, LocalDateTime end) {
+        Optional<EventDTO> current = eventId == null
+                ? Optional.empty()
+                : eventRepository.findById(eventId).map(EventDTO::of);
+        EventStatus targetStatus = status != null ? status : current.map(EventDTO::eventStatus).orElse(null);
+        if (!occupiesTime(targetStatus)) { return Optional.empty(); }
+
+        Long targetPlaceId = placeId != null ? placeId : current.map(event -> event.placeDTO().id()).orElse(null);
+        LocalDateTime from = start != null ? start : current.map(EventDTO::eventStartDatetime).orElse(null);
+        LocalDateTime to = end != null ? end : current.map(EventDTO::eventEndDatetime).orElse(null);
+        if (targetPlaceId == null || from == null || to == null || !to.isAfter(from)) { return Optional.empty(); }
+
+        BooleanBuilder predicate = new BooleanBuilder()
+                .and(QEvent.event.place.id.eq(targetPlaceId))
+                .and(QEvent.event.eventStartDatetime.lt(to))
+                .and(QEvent.event.eventEndDatetime.gt(from))
+                .and(QEvent.event.eventEndDatetime.gt(QEvent.event.eventStartDatetime))
+                .and(QEvent.event.eventStatus.notIn(EventStatus.CANCELLED, EventStatus.ABORTED));
+        if (eventId != null) { predicate.and(QEvent.event.id.ne(eventId)); }
+
+        return eventRepository.findEventDTOs(predicate).stream().findFirst().map(EventDTO::id);
+    }
+
+    private static boolean occupiesTime(EventStatus status) {
+        return status != EventStatus.CANCELLED && status != EventStatus.ABORTED;
+    }
+
+    /**
+     * 초 단위 정수로 바꾼다. 순서만 맞으면 되므로 시간대는 따지지 않는다.
+     */
+    private static long toKey(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDateTime(long key) {
+        return LocalDateTime.ofEpochSecond(key, 0, ZoneOffset.UTC);
+    }
+
+
+    private record Entry(Long placeId, boolean active, long start, long end) {}
+}
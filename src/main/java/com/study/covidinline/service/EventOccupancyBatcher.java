@@ -0,0 +1,209 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.dto.OccupancyDelta;
+import com.study.covidinline.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 입장/퇴장 요청을 짧은 시간(window) 동안 모아서 한 번에 커밋하는 group commit 단계.
+ * 이벤트별로 증감분을 합쳐 JDBC batch 한 번으로 반영하고, 요청마다 입장 허용/거절 결과를 돌려준다.
+ * 합친 증감분이 정원 조건에 걸리는 이벤트만 요청 단위의 조건부 UPDATE 로 다시 판정한다.
+ */
+@Slf4j
+@Component
+public class EventOccupancyBatcher {
+
+    private static final String BATCH_UPDATE_SQL = """
+            update event
+            set current_number_of_people = current_number_of_people + ?
+            where id = ?
+              and current_number_of_people + ? between 0 and capacity
+              and (? = 0 or event_status = 'OPENED')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread worker;
+
+    public EventOccupancyBatcher(
+            JdbcTemplate jdbcTemplate,
+            EventRepository eventRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${covidinline.occupancy.batch-window-ms:5}") long windowMillis,
+            @Value("${covidinline.occupancy.batch-max-size:256}") int maxBatchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, windowMillis));
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    public CompletableFuture<Boolean> checkIn(Long eventId) {
+        return submit(eventId, 1);
+    }
+
+    public CompletableFuture<Boolean> checkOut(Long eventId) {
+        return submit(eventId, -1);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "event-occupancy-batcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(1));
+        failAll(drain(), new IllegalStateException("입장 처리 배치가 종료되었습니다."));
+    }
+
+    private CompletableFuture<Boolean> submit(Long eventId, int delta) {
+        Request request = new Request(eventId, delta, new CompletableFuture<>());
+        if (!running) {
+            request.result().completeExceptionally(new IllegalStateException("입장 처리 배치가 동작 중이 아닙니다."));
+            return request.result();
+        }
+
+        queue.add(request);
+        return request.result();
+    }
+
+    private void run() {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                Request first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) { continue; }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Request next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) { break; }
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failAll(batch, e);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 모인 요청을 하나의 트랜잭션으로 반영하고, 커밋이 끝난 뒤에 요청별 결과를 알려준다.
+     */
+    void commit(List<Request> batch) {
+        if (batch.isEmpty()) { return; }
+
+        Map<Long, List<Request>> requestsByEvent = batch.stream()
+                .collect(Collectors.groupingBy(Request::eventId, LinkedHashMap::new, Collectors.toList()));
+        Map<Request, Boolean> results = new HashMap<>();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                results.clear();
+                List<Long> eventIds = new ArrayList<>(requestsByEvent.keySet());
+                List<Object[]> args = eventIds.stream()
+                        .map(eventId -> toBatchArgs(eventId, requestsByEvent.get(eventId)))
+                        .toList();
+
+                int[] updateCounts = jdbcTemplate.batchUpdate(BATCH_UPDATE_SQL, args);
+                for (int i = 0; i < eventIds.size(); i++) {
+                    List<Request> requests = requestsByEvent.get(eventIds.get(i));
+                    if (updateCounts[i] == 1) {
+                        requests.forEach(request -> results.put(request, true));
+                    } else {
+                        // 합친 증감분으로는 정원 조건을 못 맞춤 -> 도착 순서대로 한 건씩 판정
+                        requests.forEach(request -> results.put(request, applyOne(request)));
+                    }
+                }
+            });
+        } catch (Exception e) {
+            log.warn("입장/퇴장 배치 반영 실패 - 요청 수: {}", batch.size(), e);
+            failAll(batch, e);
+            return;
+        }
+
+        results.forEach((request, accepted) -> request.result().complete(accepted));
+        publishDeltas(batch, results);
+    }
+
+    /**
+     * 커밋된 증감분만 이벤트별로 합쳐서 알린다. (실시간 인원 스트림용)
+     */
+    private void publishDeltas(List<Request> batch, Map<Request, Boolean> results) {
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        batch.stream()
+                .filter(request -> Boolean.TRUE.equals(results.get(request)))
+                .forEach(request -> deltas.merge(request.eventId(), request.delta(), Integer::sum));
+
+        deltas.forEach((eventId, delta) -> {
+            if (delta != 0) {
+                eventPublisher.publishEvent(OccupancyDelta.of(eventId, delta));
+            }
+        });
+    }
+
+    private Object[] toBatchArgs(Long eventId, List<Request> requests) {
+        int delta = requests.stream().mapToInt(Request::delta).sum();
+        boolean hasCheckIn = requests.stream().anyMatch(request -> request.delta() > 0);
+
+        return new Object[]{delta, eventId, delta, hasCheckIn ? 1 : 0};
+    }
+
+    private boolean applyOne(Request request) {
+        int updated = request.delta() > 0
+                ? eventRepository.checkIn(request.eventId())
+                : eventRepository.checkOut(request.eventId());
+
+        return updated == 1;
+    }
+
+    private List<Request> drain() {
+        List<Request> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        return remaining;
+    }
+
+    private void failAll(Collection<Request> requests, Throwable cause) {
+        requests.forEach(request -> request.result().completeExceptionally(cause));
+    }
+
+
+    record Request(Long eventId, int delta, CompletableFuture<Boolean> result) {}
+}
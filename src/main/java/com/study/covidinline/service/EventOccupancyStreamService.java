@@ -0,0 +1,243 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.dto.OccupancyDelta;
+import com.study.covidinline.dto.OccupancyResponse;
+import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 이벤트 현재 인원 변화를 SSE 로 내려주는 구독 관리.
+ * 구독자마다 이벤트별 증감분을 합쳐 두었다가(coalescing) 주기적으로 구독자별 보낼 묶음 queue 에 넣고, 전송은 sender pool 이 한다.
+ * 주기 작업은 queue 에 넣기만 하므로 막히지 않고, 한 구독자는 sender 를 한 번에 하나만 쓴다.
+ * queue 가 가득 찬 느린 구독자는 증감분을 계속 합쳐 두다가, 계속 밀리면 연결을 끊어서 잡고 있던 sender 도 풀어 준다.
+ */
+@Slf4j
+@Service
+public class EventOccupancyStreamService {
+
+    private final EventRepository eventRepository;
+    private final long timeoutMillis;
+    private final int maxSkippedRounds;
+    private final int queueCapacity;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender;
+
+    public EventOccupancyStreamService(
+            EventRepository eventRepository,
+            @Value("${covidinline.occupancy.stream-timeout-ms:1800000}") long timeoutMillis,
+            @Value("${covidinline.occupancy.stream-max-skipped-rounds:10}") int maxSkippedRounds,
+            @Value("${covidinline.occupancy.stream-sender-threads:4}") int senderThreads,
+            @Value("${covidinline.occupancy.stream-queue-capacity:16}") int queueCapacity
+    ) {
+        this.eventRepository = eventRepository;
+        this.timeoutMillis = timeoutMillis;
+        this.maxSkippedRounds = Math.max(1, maxSkippedRounds);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.sender = Executors.newFixedThreadPool(Math.max(1, senderThreads));
+    }
+
+    public SseEmitter subscribeEvent(Long eventId) {
+        return subscribe(() -> findOccupancy(eventId)
+                .map(List::of)
+                .orElseThrow(() -> new GeneralException(ErrorCode.NOT_FOUND)));
+    }
+
+    public SseEmitter subscribePlace(Long placeId) {
+        return subscribe(() -> findOccupanciesByPlace(placeId));
+    }
+
+    @EventListener
+    public void onOccupancyChanged(OccupancyDelta occupancyDelta) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.add(occupancyDelta);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${covidinline.occupancy.stream-interval-ms:1000}")
+    public void dispatch() {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.isBound()) { continue; }
+
+            if (subscriber.hasPending()) {
+                if (subscriber.outbox.remainingCapacity() == 0) {
+                    // 보낼 묶음이 밀려 있음 -> 이번 주기는 건너뛰고 증감분은 계속 합쳐 둔다
+                    if (subscriber.skippedRounds.incrementAndGet() >= maxSkippedRounds) {
+                        log.debug("느린 구독자 연결 종료 - events: {}", subscriber.eventIds);
+                        remove(subscriber);
+                        subscriber.emitter.complete();
+                    }
+                    continue;
+                }
+
+                subscriber.skippedRounds.set(0);
+                List<OccupancyDelta> deltas = subscriber.drain();
+                if (!deltas.isEmpty()) {
+                    subscriber.outbox.offer(deltas);
+                }
+            }
+
+            schedule(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    int pendingDeltaCount() {
+        return subscribers.stream().mapToInt(subscriber -> subscriber.pendingDeltas.size()).sum();
+    }
+
+    private SseEmitter subscribe(Supplier<List<OccupancyResponse>> snapshotLoader) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+
+        // 스냅샷을 읽는 사이의 증감분을 놓치지 않도록 먼저 등록해서 모아 두고, 스냅샷을 읽은 뒤 구독한 이벤트 것만 남긴다
+        // 증감분은 커밋 뒤에 알려지므로, 스냅샷에 이미 들어간 증감분이 한 번 더 올 수는 있다
+        subscribers.add(subscriber);
+        List<OccupancyResponse> snapshot;
+        try {
+            snapshot = snapshotLoader.get();
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        try {
+            // 처음 연결하면 현재 인원을 한 번 보내고, 이후로는 증감분만 보낸다
+            emitter.send(SseEmitter.event()
+                    .name("snapshot")
+                    .data(snapshot));
+            subscriber.bind(snapshot.stream().map(OccupancyResponse::eventId).toList());
+        } catch (IOException e) {
+            remove(subscriber);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.outbox.isEmpty() || !subscriber.inFlight.compareAndSet(false, true)) { return; }
+
+        try {
+            sender.execute(() -> send(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.inFlight.set(false);
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            List<OccupancyDelta> deltas;
+            while ((deltas = subscriber.outbox.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event().name("occupancy").data(deltas));
+            }
+        } catch (Exception e) {
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.inFlight.set(false);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    private Optional<OccupancyResponse> findOccupancy(Long eventId) {
+        try {
+            return eventRepository.findOccupancyById(eventId);
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    private List<OccupancyResponse> findOccupanciesByPlace(Long placeId) {
+        try {
+            return eventRepository.findOccupanciesByPlaceId(placeId);
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+
+    /**
+     * 구독자별 대기 중인 증감분과 보낼 묶음.
+     * 증감분은 구독한 이벤트 수만큼만 key 가 생기고 보낼 묶음은 queue 크기로 막혀 있으므로, 밀려도 메모리가 늘지 않는다.
+     * 스냅샷을 읽기 전(eventIds 가 정해지기 전)에는 모든 이벤트의 증감분을 잠깐 모아 둔다.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private volatile Set<Long> eventIds;
+        private final Map<Long, Integer> pendingDeltas = new ConcurrentHashMap<>();
+        private final BlockingQueue<List<OccupancyDelta>> outbox;
+        private final AtomicBoolean inFlight = new AtomicBoolean();
+        private final AtomicInteger skippedRounds = new AtomicInteger();
+
+        private Subscriber(SseEmitter emitter, int queueCapacity) {
+            this.emitter = emitter;
+            this.outbox = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        void add(OccupancyDelta occupancyDelta) {
+            Set<Long> subscribed = eventIds;
+            if (subscribed == null || subscribed.contains(occupancyDelta.eventId())) {
+                pendingDeltas.merge(occupancyDelta.eventId(), occupancyDelta.delta(), Integer::sum);
+            }
+        }
+
+        void bind(Collection<Long> subscribedEventIds) {
+            eventIds = Set.copyOf(subscribedEventIds);
+            pendingDeltas.keySet().retainAll(eventIds);
+        }
+
+        boolean isBound() {
+            return eventIds != null;
+        }
+
+        boolean hasPending() {
+            return !pendingDeltas.isEmpty();
+        }
+
+        List<OccupancyDelta> drain() {
+            List<OccupancyDelta> deltas = new ArrayList<>();
+            for (Long eventId : pendingDeltas.keySet()) {
+                Integer delta = pendingDeltas.remove(eventId);
+                if (delta != null && delta != 0) {
+                    deltas.add(OccupancyDelta.of(eventId, delta));
+                }
+            }
+
+            return deltas;
+        }
+    }
+}
@@ -1,36 +1,67 @@
 package com.study.covidinline.service;
 
+import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Predicate;
+import com.study.covidinline.config.CacheConfig;
+import com.study.covidinline.constant.ChangeType;
 import com.study.covidinline.constant.ErrorCode;
 import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.domain.Event;
 import com.study.covidinline.domain.Place;
+import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventConflictResponse;
 import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.EventViewCursor;
 import com.study.covidinline.dto.EventViewResponse;
+import com.study.covidinline.dto.EventViewSliceResponse;
 import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.index.IntervalSweep;
 import com.study.covidinline.repository.EventRepository;
 import com.study.covidinline.repository.PlaceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class EventService {
 
+    private static final int READ_BACK_SIZE = 1000;
+    private static final int IN_CHUNK_SIZE = 1000;
+
     private final EventRepository eventRepository;
     private final PlaceRepository placeRepository;
+    private final PlaceOccupancyService placeOccupancyService;
+    private final EventWaitlistService eventWaitlistService;
+    private final OptimisticLockRetrier optimisticLockRetrier;
+    private final ListingResultCache listingResultCache;
+    private final NameSearchIndex nameSearchIndex;
+    private final EventIntervalIndex eventIntervalIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<EventDTO> getEvents(Predicate predicate) {
         try {
-            return StreamSupport.stream(eventRepository.findAll(predicate).spliterator(), false)
-                    .map(EventDTO::of)
-                    .toList();
+            // 캐시 key 는 원래 조건으로 두고, DB 조회만 색인으로 바꾼 조건으로 한다
+            return listingResultCache.getEvents(predicate, () -> eventRepository.findEventDTOs(nameSearchIndex.rewrite(predicate)));
         } catch (Exception e) {
             throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
         }
@@ -46,6 +77,7 @@ public class EventService {
     ) {
         try {
             return eventRepository.findEventViewPageBySearchParams(
+                    nameSearchIndex.findEventIds(placeName, eventName).orElse(null),
                     placeName,
                     eventName,
                     eventStatus,
@@ -58,6 +90,87 @@ public class EventService {
         }
     }
 
+    /**
+     * keyset 페이징 조회. cursor 는 이전 응답의 nextCursor 이고, 비어 있으면 첫 페이지.
+     */
+    public EventViewSliceResponse getEventViewSlice(
+            String placeName,
+            String eventName,
+            EventStatus eventStatus,
+            LocalDateTime eventStartDatetime,
+            LocalDateTime eventEndDatetime,
+            String cursor,
+            int size
+    ) {
+        EventViewCursor eventViewCursor = EventViewCursor.decode(cursor);
+
+        try {
+            return eventRepository.findEventViewSliceBySearchParams(
+                    nameSearchIndex.findEventIds(placeName, eventName).orElse(null),
+                    placeName,
+                    eventName,
+                    eventStatus,
+                    eventStartDatetime,
+                    eventEndDatetime,
+                    eventViewCursor,
+                    size
+            );
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    /**
+     * 시각 at 에 진행 중인 이벤트들을 keyset 페이징으로. 시간 색인에서 id 를 찾고 DB 에서는 PK 로만 읽는다.
+     */
+    public EventViewSliceResponse getLiveEventViews(LocalDateTime at, String cursor, int size) {
+        EventViewCursor eventViewCursor = EventViewCursor.decode(cursor);
+
+        try {
+            return findEventViewSlice(
+                    eventIntervalIndex.findLiveEventIds(at),
+                    QEvent.event.eventStartDatetime.loe(at).and(QEvent.event.eventEndDatetime.gt(at)),
+                    eventViewCursor,
+                    size
+            );
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    /**
+     * [from, to) 시간대와 겹치는 이벤트들을 keyset 페이징으로.
+     */
+    public EventViewSliceResponse getOverlappingEventViews(LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        EventViewCursor eventViewCursor = EventViewCursor.decode(cursor);
+
+        try {
+            return findEventViewSlice(
+                    eventIntervalIndex.findEventIds(from, to),
+                    QEvent.event.eventStartDatetime.lt(to).and(QEvent.event.eventEndDatetime.gt(from)),
+                    eventViewCursor,
+                    size
+            );
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    /**
+     * 모든 장소에서 시간이 겹치는 이벤트 쌍. 관리자가 대량 등록한 일정을 검증할 때 쓴다.
+     */
+    public List<EventConflictResponse> getEventConflicts() {
+        try {
+            return eventIntervalIndex.findAllConflicts();
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    /**
+     * id 로 읽은 결과를 캐시한다. 같은 id 로 동시에 여러 요청이 와도 DB 조회는 한 번만 한다. (sync)
+     */
+    @Cacheable(cacheNames = CacheConfig.EVENTS, key = "#eventId", condition = "#eventId != null", sync = true)
     public Optional<EventDTO> getEvent(Long eventId) {
         try {
             return eventRepository.findById(eventId).map(EventDTO::of);
@@ -67,45 +180,331 @@ public class EventService {
     }
 
     public boolean createEvent(EventDTO eventDTO) {
+        if (eventDTO == null) {
+            return false;
+        }
+
+        Set<Long> placeIds = eventDTO.placeDTO() == null ? Set.of() : Set.of(eventDTO.placeDTO().id());
+        return withPlacesLocked(placeIds, places -> {
+            if (eventDTO.placeDTO() != null) {
+                checkTimeConflict(
+                        null,
+                        eventDTO.placeDTO().id(),
+                        eventDTO.eventStatus(),
+                        eventDTO.eventStartDatetime(),
+                        eventDTO.eventEndDatetime()
+                );
+            }
+
+            try {
+                Place place = placeRepository.findById(eventDTO.placeDTO().id())
+                        .orElseThrow(() -> new GeneralException(ErrorCode.NOT_FOUND));
+                Event event = eventDTO.toEntity(place);
+                eventRepository.save(event);
+                eventPublisher.publishEvent(EventChange.of(ChangeType.CREATED, event.getId(), event));
+                return true;
+            } catch (Exception e) {
+                throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+            }
+        });
+    }
+
+    /**
+     * 이벤트 여러 개를 한 번에 만든다. 장소는 잠그면서 한 번에 읽고, 저장은 JDBC batch insert 로 한다.
+     * 기존 이벤트나 요청 안의 다른 이벤트와 같은 장소에서 시간이 겹치면 하나도 만들지 않는다.
+     *
+     * @return 만든 이벤트 id 들 (요청 순서)
+     */
+    public List<Long> createEvents(List<EventDTO> eventDTOs) {
+        if (eventDTOs == null || eventDTOs.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> placeIds = eventDTOs.stream().map(eventDTO -> eventDTO.placeDTO().id()).collect(Collectors.toSet());
+        return withPlacesLocked(placeIds, places -> {
+            // 없는 장소는 데이터 접근 에러로 감싸지 않고 그대로 알려준다
+            if (places.size() < placeIds.size()) {
+                throw new GeneralException(ErrorCode.NOT_FOUND);
+            }
+            checkTimeConflicts(eventDTOs);
+
+            try {
+                List<Event> events = eventRepository.insertAll(eventDTOs.stream()
+                        .map(eventDTO -> eventDTO.toEntity(places.get(eventDTO.placeDTO().id())))
+                        .toList());
+                eventPublisher.publishEvent(EventBatchChange.of(events.stream()
+                        .map(event -> EventChange.of(ChangeType.CREATED, event.getId(), event))
+                        .toList()));
+
+                return events.stream().map(Event::getId).toList();
+            } catch (Exception e) {
+                throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+            }
+        });
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId", condition = "#eventId != null")
+    public boolean modifyEvent(Long eventId, EventDTO dto) {
+        if (eventId == null || dto == null) {
+            return false;
+        }
+
+        try {
+            // 엔티티 대신 version 만 읽고, 바뀐 컬럼만 version 조건을 건 UPDATE 문 하나로 반영한다
+            // 그 사이 다른 요청이 고쳤으면 트랜잭션을 새로 열어 version 을 다시 읽고 재시도
+            optimisticLockRetrier.execute("event", eventId, () -> transactionTemplate.execute(status -> {
+                placeRepository.findForUpdateByEventId(eventId);
+                // 장소는 바꿀 수 없으므로 상태, 시간만 새 값으로 검사한다
+                checkTimeConflict(eventId, null, dto.eventStatus(), dto.eventStartDatetime(), dto.eventEndDatetime());
+
+                long updated = eventRepository.findVersionById(eventId)
+                        .map(version -> eventRepository.updatePartially(eventId, version, dto))
+                        .orElse(0L);
+                if (updated > 0) {
+                    // 색인, 캐시 등 변경 알림을 받는 쪽은 바뀐 뒤의 상태가 필요하므로 이때만 다시 읽는다
+                    eventRepository.findById(eventId)
+                            .ifPresent(event -> eventPublisher.publishEvent(EventChange.of(ChangeType.MODIFIED, eventId, event)));
+                }
+
+                return updated;
+            }));
+
+            return true;
+        } catch (GeneralException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    /**
+     * predicate 에 맞는 이벤트들의 상태나 정원을 한꺼번에 바꾼다. (장소 전체 취소, 하루 정원 변경 등)
+     * 대상은 DTO 로 한 번에 읽고, 반영은 대상 장소들을 잠근 한 트랜잭션의 set 단위 UPDATE 로 한다.
+     * 캐시, 색인, 카운터가 따라오도록 다시 읽은 묶음마다 한 번씩 변경 알림(EventBatchChange)을 보낸다. 조건 없이 전체를 바꾸는 요청은 받지 않는다.
+     *
+     * @return 바뀐 이벤트 수
+     */
+    public long modifyEvents(Predicate predicate, EventStatus eventStatus, Integer capacity) {
+        if (predicate == null || ExpressionUtils.extract(predicate) == null || (eventStatus == null && capacity == null)) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST);
+        }
+
+        List<EventDTO> targets;
         try {
-            if (eventDTO == null) {
+            targets = eventRepository.findEventDTOs(nameSearchIndex.rewrite(predicate));
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> placeIds = targets.stream()
+                .filter(target -> target.placeDTO() != null)
+                .map(target -> target.placeDTO().id())
+                .collect(Collectors.toSet());
+        return withPlacesLocked(placeIds, places -> {
+            if (eventStatus != null) {
+                checkTimeConflicts(targets, eventStatus);
+            }
+
+            try {
+                List<Long> eventIds = targets.stream().map(EventDTO::id).toList();
+                long updated = eventRepository.updateAllPartially(
+                        eventIds,
+                        EventDTO.of(null, null, null, eventStatus, null, null, null, capacity, null, null, null)
+                );
+
+                // 변경 알림을 받는 쪽은 바뀐 뒤의 상태가 필요하므로, 장소까지 fetch join 으로 나눠서 다시 읽는다
+                for (int from = 0; from < eventIds.size(); from += READ_BACK_SIZE) {
+                    eventPublisher.publishEvent(EventBatchChange.of(
+                            eventRepository.findAllWithPlace(QEvent.event.id.in(eventIds.subList(from, Math.min(from + READ_BACK_SIZE, eventIds.size())))).stream()
+                                    .map(event -> EventChange.of(ChangeType.MODIFIED, event.getId(), event))
+                                    .toList()
+                    ));
+                }
+
+                return updated;
+            } catch (Exception e) {
+                throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+            }
+        });
+    }
+
+    public boolean checkIn(Long eventId) {
+        try {
+            if (eventId == null) {
                 return false;
             }
 
-            Place place = placeRepository.findById(eventDTO.placeDTO().id())
-                    .orElseThrow(() -> new GeneralException(ErrorCode.NOT_FOUND));
-            eventRepository.save(eventDTO.toEntity(place));
-            return true;
+            return placeOccupancyService.checkIn(eventId).join();
         } catch (Exception e) {
             throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
         }
     }
 
-    public boolean modifyEvent(Long eventId, EventDTO dto) {
+    public boolean checkOut(Long eventId) {
         try {
-            if (eventId == null || dto == null) {
+            if (eventId == null) {
                 return false;
             }
 
-            eventRepository.findById(eventId)
-                    .ifPresent(event -> eventRepository.save(dto.updateEntity(event)));
+            boolean result = placeOccupancyService.checkOut(eventId).join();
+            if (result) {
+                // 자리가 났으니 대기자 입장 시도
+                eventWaitlistService.promote(eventId);
+            }
 
-            return true;
+            return result;
         } catch (Exception e) {
             throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
         }
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId", condition = "#eventId != null")
     public boolean removeEvent(Long eventId) {
         try {
             if (eventId == null) {
                 return false;
             }
 
-            eventRepository.deleteById(eventId);
+            // 대기열 행이 이벤트를 참조하므로 대기열부터 지운다
+            if (eventRepository.deleteWithDependents(eventId) == 0) {
+                return false;
+            }
+
+            eventPublisher.publishEvent(EventChange.of(ChangeType.REMOVED, eventId, null));
             return true;
         } catch (Exception e) {
             throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
         }
     }
+
+    /**
+     * 장소 행을 잠근(select ... for update) 한 트랜잭션 안에서 시간 겹침 검사와 저장을 한다.
+     * 같은 장소에 대한 요청은 여기서 줄을 서므로, 검사한 뒤 저장하기 전에 다른 요청이 끼어들지 못한다.
+     * 검사하는 색인은 알림을 받은 장소를 커밋 뒤 반영할 때까지 DB 로 검사하므로, action 은 알림까지 잠금 안에서 보내야 한다.
+     *
+     * @param action 잠근 장소들(id 별)을 받는다. 실패는 GeneralException 으로 던진다
+     */
+    private <T> T withPlacesLocked(Collection<Long> placeIds, Function<Map<Long, Place>, T> action) {
+        try {
+            return transactionTemplate.execute(status -> action.apply(placeIds.isEmpty()
+                    ? Map.of()
+                    : placeRepository.findAllForUpdate(placeIds).stream().collect(Collectors.toMap(Place::getId, Function.identity()))));
+        } catch (GeneralException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    /**
+     * 같은 장소에서 시간이 겹치는 이벤트가 있으면 생성, 수정을 거절한다.
+     */
+    private void checkTimeConflict(Long eventId, Long placeId, EventStatus status, LocalDateTime start, LocalDateTime end) {
+        Optional<Long> conflict;
+        try {
+            conflict = eventIntervalIndex.findConflict(eventId, placeId, status, start, end);
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+
+        conflict.ifPresent(conflictingEventId -> {
+            throw new GeneralException(
+                    ErrorCode.EVENT_TIME_CONFLICT,
+                    ErrorCode.EVENT_TIME_CONFLICT.getMessage() + " - eventId: " + conflictingEventId
+            );
+        });
+    }
+
+    private void checkTimeConflicts(List<EventDTO> eventDTOs) {
+        for (EventDTO eventDTO : eventDTOs) {
+            if (eventDTO != null && eventDTO.placeDTO() != null) {
+                checkTimeConflict(
+                        null,
+                        eventDTO.placeDTO().id(),
+                        eventDTO.eventStatus(),
+                        eventDTO.eventStartDatetime(),
+                        eventDTO.eventEndDatetime()
+                );
+            }
+        }
+
+        List<IntervalSweep.Overlap> overlaps = eventIntervalIndex.findConflictsAmong(eventDTOs);
+        if (!overlaps.isEmpty()) {
+            throw new GeneralException(
+                    ErrorCode.EVENT_TIME_CONFLICT,
+                    ErrorCode.EVENT_TIME_CONFLICT.getMessage() + " - index: " + overlaps.stream()
+                            .map(overlap -> overlap.id() + ", " + overlap.otherId())
+                            .collect(Collectors.joining(" / "))
+            );
+        }
+    }
+
+    /**
+     * 여러 이벤트를 한 상태로 바꿀 때, 기존 이벤트와 겹치는지와 바꿀 이벤트들끼리 겹치는지 본다.
+     */
+    private void checkTimeConflicts(List<EventDTO> targets, EventStatus eventStatus) {
+        for (EventDTO target : targets) {
+            checkTimeConflict(target.id(), null, eventStatus, null, null);
+        }
+
+        List<EventDTO> changed = targets.stream()
+                .map(target -> EventDTO.of(
+                        target.id(),
+                        target.placeDTO(),
+                        target.eventName(),
+                        eventStatus,
+                        target.eventStartDatetime(),
+                        target.eventEndDatetime(),
+                        target.currentNumberOfPeople(),
+                        target.capacity(),
+                        target.memo(),
+                        target.createdAt(),
+                        target.modifiedAt()
+                ))
+                .toList();
+        List<IntervalSweep.Overlap> overlaps = eventIntervalIndex.findConflictsAmong(changed);
+        if (!overlaps.isEmpty()) {
+            throw new GeneralException(
+                    ErrorCode.EVENT_TIME_CONFLICT,
+                    ErrorCode.EVENT_TIME_CONFLICT.getMessage() + " - eventId: " + overlaps.stream()
+                            .map(overlap -> changed.get((int) overlap.id()).id() + ", " + changed.get((int) overlap.otherId()).id())
+                            .collect(Collectors.joining(" / "))
+            );
+        }
+    }
+
+    /**
+     * 색인이 준비되지 않았으면 시간 조건으로 DB 에서 찾는다.
+     * 색인에서 찾은 id 는 IN 목록이 길어지지 않도록 나눠서 읽고, 묶음마다 한 페이지 분량까지만 읽어서 합친다.
+     */
+    private EventViewSliceResponse findEventViewSlice(Optional<List<Long>> eventIds, Predicate fallback, EventViewCursor cursor, int size) {
+        if (eventIds.isEmpty()) {
+            return eventRepository.findEventViewSlice(fallback, cursor, size);
+        }
+
+        List<Long> ids = eventIds.get();
+        List<EventViewResponse> events = new ArrayList<>();
+        boolean hasNext = false;
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            EventViewSliceResponse chunk = eventRepository.findEventViewSlice(
+                    QEvent.event.id.in(ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()))),
+                    cursor,
+                    size
+            );
+            events.addAll(chunk.events());
+            hasNext |= chunk.hasNext();
+        }
+
+        events.sort(Comparator.comparing(EventViewResponse::eventStartDatetime).thenComparing(EventViewResponse::id));
+        if (events.size() > size) {
+            hasNext = true;
+            events = events.subList(0, size);
+        }
+        String nextCursor = hasNext ? EventViewCursor.from(events.get(events.size() - 1)).encode() : null;
+
+        return EventViewSliceResponse.of(List.copyOf(events), nextCursor, hasNext);
+    }
 }
@@ -0,0 +1,176 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 시작/종료 시각에 맞춰 이벤트 상태를 자동으로 바꾼다. (PENDING -> OPENED -> CLOSED)
+ * 테이블 전체를 주기적으로 UPDATE 하지 않고, 전환 예정 시각을 타이밍 휠({@link HashedTimingWheel})에 넣어 두었다가
+ * tick 마다 마감된 전환만 모아서 상태별 bulk UPDATE 로 한 번에 반영한다.
+ *
+ * 앱이 뜰 때 아직 끝나지 않은(PENDING, OPENED) 이벤트로 채우고, 이후에는 변경 알림(EventChange)으로 다시 예약한다.
+ * 반영한 이벤트는 tick 마다 한 번의 묶음 변경 알림(EventBatchChange)으로 발행해서 캐시, 색인, 장소 인원도 함께 갱신되게 한다.
+ */
+@Slf4j
+@Service
+public class EventStatusScheduler {
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final HashedTimingWheel<Transition> wheel;
+
+    public EventStatusScheduler(
+            EventRepository eventRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${covidinline.event-status.tick-ms:1000}") long tickMillis,
+            @Value("${covidinline.event-status.wheel-size:512}") int wheelSize,
+            @Value("${covidinline.event-status.batch-size:500}") int batchSize
+    ) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(1, batchSize);
+        this.wheel = new HashedTimingWheel<>(Math.max(1, tickMillis), wheelSize, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            synchronized (wheel) {
+                wheel.clear();
+                eventRepository.findEventDTOs(QEvent.event.eventStatus.in(EventStatus.PENDING, EventStatus.OPENED))
+                        .forEach(event -> schedule(event.id(), event.eventStatus(), event.eventStartDatetime(), event.eventEndDatetime()));
+
+                log.info("이벤트 상태 전환 예약 완료 - transitions: {}", wheel.size());
+            }
+        } catch (Exception e) {
+            log.warn("이벤트 상태 전환 예약 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${covidinline.event-status.tick-ms:1000}")
+    public void tick() {
+        tick(System.currentTimeMillis());
+    }
+
+    void tick(long nowMillis) {
+        List<Transition> due;
+        synchronized (wheel) {
+            due = wheel.advance(nowMillis);
+        }
+        if (due.isEmpty()) { return; }
+
+        try {
+            apply(due);
+        } catch (Exception e) {
+            // 다음 tick 에 다시 시도
+            log.warn("이벤트 상태 전환 반영 실패 - transitions: {}", due.size(), e);
+            synchronized (wheel) {
+                due.forEach(transition -> wheel.schedule(transition, nowMillis));
+            }
+        }
+    }
+
+    @EventListener
+    public void onEventChanged(EventChange change) {
+        if (change.eventId() == null) { return; }
+
+        synchronized (wheel) {
+            wheel.cancel(new Transition(change.eventId(), EventStatus.OPENED));
+            wheel.cancel(new Transition(change.eventId(), EventStatus.CLOSED));
+
+            Event event = change.event();
+            if (event != null) {
+                schedule(change.eventId(), event.getEventStatus(), event.getEventStartDatetime(), event.getEventEndDatetime());
+            }
+        }
+    }
+
+    @EventListener
+    public void onEventsChanged(EventBatchChange batch) {
+        synchronized (wheel) {
+            batch.changes().forEach(this::onEventChanged);
+        }
+    }
+
+    int scheduledCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    /**
+     * 여는 전환을 먼저 반영한다. 이미 끝난 이벤트는 같은 tick 에 닫는 전환까지 이어서 반영된다.
+     */
+    private void apply(List<Transition> due) {
+        Set<Long> opening = new TreeSet<>();
+        Set<Long> closing = new TreeSet<>();
+        due.forEach(transition -> (transition.eventStatus() == EventStatus.OPENED ? opening : closing).add(transition.eventId()));
+
+        int[] updated = new int[2];
+        transactionTemplate.executeWithoutResult(status -> {
+            for (List<Long> ids : partition(opening)) {
+                updated[0] += eventRepository.updateEventStatus(ids, List.of(EventStatus.PENDING), EventStatus.OPENED);
+            }
+            for (List<Long> ids : partition(closing)) {
+                updated[1] += eventRepository.updateEventStatus(ids, List.of(EventStatus.PENDING, EventStatus.OPENED), EventStatus.CLOSED);
+            }
+        });
+        log.debug("이벤트 상태 자동 전환 - opened: {}, closed: {}", updated[0], updated[1]);
+
+        Set<Long> eventIds = new LinkedHashSet<>(opening);
+        eventIds.addAll(closing);
+        eventPublisher.publishEvent(EventBatchChange.of(eventRepository.findAllById(eventIds).stream()
+                .map(event -> EventChange.of(ChangeType.MODIFIED, event.getId(), event))
+                .toList()));
+    }
+
+    private List<List<Long>> partition(Collection<Long> ids) {
+        List<Long> list = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += batchSize) {
+            chunks.add(list.subList(from, Math.min(list.size(), from + batchSize)));
+        }
+
+        return chunks;
+    }
+
+    private void schedule(Long eventId, EventStatus eventStatus, LocalDateTime start, LocalDateTime end) {
+        if (eventStatus == EventStatus.PENDING && start != null) {
+            wheel.schedule(new Transition(eventId, EventStatus.OPENED), toMillis(start));
+        }
+        if ((eventStatus == EventStatus.PENDING || eventStatus == EventStatus.OPENED) && end != null) {
+            wheel.schedule(new Transition(eventId, EventStatus.CLOSED), toMillis(end));
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+
+    /**
+     * eventId 이벤트를 eventStatus 로 바꾸는 예약.
+     */
+    record Transition(Long eventId, EventStatus eventStatus) {}
+}
@@ -0,0 +1,272 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.constant.WaitlistStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.WaitlistEntry;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.WaitlistResponse;
+import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.repository.EventRepository;
+import com.study.covidinline.repository.WaitlistEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * 정원이 찬 이벤트의 대기열.
+ * 이벤트별로 크기가 제한된 FIFO 큐를 메모리에 두고, 대기 정보는 waitlist_entry 테이블에 함께 저장한다.
+ * 퇴장하거나 정원이 늘어서 자리가 나면 맨 앞의 대기자를 자동으로 입장시키고, 기다리는 클라이언트(long-poll)에 알려준다.
+ * 자리가 있는 열린 이벤트에는 대기하지 않고 바로 입장하도록 등록을 받지 않는다.
+ * 이벤트가 지워지면(EventChange, EventBatchChange 의 REMOVED) 그 대기열을 버리고 기다리던 클라이언트에 취소로 알려준다.
+ */
+@Slf4j
+@Service
+public class EventWaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final EventRepository eventRepository;
+    private final PlaceOccupancyService placeOccupancyService;
+    private final int maxSizePerEvent;
+
+    private final Map<Long, BlockingDeque<Long>> queues = new ConcurrentHashMap<>();
+    private final Map<Long, Set<CompletableFuture<WaitlistResponse>>> promotions = new ConcurrentHashMap<>();
+
+    public EventWaitlistService(
+            WaitlistEntryRepository waitlistEntryRepository,
+            EventRepository eventRepository,
+            PlaceOccupancyService placeOccupancyService,
+            @Value("${covidinline.waitlist.max-size-per-event:100}") int maxSizePerEvent
+    ) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.eventRepository = eventRepository;
+        this.placeOccupancyService = placeOccupancyService;
+        this.maxSizePerEvent = Math.max(1, maxSizePerEvent);
+    }
+
+    /**
+     * 재시작 시 저장된 대기 정보로 메모리 대기열을 다시 만든다.
+     * 읽지 못한 대기 정보는 건너뛰고, 아예 읽지 못하면 빈 대기열로 시작한다. (대기열 때문에 서버가 뜨지 못하는 일은 없게)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            queues.clear();
+            waitlistEntryRepository.findAllByWaitlistStatusOrderByIdAsc(WaitlistStatus.WAITING)
+                    .forEach(this::restore);
+
+            log.info("대기열 복구 완료 - events: {}", queues.size());
+        } catch (Exception e) {
+            queues.clear();
+            log.warn("대기열 복구 실패, 빈 대기열로 시작함", e);
+        }
+    }
+
+    public WaitlistResponse join(Long eventId, String phoneNumber) {
+        Event event = findEvent(eventId).orElseThrow(() -> new GeneralException(ErrorCode.NOT_FOUND));
+        if (freeSeats(event) > 0) {
+            throw new GeneralException(ErrorCode.WAITLIST_NOT_NEEDED);
+        }
+
+        BlockingDeque<Long> queue = queue(eventId);
+        if (queue.remainingCapacity() == 0) {
+            throw new GeneralException(ErrorCode.WAITLIST_FULL);
+        }
+
+        WaitlistEntry entry = save(WaitlistEntry.of(event, phoneNumber, WaitlistStatus.WAITING));
+
+        if (!queue.offerLast(entry.getId())) {
+            updateStatus(entry.getId(), WaitlistStatus.CANCELLED);
+            throw new GeneralException(ErrorCode.WAITLIST_FULL);
+        }
+
+        return WaitlistResponse.of(entry.getId(), eventId, WaitlistStatus.WAITING, position(queue, entry.getId()));
+    }
+
+    public Optional<WaitlistResponse> getEntry(Long eventId, Long entryId) {
+        BlockingDeque<Long> queue = queues.get(eventId);
+        if (queue != null && queue.contains(entryId)) {
+            return Optional.of(WaitlistResponse.of(entryId, eventId, WaitlistStatus.WAITING, position(queue, entryId)));
+        }
+
+        try {
+            return waitlistEntryRepository.findById(entryId)
+                    .filter(entry -> entry.getEvent().getId().equals(eventId))
+                    .map(entry -> WaitlistResponse.of(entry.getId(), eventId, entry.getWaitlistStatus(), null));
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    /**
+     * 대기자가 입장하거나 대기를 취소하면 완료되는 future. 기다리는 요청마다 따로 만든다.
+     * 먼저 등록하고 나서 상태를 다시 보므로, 조회와 등록 사이에 끝난 대기도 놓치지 않는다.
+     * 다 기다린 요청은 releasePromotion 으로 future 를 내려놓아야 한다.
+     */
+    public CompletableFuture<WaitlistResponse> awaitPromotion(Long eventId, Long entryId) {
+        CompletableFuture<WaitlistResponse> promotion = new CompletableFuture<>();
+        promotions.compute(entryId, (id, waiters) -> {
+            Set<CompletableFuture<WaitlistResponse>> registered = waiters == null ? ConcurrentHashMap.newKeySet() : waiters;
+            registered.add(promotion);
+            return registered;
+        });
+
+        // 대기열에 없어도 DB 가 WAITING 이면 입장 처리 중이므로 finish 가 알려준다. 행이 없으면 이벤트를 지울 때 함께 지워진 것
+        WaitlistResponse current = getEntry(eventId, entryId)
+                .orElseGet(() -> WaitlistResponse.of(entryId, eventId, WaitlistStatus.CANCELLED, null));
+        if (current.waitlistStatus() != WaitlistStatus.WAITING) {
+            releasePromotion(entryId, promotion);
+            promotion.complete(current);
+        }
+
+        return promotion;
+    }
+
+    public void releasePromotion(Long entryId, CompletableFuture<WaitlistResponse> promotion) {
+        promotions.computeIfPresent(entryId, (id, waiters) -> {
+            waiters.remove(promotion);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    public boolean cancel(Long eventId, Long entryId) {
+        BlockingDeque<Long> queue = queues.get(eventId);
+        if (queue == null || !queue.remove(entryId)) {
+            return false;
+        }
+
+        finish(eventId, entryId, WaitlistStatus.CANCELLED);
+        return true;
+    }
+
+    /**
+     * 퇴장으로 자리가 났을 때 호출. 맨 앞 대기자의 입장을 시도하고, 실패하면 다시 맨 앞에 세운다.
+     */
+    public void promote(Long eventId) {
+        BlockingDeque<Long> queue = queues.get(eventId);
+        Long entryId = queue == null ? null : queue.pollFirst();
+        if (entryId == null) { return; }
+
+        placeOccupancyService.checkIn(eventId).whenCompleteAsync((accepted, e) -> {
+            if (e == null && Boolean.TRUE.equals(accepted)) {
+                finish(eventId, entryId, WaitlistStatus.PROMOTED);
+            } else if (queues.get(eventId) != queue || !queue.offerFirst(entryId)) {
+                // 그 사이 이벤트가 지워졌거나 대기열이 다시 가득 찬 경우
+                finish(eventId, entryId, WaitlistStatus.CANCELLED);
+            }
+        });
+    }
+
+    /**
+     * 정원이 늘거나 이벤트가 열려서 자리가 생기면 빈 자리만큼 대기자를 입장시킨다.
+     * 지워진 이벤트의 대기 정보 행은 이벤트를 지우는 쪽(이벤트 삭제, 장소 삭제)이 이벤트보다 먼저 지우므로,
+     * 여기서는 메모리의 대기열과 기다리던 future 만 정리한다.
+     */
+    @EventListener
+    public void onEventChanged(EventChange change) {
+        if (change.eventId() == null) { return; }
+
+        if (change.changeType() == ChangeType.REMOVED) {
+            BlockingDeque<Long> queue = queues.remove(change.eventId());
+            if (queue == null) { return; }
+
+            queue.forEach(entryId -> complete(entryId, WaitlistResponse.of(entryId, change.eventId(), WaitlistStatus.CANCELLED, null)));
+        } else if (change.event() != null) {
+            BlockingDeque<Long> queue = queues.get(change.eventId());
+            int promotable = queue == null ? 0 : Math.min(freeSeats(change.event()), queue.size());
+            for (int i = 0; i < promotable; i++) {
+                promote(change.eventId());
+            }
+        }
+    }
+
+    @EventListener
+    public void onEventsChanged(EventBatchChange batch) {
+        batch.changes().forEach(this::onEventChanged);
+    }
+
+    private void finish(Long eventId, Long entryId, WaitlistStatus waitlistStatus) {
+        try {
+            updateStatus(entryId, waitlistStatus);
+        } catch (GeneralException e) {
+            log.warn("대기 상태 저장 실패 - entryId: {}, status: {}", entryId, waitlistStatus, e);
+        }
+
+        complete(entryId, WaitlistResponse.of(entryId, eventId, waitlistStatus, null));
+    }
+
+    private void complete(Long entryId, WaitlistResponse response) {
+        Set<CompletableFuture<WaitlistResponse>> waiters = promotions.remove(entryId);
+        if (waiters != null) {
+            waiters.forEach(promotion -> promotion.complete(response));
+        }
+    }
+
+    private static int freeSeats(Event event) {
+        if (event.getEventStatus() != EventStatus.OPENED || event.getCapacity() == null) { return 0; }
+
+        return Math.max(0, event.getCapacity() - Objects.requireNonNullElse(event.getCurrentNumberOfPeople(), 0));
+    }
+
+    private void restore(WaitlistEntry entry) {
+        try {
+            if (!queue(entry.getEvent().getId()).offerLast(entry.getId())) {
+                waitlistEntryRepository.updateWaitlistStatus(entry.getId(), WaitlistStatus.CANCELLED);
+            }
+        } catch (Exception e) {
+            log.warn("대기 정보 복구 실패, 건너뜀 - entryId: {}", entry.getId(), e);
+        }
+    }
+
+    private BlockingDeque<Long> queue(Long eventId) {
+        return queues.computeIfAbsent(eventId, id -> new LinkedBlockingDeque<>(maxSizePerEvent));
+    }
+
+    private int position(BlockingDeque<Long> queue, Long entryId) {
+        int position = 1;
+        for (Long id : queue) {
+            if (id.equals(entryId)) { return position; }
+            position++;
+        }
+
+        return 0;
+    }
+
+    private Optional<Event> findEvent(Long eventId) {
+        try {
+            return eventRepository.findById(eventId);
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    private WaitlistEntry save(WaitlistEntry entry) {
+        try {
+            return waitlistEntryRepository.save(entry);
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+
+    private void updateStatus(Long entryId, WaitlistStatus waitlistStatus) {
+        try {
+            waitlistEntryRepository.updateWaitlistStatus(entryId, waitlistStatus);
+        } catch (Exception e) {
+            throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.study.covidinline.service;
+
+import java.util.*;
+
+/**
+ * 해시 타이밍 휠. 시간을 tick 단위로 나눠 원형 버킷에 예약을 넣어 두고, tick 마다 그 버킷만 본다.
+ * 예약, 취소는 O(1) 이고, 한 tick 에 보는 예약 수는 전체를 버킷 수로 나눈 정도다.
+ * 한 바퀴보다 먼 예약은 같은 버킷에 두었다가 마감 tick 이 되었을 때 꺼낸다.
+ *
+ * 같은 key 로 다시 예약하면 이전 예약을 대신한다. 스레드 안전하지 않으므로 호출하는 쪽에서 잠근다.
+ */
+final class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Map<K, Long>> buckets;
+    private final Map<K, Long> deadlines = new HashMap<>();
+    private long currentTick;
+
+    HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) { throw new IllegalArgumentException("tickMillis must be positive"); }
+
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new HashMap<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * deadlineMillis 가 지난 뒤 첫 tick 에 꺼내지도록 예약한다. 이미 지난 시각이면 다음 tick 에 꺼낸다.
+     */
+    void schedule(K key, long deadlineMillis) {
+        cancel(key);
+
+        long deadlineTick = Math.max(currentTick + 1, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        deadlines.put(key, deadlineTick);
+        buckets.get((int) (deadlineTick & mask)).put(key, deadlineTick);
+    }
+
+    void cancel(K key) {
+        Long deadlineTick = deadlines.remove(key);
+        if (deadlineTick != null) {
+            buckets.get((int) (deadlineTick & mask)).remove(key);
+        }
+    }
+
+    void clear() {
+        deadlines.clear();
+        buckets.forEach(Map::clear);
+    }
+
+    int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * nowMillis 까지 tick 을 진행하고, 그 사이 마감된 key 들을 마감 순서로 돌려준다.
+     * 한 바퀴 이상 밀렸으면 모든 버킷을 한 번씩만 본다.
+     */
+    List<K> advance(long nowMillis) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        if (nowTick <= currentTick) { return List.of(); }
+
+        List<Map.Entry<K, Long>> expired = new ArrayList<>();
+        long ticks = Math.min(nowTick - currentTick, (long) mask + 1);
+        for (long tick = currentTick + 1; tick <= currentTick + ticks; tick++) {
+            Iterator<Map.Entry<K, Long>> iterator = buckets.get((int) (tick & mask)).entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, Long> entry = iterator.next();
+                if (entry.getValue() <= nowTick) {
+                    expired.add(Map.entry(entry.getKey(), entry.getValue()));
+                    deadlines.remove(entry.getKey());
+                    iterator.remove();
+                }
+            }
+        }
+        currentTick = nowTick;
+
+        expired.sort(Map.Entry.comparingByValue());
+        return expired.stream().map(Map.Entry::getKey).toList();
+    }
+}
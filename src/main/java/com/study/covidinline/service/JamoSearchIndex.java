@@ -0,0 +1,132 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.BooleanBuilder;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.PlaceBatchChange;
+import com.study.covidinline.dto.PlaceChange;
+import com.study.covidinline.index.JamoIndex;
+import com.study.covidinline.repository.EventRepository;
+import com.study.covidinline.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 장소(이름, 주소)와 이벤트(이름)의 한글 자모/초성 검색 색인. ({@link JamoIndex})
+ * 앱이 뜰 때 한 번 채우고, 이후에는 변경 알림(EventChange, PlaceChange)으로 갱신한다.
+ * 변경 알림은 트랜잭션이 커밋된 뒤에 반영하므로, 롤백된 변경은 색인에 남지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class JamoSearchIndex {
+
+    private final EventRepository eventRepository;
+    private final PlaceRepository placeRepository;
+
+    private final JamoIndex places = new JamoIndex();
+    private final JamoIndex events = new JamoIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Map<Long, List<String>> placeTexts = new HashMap<>();
+            placeRepository.findPlaceDTOs(new BooleanBuilder())
+                    .forEach(place -> placeTexts.put(place.id(), List.of(place.placeName(), place.address())));
+            places.replaceAll(placeTexts);
+
+            Map<Long, List<String>> eventTexts = new HashMap<>();
+            eventRepository.findEventDTOs(new BooleanBuilder())
+                    .forEach(event -> eventTexts.put(event.id(), List.of(event.eventName())));
+            events.replaceAll(eventTexts);
+
+            log.info("자모 검색 색인 준비 완료 - places: {}, events: {}", places.size(), events.size());
+        } catch (Exception e) {
+            log.warn("자모 검색 색인 준비 실패", e);
+        }
+    }
+
+    public List<Long> searchPlaceIds(String query, int limit) {
+        return places.search(query, limit);
+    }
+
+    public List<Long> searchEventIds(String query, int limit) {
+        return events.search(query, limit);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventChanged(EventChange change) {
+        if (change.eventId() == null) { return; }
+
+        Event event = change.event();
+        if (event == null) {
+            events.remove(change.eventId());
+        } else {
+            events.put(change.eventId(), event.getEventName());
+        }
+    }
+
+    /**
+     * 여러 건을 한 번에 반영해서 색인 상태를 한 번만 바꿔 끼운다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventsChanged(EventBatchChange batch) {
+        Map<Long, List<String>> puts = new HashMap<>();
+        Set<Long> removes = new HashSet<>();
+        for (EventChange change : batch.changes()) {
+            if (change.eventId() == null) { continue; }
+
+            if (change.event() == null) {
+                puts.remove(change.eventId());
+                removes.add(change.eventId());
+            } else {
+                removes.remove(change.eventId());
+                puts.put(change.eventId(), Collections.singletonList(change.event().getEventName()));
+            }
+        }
+
+        events.removeAll(removes);
+        events.putAll(puts);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlaceChanged(PlaceChange change) {
+        if (change.placeId() == null) { return; }
+
+        Place place = change.place();
+        if (place == null) {
+            places.remove(change.placeId());
+        } else {
+            places.put(change.placeId(), place.getPlaceName(), place.getAddress());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlacesChanged(PlaceBatchChange batch) {
+        Map<Long, List<String>> puts = new HashMap<>();
+        Set<Long> removes = new HashSet<>();
+        for (PlaceChange change : batch.changes()) {
+            if (change.placeId() == null) { continue; }
+
+            if (change.place() == null) {
+                puts.remove(change.placeId());
+                removes.add(change.placeId());
+            } else {
+                removes.remove(change.placeId());
+                puts.put(change.placeId(), Arrays.asList(change.place().getPlaceName(), change.place().getAddress()));
+            }
+        }
+
+        places.removeAll(removes);
+        places.putAll(puts);
+    }
+}
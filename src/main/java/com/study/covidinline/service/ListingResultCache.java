@@ -0,0 +1,196 @@
+package com.study.covidinline.service;
+
+import com.querydsl.collections.CollQueryFactory;
+import com.querydsl.core.types.*;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.study.covidinline.config.CacheConfig;
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.domain.QPlace;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.OccupancyDelta;
+import com.study.covidinline.dto.PlaceBatchChange;
+import com.study.covidinline.dto.PlaceChange;
+import com.study.covidinline.dto.PlaceDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * QueryDSL predicate 로 조회한 목록(이벤트, 장소)의 결과 캐시.
+ * 같은 조건이면 순서가 달라도 같은 key 가 되도록 predicate 를 정규화해서 쓴다.
+ * 데이터가 바뀌면 전체를 비우지 않고, 바뀐 데이터가 들어 있거나 새 상태가 조건에 맞는 결과만 버린다.
+ * 한 번에 많은 데이터가 바뀌면(EventBatchChange, PlaceBatchChange) 건마다 모든 결과를 훑는 대신 목록 전체를 비운다.
+ * 변경 알림은 트랜잭션이 커밋된 뒤에 반영한다. 커밋 전에 버리면 그 사이 다른 조회가 옛 데이터를 다시 캐시하고,
+ * 롤백되면 괜히 버린 것이 되기 때문이다. 트랜잭션 밖에서 온 알림은 바로 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ListingResultCache {
+
+    private final CacheManager cacheManager;
+
+    public List<EventDTO> getEvents(Predicate predicate, Supplier<List<EventDTO>> loader) {
+        return get(CacheConfig.EVENT_LISTINGS, predicate, loader);
+    }
+
+    public List<PlaceDTO> getPlaces(Predicate predicate, Supplier<List<PlaceDTO>> loader) {
+        return get(CacheConfig.PLACE_LISTINGS, predicate, loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventChanged(EventChange change) {
+        evictIf(CacheConfig.EVENT_LISTINGS, (Listing<EventDTO> listing) ->
+                listing.values().stream().anyMatch(event -> change.eventId() != null && change.eventId().equals(event.id()))
+                        || matches(listing.predicate(), QEvent.event, change.event())
+        );
+    }
+
+    /**
+     * 골라서 버리려면 건마다 캐시된 결과를 전부 훑어야 하므로, 여러 건이 한 번에 바뀌면 이벤트 목록을 통째로 비운다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventsChanged(EventBatchChange batch) {
+        if (batch.changes().isEmpty()) { return; }
+
+        clear(CacheConfig.EVENT_LISTINGS);
+    }
+
+    /**
+     * 이벤트 목록에는 현재 인원이 들어 있으므로, 인원이 바뀐 이벤트가 들어 있는 결과를 버린다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOccupancyChanged(OccupancyDelta occupancyDelta) {
+        if (occupancyDelta.eventId() == null) { return; }
+
+        evictIf(CacheConfig.EVENT_LISTINGS, (Listing<EventDTO> listing) ->
+                listing.values().stream().anyMatch(event -> occupancyDelta.eventId().equals(event.id()))
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlaceChanged(PlaceChange change) {
+        evictIf(CacheConfig.PLACE_LISTINGS, (Listing<PlaceDTO> listing) ->
+                listing.values().stream().anyMatch(place -> change.placeId() != null && change.placeId().equals(place.id()))
+                        || matches(listing.predicate(), QPlace.place, change.place())
+        );
+
+        // 이벤트 목록에는 장소 정보가 같이 들어 있고, 장소 조건으로 검색하기도 한다
+        if (change.changeType() != ChangeType.CREATED) {
+            evictIf(CacheConfig.EVENT_LISTINGS, (Listing<EventDTO> listing) ->
+                    listing.key().value().contains(QEvent.event.place.toString())
+                            || listing.values().stream().anyMatch(event -> event.placeDTO() != null
+                            && change.placeId() != null
+                            && change.placeId().equals(event.placeDTO().id()))
+            );
+        }
+    }
+
+    /**
+     * 장소 목록을 통째로 비운다. 이벤트 목록에도 장소 정보가 들어 있으므로, 새로 만든 경우가 아니면 같이 비운다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlacesChanged(PlaceBatchChange batch) {
+        if (batch.changes().isEmpty()) { return; }
+
+        clear(CacheConfig.PLACE_LISTINGS);
+        if (batch.changes().stream().anyMatch(change -> change.changeType() != ChangeType.CREATED)) {
+            clear(CacheConfig.EVENT_LISTINGS);
+        }
+    }
+
+    /**
+     * 목록 캐시 전체를 비운다. 대량 변경처럼 골라서 버리는 것이 더 비쌀 때 쓴다.
+     */
+    public void invalidateAll() {
+        clear(CacheConfig.EVENT_LISTINGS);
+        clear(CacheConfig.PLACE_LISTINGS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> get(String cacheName, Predicate predicate, Supplier<List<T>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) { return loader.get(); }
+
+        PredicateKey key = PredicateKey.of(predicate);
+        Listing<T> listing = cache.get(key, () -> Listing.of(key, predicate, loader.get()));
+
+        return listing == null ? loader.get() : listing.values();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void evictIf(String cacheName, java.util.function.Predicate<Listing<T>> condition) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            if (cache != null) { cache.clear(); }
+            return;
+        }
+
+        caffeineCache.getNativeCache().asMap().values()
+                .removeIf(value -> value instanceof Listing<?> listing && condition.test((Listing<T>) listing));
+    }
+
+    private void clear(String cacheName) {
+        Optional.ofNullable(cacheManager.getCache(cacheName)).ifPresent(Cache::clear);
+    }
+
+    /**
+     * 바뀐 엔티티의 새 상태가 캐시된 조회 조건에 맞는지 메모리에서 판단한다. (querydsl-collections)
+     * 판단할 수 없으면 안전하게 맞는 것으로 본다.
+     */
+    private <E> boolean matches(Predicate predicate, EntityPathBase<E> root, E entity) {
+        if (entity == null) { return false; }
+        if (predicate == null || ExpressionUtils.extract(predicate) == null) { return true; }
+
+        try {
+            return CollQueryFactory.from(root, List.of(entity)).where(predicate).fetchFirst() != null;
+        } catch (Exception e) {
+            log.debug("캐시 조건 평가 실패, 해당 결과를 버림 - predicate: {}", predicate, e);
+            return true;
+        }
+    }
+
+
+    record Listing<T>(PredicateKey key, Predicate predicate, List<T> values) {
+        static <T> Listing<T> of(PredicateKey key, Predicate predicate, List<T> values) {
+            return new Listing<>(key, predicate, List.copyOf(values));
+        }
+    }
+
+    /**
+     * AND 로 묶인 조건들을 펼쳐서 정렬한 문자열. 조건 순서가 달라도 같은 key 가 된다.
+     */
+    record PredicateKey(String value) {
+        static PredicateKey of(Predicate predicate) {
+            Expression<?> expression = predicate == null ? null : ExpressionUtils.extract(predicate);
+            if (expression == null) { return new PredicateKey(""); }
+
+            Set<String> terms = new TreeSet<>();
+            collect(expression, terms);
+
+            return new PredicateKey(String.join(" && ", terms));
+        }
+
+        private static void collect(Expression<?> expression, Set<String> terms) {
+            if (expression instanceof Operation<?> operation && operation.getOperator() == Ops.AND) {
+                operation.getArgs().forEach(arg -> collect(arg, terms));
+            } else {
+                terms.add(expression.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.*;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.domain.QPlace;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.PlaceBatchChange;
+import com.study.covidinline.dto.PlaceChange;
+import com.study.covidinline.index.NGramIndex;
+import com.study.covidinline.repository.EventRepository;
+import com.study.covidinline.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 장소 이름, 이벤트 이름 부분 일치 검색용 메모리 색인. ({@link NGramIndex})
+ * DB 의 like '%...%' 는 인덱스를 못 타므로, 여기서 후보 id 를 찾은 뒤 DB 는 id(PK) 로만 읽는다.
+ * 앱이 뜰 때 한 번 채우고, 이후에는 변경 알림(EventChange, PlaceChange)으로 갱신한다.
+ * 변경 알림은 트랜잭션이 커밋된 뒤에 반영하므로, 롤백된 변경은 색인에 남지 않는다.
+ *
+ * 아직 색인을 채우지 않았거나 후보가 너무 많으면(IN 절이 너무 커짐) 비어 있는 결과를 주고, 그때는 DB 검색을 그대로 쓴다.
+ */
+@Slf4j
+@Component
+public class NameSearchIndex {
+
+    private final EventRepository eventRepository;
+    private final PlaceRepository placeRepository;
+    private final int maxCandidates;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NGramIndex placeNames = new NGramIndex();
+    private final NGramIndex eventNames = new NGramIndex();
+    private final Map<Long, Set<Long>> eventIdsByPlaceId = new HashMap<>();
+    private final Map<Long, Long> placeIdByEventId = new HashMap<>();
+    private volatile boolean ready;
+
+    public NameSearchIndex(
+            EventRepository eventRepository,
+            PlaceRepository placeRepository,
+            @Value("${covidinline.search.max-candidates:1000}") int maxCandidates
+    ) {
+        this.eventRepository = eventRepository;
+        this.placeRepository = placeRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // 채우는 동안 들어온 변경이 덮어써지지 않도록 읽기부터 반영까지 잠근다
+        lock.writeLock().lock();
+        try {
+            placeNames.clear();
+            eventNames.clear();
+            eventIdsByPlaceId.clear();
+            placeIdByEventId.clear();
+
+            placeRepository.findPlaceDTOs(new BooleanBuilder())
+                    .forEach(place -> placeNames.put(place.id(), place.placeName()));
+            eventRepository.findEventDTOs(new BooleanBuilder())
+                    .forEach(event -> putEvent(event.id(), event.placeDTO() == null ? null : event.placeDTO().id(), event.eventName()));
+            ready = true;
+
+            log.info("이름 검색 색인 준비 완료 - places: {}, events: {}", placeNames.size(), eventNames.size());
+        } catch (Exception e) {
+            log.warn("이름 검색 색인 준비 실패, DB 검색을 사용함", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 장소 이름에 검색어가 들어 있는 장소 id 들.
+     */
+    public Optional<Set<Long>> findPlaceIds(String placeName) {
+        if (!ready || isBlank(placeName)) { return Optional.empty(); }
+
+        lock.readLock().lock();
+        try {
+            return limit(placeNames.search(placeName));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 장소 이름, 이벤트 이름 조건에 모두 맞는 이벤트 id 들. 두 조건이 다 비어 있으면 색인을 쓰지 않는다.
+     */
+    public Optional<Set<Long>> findEventIds(String placeName, String eventName) {
+        if (!ready || (isBlank(placeName) && isBlank(eventName))) { return Optional.empty(); }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> eventIds = isBlank(eventName) ? null : eventNames.search(eventName);
+            if (!isBlank(placeName)) {
+                Set<Long> byPlace = new HashSet<>();
+                for (Long placeId : placeNames.search(placeName)) {
+                    byPlace.addAll(eventIdsByPlaceId.getOrDefault(placeId, Set.of()));
+                }
+                if (eventIds == null) {
+                    eventIds = byPlace;
+                } else {
+                    eventIds.retainAll(byPlace);
+                }
+            }
+
+            return limit(eventIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * predicate 안의 이름 부분 일치 조건(containsIgnoreCase)을 색인으로 찾은 id 조건으로 바꾼다.
+     * 바꿀 수 없는 조건은 그대로 둔다.
+     */
+    public Predicate rewrite(Predicate predicate) {
+        if (!ready || predicate == null) { return predicate; }
+
+        Expression<?> expression = ExpressionUtils.extract(predicate);
+        if (expression == null) { return predicate; }
+
+        return (Predicate) rewrite(expression);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventChanged(EventChange change) {
+        if (change.eventId() == null) { return; }
+
+        lock.writeLock().lock();
+        try {
+            Event event = change.event();
+            if (event == null) {
+                removeEvent(change.eventId());
+            } else {
+                putEvent(change.eventId(), event.getPlace() == null ? null : event.getPlace().getId(), event.getEventName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventsChanged(EventBatchChange batch) {
+        lock.writeLock().lock();
+        try {
+            batch.changes().forEach(this::onEventChanged);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlaceChanged(PlaceChange change) {
+        if (change.placeId() == null) { return; }
+
+        lock.writeLock().lock();
+        try {
+            Place place = change.place();
+            if (place == null) {
+                placeNames.remove(change.placeId());
+            } else {
+                placeNames.put(change.placeId(), place.getPlaceName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlacesChanged(PlaceBatchChange batch) {
+        lock.writeLock().lock();
+        try {
+            batch.changes().forEach(this::onPlaceChanged);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Expression<?> rewrite(Expression<?> expression) {
+        if (!(expression instanceof Operation<?> operation)) { return expression; }
+
+        Operator operator = operation.getOperator();
+        if (operator == Ops.AND || operator == Ops.OR || operator == Ops.NOT) {
+            Expression<?>[] args = operation.getArgs().stream().map(this::rewrite).toArray(Expression[]::new);
+            return ExpressionUtils.predicate(operator, args);
+        }
+        if (operator != Ops.STRING_CONTAINS_IC
+                || !(operation.getArg(0) instanceof Path<?> path)
+                || !(operation.getArg(1) instanceof Constant<?> constant)
+                || !(constant.getConstant() instanceof String keyword)) {
+            return expression;
+        }
+
+        if (path.equals(QEvent.event.eventName)) {
+            return findEventIds(null, keyword).map(ids -> idIn(QEvent.event.id, ids)).orElse((Predicate) expression);
+        }
+        if (path.equals(QEvent.event.place.placeName)) {
+            // 장소 id 는 event 테이블의 FK 이므로 장소 테이블을 거치지 않고 바로 거른다
+            return findPlaceIds(keyword).map(ids -> idIn(QEvent.event.place.id, ids)).orElse((Predicate) expression);
+        }
+        if (path.equals(QPlace.place.placeName)) {
+            return findPlaceIds(keyword).map(ids -> idIn(QPlace.place.id, ids)).orElse((Predicate) expression);
+        }
+
+        return expression;
+    }
+
+    private Predicate idIn(NumberPath<Long> id, Set<Long> ids) {
+        // 빈 IN 절은 DB 마다 다르게 처리하므로, 결과가 없으면 항상 거짓인 조건(PK is null)을 쓴다
+        return ids.isEmpty() ? id.isNull() : id.in(ids);
+    }
+
+    private void putEvent(Long eventId, Long placeId, String eventName) {
+        eventNames.put(eventId, eventName);
+
+        Long previousPlaceId = placeIdByEventId.get(eventId);
+        if (Objects.equals(previousPlaceId, placeId)) { return; }
+        if (previousPlaceId != null) {
+            removeFromPlace(previousPlaceId, eventId);
+        }
+        if (placeId != null) {
+            placeIdByEventId.put(eventId, placeId);
+            eventIdsByPlaceId.computeIfAbsent(placeId, key -> new HashSet<>()).add(eventId);
+        } else {
+            placeIdByEventId.remove(eventId);
+        }
+    }
+
+    private void removeEvent(Long eventId) {
+        eventNames.remove(eventId);
+        Long placeId = placeIdByEventId.remove(eventId);
+        if (placeId != null) {
+            removeFromPlace(placeId, eventId);
+        }
+    }
+
+    private void removeFromPlace(Long placeId, Long eventId) {
+        Set<Long> eventIds = eventIdsByPlaceId.get(placeId);
+        if (eventIds != null) {
+            eventIds.remove(eventId);
+            if (eventIds.isEmpty()) { eventIdsByPlaceId.remove(placeId); }
+        }
+    }
+
+    private Optional<Set<Long>> limit(Set<Long> ids) {
+        return ids.size() > maxCandidates ? Optional.empty() : Optional.of(ids);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,74 @@
+package com.study.covidinline.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌(@Version 불일치) 시 정해진 횟수만큼 재시도한다.
+ * 재시도 사이에는 지수 백오프 + 지터를 두고, 충돌/재시도/포기 횟수는 엔티티별로 메트릭에 남긴다.
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetrier {
+
+    private static final String METRIC_PREFIX = "covidinline.optimistic-lock.";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticLockRetrier(
+            MeterRegistry meterRegistry,
+            @Value("${covidinline.optimistic-lock.max-attempts:3}") int maxAttempts,
+            @Value("${covidinline.optimistic-lock.backoff-ms:20}") long backoffMillis
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(0, backoffMillis);
+    }
+
+    /**
+     * @param entityName 메트릭 태그로 쓸 엔티티 이름
+     * @param entityId   충돌 로그에 남길 엔티티 ID (어떤 데이터에 충돌이 몰리는지 확인용)
+     */
+    public <T> T execute(String entityName, Object entityId, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                counter("conflicts", entityName).increment();
+                log.debug("낙관적 락 충돌 - {}: {}, 시도: {}/{}", entityName, entityId, attempt, maxAttempts);
+
+                if (attempt >= maxAttempts) {
+                    counter("exhausted", entityName).increment();
+                    throw e;
+                }
+
+                counter("retries", entityName).increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        if (backoffMillis == 0) { return; }
+
+        long delay = backoffMillis << (attempt - 1);
+        try {
+            Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Counter counter(String name, String entityName) {
+        return meterRegistry.counter(METRIC_PREFIX + name, "entity", entityName);
+    }
+}
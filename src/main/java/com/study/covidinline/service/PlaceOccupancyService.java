@@ -0,0 +1,280 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.BooleanBuilder;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.PlaceBatchChange;
+import com.study.covidinline.dto.PlaceChange;
+import com.study.covidinline.repository.EventRepository;
+import com.study.covidinline.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 장소 정원 -> 이벤트 정원 순서의 계층형 입장 판정.
+ * 한 장소에서 동시에 열린 이벤트들의 현재 인원 합이 장소 정원(Place.capacity)을 넘지 않게 한다.
+ *
+ * 장소 자리를 먼저 메모리 카운터에서 잡고(CAS), 이벤트 입장은 기존처럼 DB 조건부 UPDATE(group commit)로 판정한다.
+ * 이벤트 입장이 거절되면 잡았던 장소 자리를 돌려준다. 전역 락 없이 두 정원을 모두 넘지 않는다.
+ * 장소가 정원에서 멀면 CAS 반복 없이 한 번의 증가로 끝내고(fast path), 정원 근처에서만 CAS 로 정확히 판정한다.
+ *
+ * 열린(OPENED) 이벤트의 인원만 장소 인원으로 센다. 장소 정원이 없으면 세기만 하고 막지 않는다.
+ */
+@Slf4j
+@Service
+public class PlaceOccupancyService {
+
+    private final EventRepository eventRepository;
+    private final PlaceRepository placeRepository;
+    private final EventOccupancyBatcher eventOccupancyBatcher;
+    private final int fastPathHeadroom;
+
+    private final Map<Long, PlaceOccupancy> places = new ConcurrentHashMap<>();
+    private final Map<Long, EventEntry> events = new ConcurrentHashMap<>();
+
+    public PlaceOccupancyService(
+            EventRepository eventRepository,
+            PlaceRepository placeRepository,
+            EventOccupancyBatcher eventOccupancyBatcher,
+            @Value("${covidinline.occupancy.place-fast-path-headroom:32}") int fastPathHeadroom
+    ) {
+        this.eventRepository = eventRepository;
+        this.placeRepository = placeRepository;
+        this.eventOccupancyBatcher = eventOccupancyBatcher;
+        this.fastPathHeadroom = Math.max(0, fastPathHeadroom);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            places.clear();
+            events.clear();
+
+            placeRepository.findPlaceDTOs(new BooleanBuilder())
+                    .forEach(place -> places.put(place.id(), new PlaceOccupancy(place.capacity())));
+            eventRepository.findEventDTOs(new BooleanBuilder()).forEach(event -> {
+                if (event.placeDTO() == null) { return; }
+                putEvent(event.id(), event.placeDTO().id(), event.eventStatus(), event.currentNumberOfPeople());
+            });
+
+            log.info("장소 인원 카운터 준비 완료 - places: {}, events: {}", places.size(), events.size());
+        } catch (Exception e) {
+            log.warn("장소 인원 카운터 준비 실패", e);
+        }
+    }
+
+    /**
+     * 장소 자리를 먼저 잡고 이벤트 입장을 시도한다. 장소가 가득 찼으면 DB 를 거치지 않고 거절한다.
+     * 열림 확인, 자리 잡기, 입장 결과 반영은 이벤트 단위로 묶어서, 그 사이 이벤트가 닫히거나 열려도 장소 인원이 어긋나지 않게 한다.
+     */
+    public CompletableFuture<Boolean> checkIn(Long eventId) {
+        EventEntry event = eventId == null ? null : events.get(eventId);
+        if (event == null) { return eventOccupancyBatcher.checkIn(eventId); }
+
+        Reservation reservation = event.reserve(places.get(event.placeId), fastPathHeadroom);
+        if (reservation == Reservation.REJECTED) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        boolean reserved = reservation == Reservation.RESERVED;
+        CompletableFuture<Boolean> result;
+        try {
+            result = eventOccupancyBatcher.checkIn(eventId);
+        } catch (RuntimeException e) {
+            event.completeCheckIn(reserved, false, places.get(event.placeId));
+            throw e;
+        }
+
+        return result.whenComplete((accepted, e) ->
+                event.completeCheckIn(reserved, e == null && Boolean.TRUE.equals(accepted), places.get(event.placeId)));
+    }
+
+    public CompletableFuture<Boolean> checkOut(Long eventId) {
+        return eventOccupancyBatcher.checkOut(eventId).whenComplete((accepted, e) -> {
+            EventEntry event = eventId == null ? null : events.get(eventId);
+            if (e != null || !Boolean.TRUE.equals(accepted) || event == null) { return; }
+
+            event.completeCheckOut(places.get(event.placeId));
+        });
+    }
+
+    public Optional<Integer> getCurrentNumberOfPeople(Long placeId) {
+        return Optional.ofNullable(placeId == null ? null : places.get(placeId)).map(PlaceOccupancy::current);
+    }
+
+    /**
+     * 이벤트가 열리거나 닫히면 그 이벤트 인원을 장소 인원에 더하거나 뺀다.
+     */
+    @EventListener
+    public void onEventChanged(EventChange change) {
+        if (change.eventId() == null) { return; }
+
+        Event event = change.event();
+        if (event == null) {
+            EventEntry removed = events.remove(change.eventId());
+            if (removed != null) { removed.setOpened(false, places.get(removed.placeId)); }
+        } else if (event.getPlace() != null) {
+            EventEntry entry = events.get(change.eventId());
+            if (entry == null) {
+                putEvent(change.eventId(), event.getPlace().getId(), event.getEventStatus(), event.getCurrentNumberOfPeople());
+            } else {
+                entry.setOpened(event.getEventStatus() == EventStatus.OPENED, places.get(entry.placeId));
+            }
+        }
+    }
+
+    @EventListener
+    public void onEventsChanged(EventBatchChange batch) {
+        batch.changes().forEach(this::onEventChanged);
+    }
+
+    @EventListener
+    public void onPlaceChanged(PlaceChange change) {
+        if (change.placeId() == null) { return; }
+
+        Place place = change.place();
+        if (place == null) {
+            places.remove(change.placeId());
+        } else {
+            places.computeIfAbsent(change.placeId(), id -> new PlaceOccupancy(place.getCapacity()))
+                    .setCapacity(place.getCapacity());
+        }
+    }
+
+    @EventListener
+    public void onPlacesChanged(PlaceBatchChange batch) {
+        batch.changes().forEach(this::onPlaceChanged);
+    }
+
+    private void putEvent(Long eventId, Long placeId, EventStatus eventStatus, Integer currentNumberOfPeople) {
+        EventEntry entry = new EventEntry(placeId, currentNumberOfPeople == null ? 0 : currentNumberOfPeople);
+        events.put(eventId, entry);
+        entry.setOpened(eventStatus == EventStatus.OPENED, places.get(placeId));
+    }
+
+    private static int capacityOf(Integer capacity) {
+        return capacity == null ? PlaceOccupancy.UNLIMITED : capacity;
+    }
+
+
+    static final class PlaceOccupancy {
+
+        static final int UNLIMITED = -1;
+
+        private final AtomicInteger current = new AtomicInteger();
+        private volatile int capacity;
+
+        PlaceOccupancy(Integer capacity) {
+            this.capacity = capacityOf(capacity);
+        }
+
+        int current() {
+            return current.get();
+        }
+
+        void setCapacity(Integer capacity) {
+            this.capacity = capacityOf(capacity);
+        }
+
+        boolean tryAcquire(int headroom) {
+            int limit = capacity;
+            if (limit == UNLIMITED) {
+                current.incrementAndGet();
+                return true;
+            }
+
+            // fast path: 정원에서 멀면 한 번에 올리고, 그 사이 몰려서 넘었으면 되돌린 뒤 정확히 판정한다
+            if (current.get() + headroom < limit) {
+                if (current.incrementAndGet() <= limit) { return true; }
+                current.decrementAndGet();
+            }
+
+            int value;
+            do {
+                value = current.get();
+                if (value >= limit) { return false; }
+            } while (!current.compareAndSet(value, value + 1));
+
+            return true;
+        }
+
+        void release() {
+            current.decrementAndGet();
+        }
+
+        void add(int delta) {
+            current.addAndGet(delta);
+        }
+    }
+
+    private enum Reservation { RESERVED, NOT_NEEDED, REJECTED }
+
+    /**
+     * 이벤트가 속한 장소와 이 서버에서 센 현재 인원, 입장 처리 중인 인원.
+     * 열린 이벤트는 (현재 인원 + 처리 중인 인원) 만큼 장소 인원에 들어가 있다. 모든 변경은 이 객체 단위로 직렬화한다.
+     */
+    private static final class EventEntry {
+
+        private final Long placeId;
+        private int current;
+        private int reserved;
+        private boolean opened;
+
+        private EventEntry(Long placeId, int current) {
+            this.placeId = placeId;
+            this.current = current;
+        }
+
+        /**
+         * 열린 이벤트면 장소 자리를 잡는다. 닫힌 이벤트나 모르는 장소는 잡지 않고 입장 판정을 DB 에 맡긴다.
+         */
+        synchronized Reservation reserve(PlaceOccupancy place, int headroom) {
+            if (!opened || place == null) { return Reservation.NOT_NEEDED; }
+            if (!place.tryAcquire(headroom)) { return Reservation.REJECTED; }
+
+            reserved++;
+            return Reservation.RESERVED;
+        }
+
+        /**
+         * 입장 결과를 반영한다. 잡았던 자리는 입장하면 현재 인원으로 넘기고, 거절되면 (열려 있는 동안이면) 장소에 돌려준다.
+         * 자리를 잡지 않았는데 그 사이 열려서 입장했으면 장소 인원에 더한다.
+         */
+        synchronized void completeCheckIn(boolean wasReserved, boolean accepted, PlaceOccupancy place) {
+            if (wasReserved) { reserved--; }
+
+            if (accepted) {
+                current++;
+                if (!wasReserved && opened && place != null) { place.add(1); }
+            } else if (wasReserved && opened && place != null) {
+                place.release();
+            }
+        }
+
+        synchronized void completeCheckOut(PlaceOccupancy place) {
+            current--;
+            if (opened && place != null) { place.release(); }
+        }
+
+        synchronized void setOpened(boolean opened, PlaceOccupancy place) {
+            if (this.opened == opened) { return; }
+
+            this.opened = opened;
+            if (place != null) {
+                place.add(opened ? current + reserved : -(current + reserved));
+            }
+        }
+    }
+}
@@ -1,34 +1,49 @@
 package com.study.covidinline.service;
 
 import com.querydsl.core.types.Predicate;
+import com.study.covidinline.config.CacheConfig;
+import com.study.covidinline.constant.ChangeType;
 import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.PlaceChange;
 import com.study.covidinline.dto.PlaceDTO;
 import com.study.covidinline.exception.GeneralException;
 import com.study.covidinline.repository.PlaceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 
 @RequiredArgsConstructor
 @Service
 public class PlaceService {
 
     private final PlaceRepository placeRepository;
+    private final OptimisticLockRetrier optimisticLockRetrier;
+    private final ListingResultCache listingResultCache;
+    private final NameSearchIndex nameSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<PlaceDTO> getPlaces(Predicate predicate) {
         try {
-            return StreamSupport.stream(placeRepository.findAll(predicate).spliterator(), false)
-                    .map(PlaceDTO::of)
-                    .toList();
+            // 캐시 key 는 원래 조건으로 두고, DB 조회만 색인으로 바꾼 조건으로 한다
+            return listingResultCache.getPlaces(predicate, () -> placeRepository.findPlaceDTOs(nameSearchIndex.rewrite(predicate)));
         } catch (Exception e) {
             throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
         }
     }
 
 
+    /**
+     * id 로 읽은 결과를 캐시한다. 같은 id 로 동시에 여러 요청이 와도 DB 조회는 한 번만 한다. (sync)
+     */
+    @Cacheable(cacheNames = CacheConfig.PLACES, key = "#placeId", condition = "#placeId != null", sync = true)
     public Optional<PlaceDTO> getPlace(Long placeId) {
         try {
             return placeRepository.findById(placeId).map(PlaceDTO::of);
@@ -41,30 +56,48 @@ public class PlaceService {
         try {
             if (placeDTO == null) return false;
 
-            placeRepository.save(placeDTO.toEntity());
+            Place place = placeDTO.toEntity();
+            placeRepository.save(place);
+            eventPublisher.publishEvent(PlaceChange.of(ChangeType.CREATED, place.getId(), place));
             return true;
         } catch (Exception e) {
             throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
         }
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PLACES, key = "#placeId", condition = "#placeId != null")
     public boolean modifyPlace(Long placeId, PlaceDTO dto) {
         try {
             if (placeId == null || dto == null) return false;
 
-            placeRepository.findById(placeId)
-                    .ifPresent(place -> placeRepository.save(dto.updateEntity(place)));
+            // 엔티티 대신 version 만 읽고, 바뀐 컬럼만 version 조건을 건 UPDATE 문 하나로 반영한다
+            // 그 사이 다른 요청이 고쳤으면 version 을 다시 읽어서 재시도
+            long updated = optimisticLockRetrier.execute("place", placeId, () -> placeRepository.findVersionById(placeId)
+                    .map(version -> placeRepository.updatePartially(placeId, version, dto))
+                    .orElse(0L));
+            if (updated > 0) {
+                // 색인, 캐시 등 변경 알림을 받는 쪽은 바뀐 뒤의 상태가 필요하므로 이때만 다시 읽는다
+                placeRepository.findById(placeId)
+                        .ifPresent(place -> eventPublisher.publishEvent(PlaceChange.of(ChangeType.MODIFIED, placeId, place)));
+            }
             return true;
         } catch (Exception e) {
             throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
         }
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PLACES, key = "#placeId", condition = "#placeId != null")
     public boolean removePlace(Long placeId) {
         try {
             if (placeId == null) return false;
 
-            placeRepository.deleteById(placeId);
+            // 딸린 이벤트, 대기열, 관리자 매핑까지 컬렉션을 읽지 않고 set 단위로 지운다
+            List<Long> removedEventIds = placeRepository.deleteWithDependents(placeId);
+            // 이벤트가 많아도 알림은 한 번만 보낸다
+            eventPublisher.publishEvent(EventBatchChange.of(removedEventIds.stream()
+                    .map(eventId -> EventChange.of(ChangeType.REMOVED, eventId, null))
+                    .toList()));
+            eventPublisher.publishEvent(PlaceChange.of(ChangeType.REMOVED, placeId, null));
             return true;
         } catch (Exception e) {
             throw new GeneralException(ErrorCode.DATA_ACCESS_ERROR, e);
@@ -0,0 +1,48 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.dto.EventResponse;
+import com.study.covidinline.dto.PlaceResponse;
+import com.study.covidinline.dto.SearchResponse;
+import com.study.covidinline.dto.SuggestionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 장소, 이벤트 통합 검색과 자동완성.
+ * 검색은 색인에서 id 만 찾고, 내용은 id 캐시를 거쳐 읽는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class SearchService {
+
+    private final JamoSearchIndex jamoSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final PlaceService placeService;
+    private final PlaceOccupancyService placeOccupancyService;
+    private final EventService eventService;
+
+    public SearchResponse search(String query, int limit) {
+        List<PlaceResponse> places = jamoSearchIndex.searchPlaceIds(query, limit).stream()
+                .map(placeService::getPlace)
+                .flatMap(Optional::stream)
+                .map(place -> PlaceResponse.from(place, placeOccupancyService.getCurrentNumberOfPeople(place.id()).orElse(null)))
+                .toList();
+        List<EventResponse> events = jamoSearchIndex.searchEventIds(query, limit).stream()
+                .map(eventService::getEvent)
+                .flatMap(Optional::stream)
+                .map(EventResponse::from)
+                .toList();
+
+        return SearchResponse.of(places, events);
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 장소, 이벤트 이름을 인기순으로. DB 를 거치지 않는다.
+     */
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        return suggestionIndex.suggest(query, limit);
+    }
+}
@@ -0,0 +1,231 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.BooleanBuilder;
+import com.study.covidinline.constant.SuggestionType;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.OccupancyDelta;
+import com.study.covidinline.dto.PlaceBatchChange;
+import com.study.covidinline.dto.PlaceChange;
+import com.study.covidinline.dto.SuggestionResponse;
+import com.study.covidinline.index.CompletionTrie;
+import com.study.covidinline.index.HangulJamo;
+import com.study.covidinline.repository.EventRepository;
+import com.study.covidinline.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 장소, 이벤트 이름 자동완성. ({@link CompletionTrie})
+ * 이름을 자모와 초성으로 풀어 넣으므로 입력 중인 글자("배드미")나 초성("ㅂㄷ")으로도 완성된다.
+ *
+ * 순위 점수는 인기(지금까지의 입장 수)와 현재 인원을 더한 값이다. 장소는 그 장소 이벤트들의 점수 합이다.
+ * 앱이 뜰 때 한 번 채우고, 이후에는 변경 알림(EventChange, PlaceChange)과 인원 증감(OccupancyDelta)으로 갱신한다.
+ */
+@Slf4j
+@Component
+public class SuggestionIndex {
+
+    private final EventRepository eventRepository;
+    private final PlaceRepository placeRepository;
+    private final int maxVisits;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final CompletionTrie trie = new CompletionTrie();
+    private final Map<Long, String> texts = new HashMap<>();
+    private final Map<Long, EventStats> eventStats = new HashMap<>();
+    private final Map<Long, Long> placeScores = new HashMap<>();
+
+    public SuggestionIndex(
+            EventRepository eventRepository,
+            PlaceRepository placeRepository,
+            @Value("${covidinline.suggest.max-visits:2000}") int maxVisits
+    ) {
+        this.eventRepository = eventRepository;
+        this.placeRepository = placeRepository;
+        this.maxVisits = Math.max(1, maxVisits);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            trie.clear();
+            texts.clear();
+            eventStats.clear();
+            placeScores.clear();
+
+            placeRepository.findPlaceDTOs(new BooleanBuilder())
+                    .forEach(place -> putText(placeKey(place.id()), place.placeName()));
+            eventRepository.findEventDTOs(new BooleanBuilder()).forEach(event -> {
+                int current = event.currentNumberOfPeople() == null ? 0 : event.currentNumberOfPeople();
+                putText(eventKey(event.id()), event.eventName());
+                putStats(event.id(), new EventStats(event.placeDTO() == null ? null : event.placeDTO().id(), current, current));
+            });
+
+            log.info("자동완성 색인 준비 완료 - entries: {}", trie.size());
+        } catch (Exception e) {
+            log.warn("자동완성 색인 준비 실패", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        String prefix = HangulJamo.isChosungQuery(query) ? HangulJamo.chosung(query) : HangulJamo.decompose(query);
+        if (prefix.isEmpty()) { return List.of(); }
+
+        lock.readLock().lock();
+        try {
+            return trie.topK(prefix, limit, maxVisits).stream()
+                    .map(suggestion -> SuggestionResponse.of(
+                            (suggestion.key() & 1) == 0 ? SuggestionType.PLACE : SuggestionType.EVENT,
+                            suggestion.key() >> 1,
+                            texts.get(suggestion.key()),
+                            suggestion.score()
+                    ))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onEventChanged(EventChange change) {
+        if (change.eventId() == null) { return; }
+
+        lock.writeLock().lock();
+        try {
+            Event event = change.event();
+            if (event == null) {
+                trie.remove(eventKey(change.eventId()));
+                texts.remove(eventKey(change.eventId()));
+                putStats(change.eventId(), null);
+            } else {
+                EventStats previous = eventStats.get(change.eventId());
+                int current = event.getCurrentNumberOfPeople() == null ? 0 : event.getCurrentNumberOfPeople();
+                long checkIns = previous == null ? current : previous.checkIns();
+                putText(eventKey(change.eventId()), event.getEventName());
+                putStats(change.eventId(), new EventStats(event.getPlace() == null ? null : event.getPlace().getId(), current, checkIns));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onEventsChanged(EventBatchChange batch) {
+        lock.writeLock().lock();
+        try {
+            batch.changes().forEach(this::onEventChanged);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onPlaceChanged(PlaceChange change) {
+        if (change.placeId() == null) { return; }
+
+        lock.writeLock().lock();
+        try {
+            Place place = change.place();
+            if (place == null) {
+                trie.remove(placeKey(change.placeId()));
+                texts.remove(placeKey(change.placeId()));
+            } else {
+                putText(placeKey(change.placeId()), place.getPlaceName());
+                trie.updateScore(placeKey(change.placeId()), placeScores.getOrDefault(change.placeId(), 0L));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onPlacesChanged(PlaceBatchChange batch) {
+        lock.writeLock().lock();
+        try {
+            batch.changes().forEach(this::onPlaceChanged);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onOccupancyChanged(OccupancyDelta occupancyDelta) {
+        if (occupancyDelta.eventId() == null || occupancyDelta.delta() == null) { return; }
+
+        lock.writeLock().lock();
+        try {
+            EventStats stats = eventStats.get(occupancyDelta.eventId());
+            if (stats == null) { return; }
+
+            int delta = occupancyDelta.delta();
+            putStats(occupancyDelta.eventId(), new EventStats(
+                    stats.placeId(),
+                    Math.max(0, stats.current() + delta),
+                    stats.checkIns() + Math.max(0, delta)
+            ));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putText(long key, String text) {
+        if (text == null || text.equals(texts.get(key))) { return; }
+
+        List<String> terms = new ArrayList<>();
+        for (String suffix : HangulJamo.wordStarts(text)) {
+            terms.add(HangulJamo.decompose(suffix));
+            terms.add(HangulJamo.chosung(suffix));
+        }
+        texts.put(key, text);
+        trie.put(key, 0, terms);
+    }
+
+    /**
+     * 이벤트 점수를 바꾸고, 장소 점수는 전체를 다시 더하지 않고 차이만큼만 고친다.
+     */
+    private void putStats(Long eventId, EventStats stats) {
+        EventStats previous = stats == null ? eventStats.remove(eventId) : eventStats.put(eventId, stats);
+        if (previous != null && previous.placeId() != null) {
+            addPlaceScore(previous.placeId(), -previous.score());
+        }
+        if (stats != null) {
+            trie.updateScore(eventKey(eventId), stats.score());
+            if (stats.placeId() != null) {
+                addPlaceScore(stats.placeId(), stats.score());
+            }
+        }
+    }
+
+    private void addPlaceScore(Long placeId, long delta) {
+        long score = placeScores.merge(placeId, delta, Long::sum);
+        trie.updateScore(placeKey(placeId), score);
+    }
+
+    private static long placeKey(long placeId) {
+        return placeId << 1;
+    }
+
+    private static long eventKey(long eventId) {
+        return (eventId << 1) | 1;
+    }
+
+
+    private record EventStats(Long placeId, int current, long checkIns) {
+        long score() {
+            return checkIns + current;
+        }
+    }
+}
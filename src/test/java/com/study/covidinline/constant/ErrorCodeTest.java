@@ -40,6 +40,9 @@ class ErrorCodeTest {
                 arguments(ErrorCode.SPRING_BAD_REQUEST, "Spring-detected bad request - This is test message."),
                 arguments(ErrorCode.VALIDATION_ERROR, "Validation error - This is test message."),
                 arguments(ErrorCode.NOT_FOUND, "Requested resource is not found - This is test message."),
+                arguments(ErrorCode.WAITLIST_FULL, "Waitlist is full - This is test message."),
+                arguments(ErrorCode.EVENT_TIME_CONFLICT, "Event time overlaps another event at the same place - This is test message."),
+                arguments(ErrorCode.WAITLIST_NOT_NEEDED, "Event has room, check in instead of waiting - This is test message."),
                 arguments(ErrorCode.INTERNAL_ERROR, "Internal error - This is test message."),
                 arguments(ErrorCode.SPRING_INTERNAL_ERROR, "Spring-detected internal error - This is test message."),
                 arguments(ErrorCode.DATA_ACCESS_ERROR, "Data access error - This is test message.")
@@ -2,6 +2,7 @@ package com.study.covidinline.controller;
 
 import com.study.covidinline.constant.EventStatus;
 import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.EventViewSliceResponse;
 import com.study.covidinline.service.EventService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -116,6 +118,34 @@ class EventControllerTest {
         );
     }
 
+    @DisplayName("[view][GET] 이벤트 리스트 페이지 - 커스텀 데이터 + cursor (keyset 페이징)")
+    @Test
+    void givenCursor_whenRequestingCustomEventsPage_thenReturnsEventsPageWithNextCursor() throws Exception {
+        // Given
+        String cursor = "cursor";
+        given(eventService.getEventViewSlice(null, null, null, null, null, cursor, 3))
+                .willReturn(EventViewSliceResponse.of(List.of(), "next", true));
+
+        // When
+        mvc.perform(
+                get("/events/custom")
+                        .queryParam("cursor", cursor)
+                        .queryParam("size", "3")
+        )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("event/index"))
+                .andExpect(model().hasNoErrors())
+                .andExpect(model().attributeExists("events"))
+                .andExpect(model().attribute("nextCursor", "next"))
+                .andExpect(model().attribute("nextPageUrl", "http://localhost/events/custom?size=3&cursor=next"))
+                .andExpect(content().string(containsString("href=\"http://localhost/events/custom?size=3&amp;cursor=next\"")));
+
+        // Then
+        then(eventService).should().getEventViewSlice(null, null, null, null, null, cursor, 3);
+        then(eventService).shouldHaveNoMoreInteractions();
+    }
+
     @DisplayName("[view][GET] 이벤트 리스트 페이지 - 커스텀 데이터 + 검색 파라미터 (장소명, 이벤트명 잘못된 입력)")
     @Test
     void givenWrongParams_whenRequestingCustomEventsPage_thenReturnsEventsPage() throws Exception {
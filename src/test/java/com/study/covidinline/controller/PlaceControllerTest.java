@@ -1,6 +1,7 @@
 package com.study.covidinline.controller;
 
 import com.study.covidinline.dto.PlaceDTO;
+import com.study.covidinline.service.PlaceOccupancyService;
 import com.study.covidinline.service.PlaceService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,7 @@ class PlaceControllerTest {
     private final MockMvc mvc;
 
     @MockBean private PlaceService placeService;
+    @MockBean private PlaceOccupancyService placeOccupancyService;
 
     public PlaceControllerTest(@Autowired MockMvc mvc) {
         this.mvc = mvc;
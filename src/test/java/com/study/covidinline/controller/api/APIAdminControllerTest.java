@@ -0,0 +1,256 @@
+package com.study.covidinline.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.constant.ImportStatus;
+import com.study.covidinline.constant.ImportTarget;
+import com.study.covidinline.dto.EventBulkUpdateRequest;
+import com.study.covidinline.dto.EventConflictResponse;
+import com.study.covidinline.dto.EventRequest;
+import com.study.covidinline.dto.ImportProgressResponse;
+import com.study.covidinline.service.BulkImportService;
+import com.study.covidinline.service.EventService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 관리자")
+@WebMvcTest(APIAdminController.class)
+class APIAdminControllerTest {
+
+    private final MockMvc mvc;
+    private final ObjectMapper mapper;
+    private final MultipartProperties multipartProperties;
+
+    @MockBean
+    private EventService eventService;
+
+    @MockBean
+    private BulkImportService bulkImportService;
+
+    public APIAdminControllerTest(
+            @Autowired MockMvc mvc,
+            @Autowired ObjectMapper mapper,
+            @Autowired MultipartProperties multipartProperties
+    ) {
+        this.mvc = mvc;
+        this.mapper = mapper;
+        this.multipartProperties = multipartProperties;
+    }
+
+    @DisplayName("[API][GET] 이벤트 시간 충돌 보고서")
+    @Test
+    void givenNothing_whenRequestingEventConflicts_thenReturnsConflictsInStandardResponse() throws Exception {
+        // Given
+        given(eventService.getEventConflicts()).willReturn(List.of(EventConflictResponse.of(
+                1L,
+                1L,
+                2L,
+                LocalDateTime.of(2021, 1, 1, 10, 0, 0),
+                LocalDateTime.of(2021, 1, 1, 12, 0, 0)
+        )));
+
+        // When & Then
+        mvc.perform(get("/api/admin/event-conflicts"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data[0].placeId").value(1L))
+                .andExpect(jsonPath("$.data[0].conflictingEventId").value(2L))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.OK.getCode()));
+        then(eventService).should().getEventConflicts();
+    }
+
+    @DisplayName("[API][POST] 이벤트 일괄 등록")
+    @Test
+    void givenEvents_whenCreatingEventsInBatch_thenReturnsCreatedIdsInStandardResponse() throws Exception {
+        // Given
+        List<EventRequest> requests = List.of(createEventRequest(9), createEventRequest(13));
+        given(eventService.createEvents(anyList())).willReturn(List.of(1000L, 1001L));
+
+        // When & Then
+        mvc.perform(
+                post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(requests))
+        )
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data[0]").value(1000L))
+                .andExpect(jsonPath("$.data[1]").value(1001L))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.OK.getCode()));
+        then(eventService).should().createEvents(anyList());
+    }
+
+    @DisplayName("[API][POST] 이벤트 일괄 등록 - 잘못된 데이터 입력")
+    @Test
+    void givenWrongEvents_whenCreatingEventsInBatch_thenReturnsFailedStandardResponse() throws Exception {
+        // Given
+        List<EventRequest> requests = List.of(createEventRequest(9), EventRequest.of(
+                0L,
+                " ",
+                EventStatus.OPENED,
+                LocalDateTime.of(2021, 1, 1, 9, 0, 0),
+                LocalDateTime.of(2021, 1, 1, 12, 0, 0),
+                0,
+                10,
+                null
+        ));
+
+        // When & Then
+        mvc.perform(
+                post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(requests))
+        )
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.VALIDATION_ERROR.getCode()))
+                .andExpect(jsonPath("$.message").value(containsString(ErrorCode.VALIDATION_ERROR.getMessage())));
+        then(eventService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[API][PATCH] 이벤트 상태 일괄 변경")
+    @Test
+    void givenPredicateAndStatus_whenModifyingEventsInBulk_thenReturnsAffectedCountInStandardResponse() throws Exception {
+        // Given
+        given(eventService.modifyEvents(any(), eq(EventStatus.CANCELLED), isNull())).willReturn(3L);
+
+        // When & Then
+        mvc.perform(
+                patch("/api/admin/events")
+                        .param("place.id", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(EventBulkUpdateRequest.of(EventStatus.CANCELLED, null)))
+        )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data").value(3L))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.OK.getCode()));
+        then(eventService).should().modifyEvents(any(), eq(EventStatus.CANCELLED), isNull());
+    }
+
+    @DisplayName("[API][PATCH] 이벤트 정원 일괄 변경 - 잘못된 데이터 입력")
+    @Test
+    void givenWrongCapacity_whenModifyingEventsInBulk_thenReturnsFailedStandardResponse() throws Exception {
+        // When & Then
+        mvc.perform(
+                patch("/api/admin/events")
+                        .param("place.id", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(EventBulkUpdateRequest.of(null, 0)))
+        )
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(false));
+        then(eventService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[API][POST] 장소 CSV 일괄 등록 접수")
+    @Test
+    void givenCsvFile_whenImportingPlaces_thenReturnsAcceptedProgress() throws Exception {
+        // Given
+        byte[] csv = "placeType,placeName,address,phoneNumber,capacity\nSPORTS,배드민턴장,서울시,010-1111-1111,20\n"
+                .getBytes(StandardCharsets.UTF_8);
+        given(bulkImportService.importPlaces(eq("job-1"), any())).willReturn(createProgress("job-1", ImportTarget.PLACE));
+
+        // When & Then
+        mvc.perform(
+                multipart("/api/admin/imports/places")
+                        .file(new MockMultipartFile("file", "places.csv", "text/csv", csv))
+                        .param("jobId", "job-1")
+        )
+                .andExpect(status().isAccepted())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.jobId").value("job-1"))
+                .andExpect(jsonPath("$.data.importStatus").value(ImportStatus.RUNNING.name()))
+                .andExpect(jsonPath("$.success").value(true));
+        then(bulkImportService).should().importPlaces(eq("job-1"), any());
+    }
+
+    @DisplayName("[API][POST] 장소 CSV 일괄 등록 접수 - 기본 업로드 한도(1MB)보다 큰 파일")
+    @Test
+    void givenLargeCsvFile_whenImportingPlaces_thenReturnsAcceptedProgress() throws Exception {
+        // Given
+        byte[] csv = ("placeType,placeName,address,phoneNumber,capacity\n"
+                + "SPORTS,배드민턴장,서울시,010-1111-1111,20\n".repeat(100_000))
+                .getBytes(StandardCharsets.UTF_8);
+        given(bulkImportService.importPlaces(eq("job-1"), any())).willReturn(createProgress("job-1", ImportTarget.PLACE));
+
+        // When & Then
+        assertThat(csv.length).isGreaterThan((int) DataSize.ofMegabytes(1).toBytes());
+        assertThat(multipartProperties.getMaxFileSize().toBytes()).isGreaterThanOrEqualTo(csv.length);
+        assertThat(multipartProperties.getMaxRequestSize().toBytes()).isGreaterThanOrEqualTo(csv.length);
+        mvc.perform(
+                multipart("/api/admin/imports/places")
+                        .file(new MockMultipartFile("file", "places.csv", "text/csv", csv))
+                        .param("jobId", "job-1")
+        )
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.jobId").value("job-1"))
+                .andExpect(jsonPath("$.success").value(true));
+        then(bulkImportService).should().importPlaces(eq("job-1"), any());
+    }
+
+    @DisplayName("[API][GET] 일괄 등록 진행 상황 - 없는 작업")
+    @Test
+    void givenUnknownJobId_whenRequestingImportProgress_thenReturnsNotFound() throws Exception {
+        // Given
+        given(bulkImportService.getProgress("job-1")).willReturn(Optional.empty());
+
+        // When & Then
+        mvc.perform(get("/api/admin/imports/job-1"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.NOT_FOUND.getCode()));
+        then(bulkImportService).should().getProgress("job-1");
+    }
+
+
+    private EventRequest createEventRequest(int startHour) {
+        return EventRequest.of(
+                1L,
+                "오후 운동",
+                EventStatus.OPENED,
+                LocalDateTime.of(2021, 1, 1, startHour, 0, 0),
+                LocalDateTime.of(2021, 1, 1, startHour + 3, 0, 0),
+                0,
+                24,
+                "마스크 꼭 착용하세요"
+        );
+    }
+
+    private ImportProgressResponse createProgress(String jobId, ImportTarget importTarget) {
+        return ImportProgressResponse.of(jobId, importTarget, ImportStatus.RUNNING, 0L, 0L, 0L, List.of());
+    }
+}
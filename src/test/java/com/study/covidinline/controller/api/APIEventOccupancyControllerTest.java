@@ -0,0 +1,193 @@
+package com.study.covidinline.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.constant.WaitlistStatus;
+import com.study.covidinline.dto.WaitlistRequest;
+import com.study.covidinline.dto.WaitlistResponse;
+import com.study.covidinline.service.EventOccupancyStreamService;
+import com.study.covidinline.service.EventService;
+import com.study.covidinline.service.EventWaitlistService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 이벤트 입장/퇴장")
+@WebMvcTest(APIEventOccupancyController.class)
+class APIEventOccupancyControllerTest {
+
+    private final MockMvc mvc;
+    private final ObjectMapper mapper;
+
+    @MockBean
+    private EventService eventService;
+    @MockBean
+    private EventWaitlistService eventWaitlistService;
+    @MockBean
+    private EventOccupancyStreamService eventOccupancyStreamService;
+
+    public APIEventOccupancyControllerTest(
+            @Autowired MockMvc mvc,
+            @Autowired ObjectMapper mapper
+    ) {
+        this.mvc = mvc;
+        this.mapper = mapper;
+    }
+
+    @DisplayName("[API][POST] 이벤트 입장")
+    @Test
+    void givenEventId_whenCheckingIn_thenReturnsSuccessfulStandardResponse() throws Exception {
+        // Given
+        long eventId = 1L;
+        given(eventService.checkIn(eventId)).willReturn(true);
+
+        // When & Then
+        mvc.perform(post("/api/events/" + eventId + "/check-in"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data").value(Boolean.TRUE.toString()))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.OK.getCode()))
+                .andExpect(jsonPath("$.message").value(ErrorCode.OK.getMessage()));
+        then(eventService).should().checkIn(eventId);
+    }
+
+    @DisplayName("[API][POST] 이벤트 입장 - 정원 초과")
+    @Test
+    void givenFullEvent_whenCheckingIn_thenReturnsFalseInStandardResponse() throws Exception {
+        // Given
+        long eventId = 1L;
+        given(eventService.checkIn(eventId)).willReturn(false);
+
+        // When & Then
+        mvc.perform(post("/api/events/" + eventId + "/check-in"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(Boolean.FALSE.toString()))
+                .andExpect(jsonPath("$.success").value(true));
+        then(eventService).should().checkIn(eventId);
+    }
+
+    @DisplayName("[API][POST] 이벤트 입장 - 잘못된 이벤트 ID")
+    @Test
+    void givenWrongEventId_whenCheckingIn_thenReturnsFailedStandardResponse() throws Exception {
+        // Given
+        long eventId = 0L;
+
+        // When & Then
+        mvc.perform(post("/api/events/" + eventId + "/check-in"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.VALIDATION_ERROR.getCode()))
+                .andExpect(jsonPath("$.message").value(containsString(ErrorCode.VALIDATION_ERROR.getMessage())));
+        then(eventService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[API][POST] 이벤트 퇴장")
+    @Test
+    void givenEventId_whenCheckingOut_thenReturnsSuccessfulStandardResponse() throws Exception {
+        // Given
+        long eventId = 1L;
+        given(eventService.checkOut(eventId)).willReturn(true);
+
+        // When & Then
+        mvc.perform(post("/api/events/" + eventId + "/check-out"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data").value(Boolean.TRUE.toString()))
+                .andExpect(jsonPath("$.success").value(true));
+        then(eventService).should().checkOut(eventId);
+    }
+
+    @DisplayName("[API][GET] 이벤트 현재 인원 스트림 구독")
+    @Test
+    void givenEventId_whenSubscribingOccupancyStream_thenStartsEventStream() throws Exception {
+        // Given
+        long eventId = 1L;
+        given(eventOccupancyStreamService.subscribeEvent(eventId)).willReturn(new SseEmitter());
+
+        // When & Then
+        mvc.perform(get("/api/events/" + eventId + "/occupancy/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+        then(eventOccupancyStreamService).should().subscribeEvent(eventId);
+    }
+
+    @DisplayName("[API][POST] 이벤트 대기열 등록")
+    @Test
+    void givenWaitlistRequest_whenJoiningWaitlist_thenReturnsWaitlistEntryInStandardResponse() throws Exception {
+        // Given
+        long eventId = 1L;
+        WaitlistRequest waitlistRequest = WaitlistRequest.of("010-1234-5678");
+        given(eventWaitlistService.join(eventId, waitlistRequest.phoneNumber()))
+                .willReturn(WaitlistResponse.of(10L, eventId, WaitlistStatus.WAITING, 3));
+
+        // When & Then
+        mvc.perform(
+                post("/api/events/" + eventId + "/waitlist")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(waitlistRequest))
+        )
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.id").value(10L))
+                .andExpect(jsonPath("$.data.eventId").value(eventId))
+                .andExpect(jsonPath("$.data.waitlistStatus").value(WaitlistStatus.WAITING.name()))
+                .andExpect(jsonPath("$.data.position").value(3))
+                .andExpect(jsonPath("$.success").value(true));
+        then(eventWaitlistService).should().join(eventId, waitlistRequest.phoneNumber());
+    }
+
+    @DisplayName("[API][GET] 이벤트 대기 상태 조회 - 이미 입장 처리된 대기자")
+    @Test
+    void givenPromotedEntry_whenRequestingWaitlistEntry_thenReturnsImmediately() throws Exception {
+        // Given
+        long eventId = 1L;
+        long entryId = 10L;
+        given(eventWaitlistService.getEntry(eventId, entryId))
+                .willReturn(Optional.of(WaitlistResponse.of(entryId, eventId, WaitlistStatus.PROMOTED, null)));
+
+        // When
+        MvcResult mvcResult = mvc.perform(get("/api/events/" + eventId + "/waitlist/" + entryId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.waitlistStatus").value(WaitlistStatus.PROMOTED.name()))
+                .andExpect(jsonPath("$.success").value(true));
+        then(eventWaitlistService).should().getEntry(eventId, entryId);
+        then(eventWaitlistService).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("[API][DELETE] 이벤트 대기 취소")
+    @Test
+    void givenWaitlistEntry_whenCancelling_thenReturnsSuccessfulStandardResponse() throws Exception {
+        // Given
+        long eventId = 1L;
+        long entryId = 10L;
+        given(eventWaitlistService.cancel(eventId, entryId)).willReturn(true);
+
+        // When & Then
+        mvc.perform(delete("/api/events/" + eventId + "/waitlist/" + entryId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(Boolean.TRUE.toString()))
+                .andExpect(jsonPath("$.success").value(true));
+        then(eventWaitlistService).should().cancel(eventId, entryId);
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.study.covidinline.controller.api;
+
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.constant.ExportFormat;
+import com.study.covidinline.dto.EventViewResponse;
+import com.study.covidinline.dto.EventViewSliceResponse;
+import com.study.covidinline.service.EventExportService;
+import com.study.covidinline.service.EventService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 이벤트 뷰")
+@WebMvcTest(APIEventViewController.class)
+class APIEventViewControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean
+    private EventService eventService;
+    @MockBean
+    private EventExportService eventExportService;
+
+    public APIEventViewControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[API][GET] 이벤트 뷰 검색 - keyset 페이징")
+    @Test
+    void givenCursor_whenRequestingEventViews_thenReturnsSliceInStandardResponse() throws Exception {
+        // Given
+        String cursor = "cursor";
+        given(eventService.getEventViewSlice(null, null, EventStatus.OPENED, null, null, cursor, 2))
+                .willReturn(EventViewSliceResponse.of(List.of(createEventViewResponse()), "next", true));
+
+        // When & Then
+        mvc.perform(
+                get("/api/event-views")
+                        .queryParam("eventStatus", EventStatus.OPENED.name())
+                        .queryParam("cursor", cursor)
+                        .queryParam("size", "2")
+        )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.events[0].eventName").value("운동1"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.OK.getCode()));
+        then(eventService).should().getEventViewSlice(null, null, EventStatus.OPENED, null, null, cursor, 2);
+    }
+
+    @DisplayName("[API][GET] 이벤트 뷰 검색 - 허용 범위를 벗어난 페이지 크기")
+    @Test
+    void givenTooLargeSize_whenRequestingEventViews_thenReturnsFailedStandardResponse() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/event-views").queryParam("size", "1000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.VALIDATION_ERROR.getCode()));
+        then(eventService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[API][GET] 진행 중인 이벤트 뷰")
+    @Test
+    void givenDatetime_whenRequestingLiveEventViews_thenReturnsEventViewsInStandardResponse() throws Exception {
+        // Given
+        LocalDateTime at = LocalDateTime.of(2021, 1, 1, 10, 0, 0);
+        given(eventService.getLiveEventViews(at, null, 20))
+                .willReturn(EventViewSliceResponse.of(List.of(createEventViewResponse()), "next", true));
+
+        // When & Then
+        mvc.perform(get("/api/event-views/live").queryParam("at", "2021-01-01T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.events[0].eventName").value("운동1"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.OK.getCode()));
+        then(eventService).should().getLiveEventViews(at, null, 20);
+    }
+
+    @DisplayName("[API][GET] 겹치는 이벤트 뷰 - 허용 범위를 벗어난 페이지 크기")
+    @Test
+    void givenTooLargeSize_whenRequestingOverlappingEventViews_thenReturnsFailedStandardResponse() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(
+                get("/api/event-views/overlapping")
+                        .queryParam("from", "2021-01-01T09:00:00")
+                        .queryParam("to", "2021-01-01T12:00:00")
+                        .queryParam("size", "1000")
+        )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.VALIDATION_ERROR.getCode()));
+        then(eventService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[API][GET] 이벤트 뷰 내보내기 - CSV")
+    @Test
+    void givenCsvFormat_whenExportingEventViews_thenStreamsCsvAttachment() throws Exception {
+        // Given
+        given(eventExportService.export(eq(ExportFormat.CSV), any(), any(), any(), any(), any(), any(OutputStream.class)))
+                .willAnswer(invocation -> {
+                    OutputStream outputStream = invocation.getArgument(6);
+                    outputStream.write("id,placeName\n1,서울 배드민턴장\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        // When
+        MvcResult mvcResult = mvc.perform(get("/api/event-views/export").queryParam("format", ExportFormat.CSV.name()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ExportFormat.CSV.getContentType()))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("events.csv")))
+                .andExpect(content().bytes("id,placeName\n1,서울 배드민턴장\n".getBytes(StandardCharsets.UTF_8)));
+        then(eventExportService).should().export(eq(ExportFormat.CSV), any(), any(), any(), any(), any(), any(OutputStream.class));
+    }
+
+    @DisplayName("[API][GET] 이벤트 뷰 내보내기 - 설정한 비동기 제한 시간으로 쓴다")
+    @Test
+    void givenExportRequest_whenExportingEventViews_thenUsesConfiguredAsyncTimeout() throws Exception {
+        // Given
+        given(eventExportService.export(any(), any(), any(), any(), any(), any(), any(OutputStream.class))).willReturn(0L);
+
+        // When
+        MvcResult mvcResult = mvc.perform(get("/api/event-views/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(10).toMillis());
+        mvc.perform(asyncDispatch(mvcResult)).andExpect(status().isOk());
+    }
+
+
+    private EventViewResponse createEventViewResponse() {
+        return EventViewResponse.of(
+                1L,
+                "서울 배드민턴장",
+                "운동1",
+                EventStatus.OPENED,
+                LocalDateTime.of(2021, 1, 1, 9, 0, 0),
+                LocalDateTime.of(2021, 1, 1, 12, 0, 0),
+                0,
+                24,
+                "마스크 꼭 착용하세요"
+        );
+    }
+}
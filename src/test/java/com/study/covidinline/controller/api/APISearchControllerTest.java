@@ -0,0 +1,90 @@
+package com.study.covidinline.controller.api;
+
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.constant.PlaceType;
+import com.study.covidinline.constant.SuggestionType;
+import com.study.covidinline.dto.PlaceResponse;
+import com.study.covidinline.dto.SearchResponse;
+import com.study.covidinline.dto.SuggestionResponse;
+import com.study.covidinline.service.SearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 검색")
+@WebMvcTest(APISearchController.class)
+class APISearchControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean
+    private SearchService searchService;
+
+    public APISearchControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[API][GET] 검색 - 초성 검색어")
+    @Test
+    void givenChosungQuery_whenSearching_thenReturnsSearchResultInStandardResponse() throws Exception {
+        // Given
+        String query = "ㅂㄷㅁㅌ";
+        given(searchService.search(query, 5)).willReturn(SearchResponse.of(
+                List.of(PlaceResponse.of(1L, PlaceType.SPORTS, "서울 배드민턴장", "경기도 성남시 대왕판교로 999", "010-9999-0000", 20, null, 3)),
+                List.of()
+        ));
+
+        // When & Then
+        mvc.perform(get("/api/search").queryParam("q", query).queryParam("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.places[0].placeName").value("서울 배드민턴장"))
+                .andExpect(jsonPath("$.data.events").isEmpty())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.OK.getCode()));
+        then(searchService).should().search(query, 5);
+    }
+
+    @DisplayName("[API][GET] 자동완성")
+    @Test
+    void givenPartialQuery_whenSuggesting_thenReturnsSuggestionsInStandardResponse() throws Exception {
+        // Given
+        String query = "배드미";
+        given(searchService.suggest(query, 10)).willReturn(List.of(
+                SuggestionResponse.of(SuggestionType.PLACE, 1L, "서울 배드민턴장", 16L)
+        ));
+
+        // When & Then
+        mvc.perform(get("/api/suggest").queryParam("q", query))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].type").value(SuggestionType.PLACE.name()))
+                .andExpect(jsonPath("$.data[0].text").value("서울 배드민턴장"))
+                .andExpect(jsonPath("$.data[0].score").value(16))
+                .andExpect(jsonPath("$.success").value(true));
+        then(searchService).should().suggest(query, 10);
+    }
+
+    @DisplayName("[API][GET] 검색 - 빈 검색어")
+    @Test
+    void givenBlankQuery_whenSearching_thenReturnsFailedStandardResponse() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/search").queryParam("q", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.VALIDATION_ERROR.getCode()));
+        then(searchService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,78 @@
+package com.study.covidinline.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("색인 - 자동완성 trie")
+class CompletionTrieTest {
+
+    private final CompletionTrie sut = new CompletionTrie();
+
+    @DisplayName("앞부분으로 찾으면, 점수가 높은 순서로 limit 개만 중복 없이 돌려준다.")
+    @Test
+    void givenEntries_whenFindingTopK_thenReturnsHighestScoresFirst() {
+        // Given
+        sut.put(1L, 10, List.of("badminton", "court"));
+        sut.put(2L, 30, List.of("bad"));
+        sut.put(3L, 20, List.of("ball", "bad ball"));
+        sut.put(4L, 99, List.of("court"));
+
+        // When
+        List<CompletionTrie.Suggestion> result = sut.topK("ba", 2, 100);
+
+        // Then
+        assertThat(result)
+                .extracting(CompletionTrie.Suggestion::key)
+                .containsExactly(2L, 3L);
+        assertThat(sut.topK("bad", 10, 100))
+                .extracting(CompletionTrie.Suggestion::key)
+                .containsExactly(2L, 3L, 1L);
+        assertThat(sut.topK("x", 10, 100)).isEmpty();
+    }
+
+    @DisplayName("점수를 바꾸거나 항목을 지우면, 다음 조회 순위에 바로 반영한다.")
+    @Test
+    void givenChangedScores_whenFindingTopK_thenReflectsLatestScores() {
+        // Given
+        sut.put(1L, 10, List.of("event a"));
+        sut.put(2L, 20, List.of("event b"));
+        sut.put(3L, 30, List.of("event c"));
+
+        // When
+        sut.updateScore(1L, 100);
+        sut.updateScore(3L, 0);
+        sut.remove(2L);
+
+        // Then
+        assertThat(sut.topK("event", 10, 100))
+                .extracting(CompletionTrie.Suggestion::key, CompletionTrie.Suggestion::score)
+                .containsExactly(
+                        tuple(1L, 100L),
+                        tuple(3L, 0L)
+                );
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+    @DisplayName("같은 앞부분을 가진 항목이 많아도, 지운 항목을 정리한 뒤에도 점수 순서가 유지된다.")
+    @Test
+    void givenManyEntriesAndRemovals_whenFindingTopK_thenKeepsOrdering() {
+        // Given
+        LongStream.rangeClosed(1, 1000).forEach(key -> sut.put(key, key, List.of("place " + key)));
+
+        // When
+        LongStream.rangeClosed(1, 900).forEach(sut::remove);
+        List<CompletionTrie.Suggestion> result = sut.topK("place", 3, 1000);
+
+        // Then
+        assertThat(result)
+                .extracting(CompletionTrie.Suggestion::key)
+                .containsExactly(1000L, 999L, 998L);
+        assertThat(sut.size()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.covidinline.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("색인 - 구간 sweep-line")
+class IntervalSweepTest {
+
+    @DisplayName("구간들을 주면, 겹치는 쌍과 겹치는 구간을 모두 돌려준다. 맞닿거나 빈 구간은 겹치지 않는다.")
+    @Test
+    void givenIntervals_whenSweeping_thenReturnsAllOverlappingPairs() {
+        // Given
+        List<IntervalSweep.Interval> intervals = List.of(
+                new IntervalSweep.Interval(1L, 9, 12),
+                new IntervalSweep.Interval(2L, 10, 11),
+                new IntervalSweep.Interval(3L, 11, 14),
+                new IntervalSweep.Interval(4L, 14, 16),
+                new IntervalSweep.Interval(5L, 15, 15)
+        );
+
+        // When
+        List<IntervalSweep.Overlap> result = IntervalSweep.overlaps(intervals);
+
+        // Then
+        assertThat(result)
+                .extracting(IntervalSweep.Overlap::id, IntervalSweep.Overlap::otherId, IntervalSweep.Overlap::start, IntervalSweep.Overlap::end)
+                .containsExactly(
+                        tuple(1L, 2L, 10L, 11L),
+                        tuple(1L, 3L, 11L, 12L)
+                );
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.covidinline.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("색인 - 구간 트리")
+class IntervalTreeTest {
+
+    private final IntervalTree sut = new IntervalTree();
+
+    @DisplayName("시간대를 주면, 그 시간대와 겹치는 구간들을 시작 순서로 돌려준다. 끝과 시작이 맞닿은 것은 겹치지 않는다.")
+    @Test
+    void givenIntervals_whenQueryingOverlapping_thenReturnsOverlappingIdsInStartOrder() {
+        // Given
+        sut.put(1L, 9, 12);
+        sut.put(2L, 13, 16);
+        sut.put(3L, 11, 14);
+        sut.put(4L, 13, 12);   // 끝이 시작보다 빠른 구간
+
+        // When
+        List<Long> morning = sut.overlapping(10, 13);
+        List<Long> noon = sut.containing(12);
+        List<Long> evening = sut.overlapping(16, 20);
+
+        // Then
+        assertThat(morning).containsExactly(1L, 3L);
+        assertThat(noon).containsExactly(3L);
+        assertThat(evening).isEmpty();
+    }
+
+    @DisplayName("구간을 바꾸거나 지우면, 바뀐 구간으로 찾는다.")
+    @Test
+    void givenChangedIntervals_whenQueryingOverlapping_thenReflectsChanges() {
+        // Given
+        sut.put(1L, 9, 12);
+        sut.put(2L, 13, 16);
+        sut.put(1L, 17, 18);
+        sut.remove(2L);
+
+        // When
+        List<Long> result = sut.overlapping(0, 100);
+
+        // Then
+        assertThat(result).containsExactly(1L);
+        assertThat(sut.containing(10)).isEmpty();
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("자기 자신을 빼고 겹치는 구간을 찾으면, 다른 구간의 id 를 돌려준다.")
+    @Test
+    void givenExcludedId_whenFindingAnyOverlap_thenIgnoresExcludedInterval() {
+        // Given
+        sut.put(1L, 9, 12);
+        sut.put(2L, 12, 15);
+
+        // When & Then
+        assertThat(sut.findAnyOverlap(10, 11, 1L)).isEmpty();
+        assertThat(sut.findAnyOverlap(10, 13, 1L)).hasValue(2L);
+    }
+
+    @DisplayName("무작위로 넣고 빼도, 전부 훑어서 찾은 결과와 같다.")
+    @Test
+    void givenRandomIntervals_whenQueryingOverlapping_thenMatchesLinearScan() {
+        // Given
+        Random random = new Random(17);
+        long[][] intervals = new long[500][];
+        for (int i = 0; i < 2000; i++) {
+            int id = random.nextInt(intervals.length);
+            if (random.nextInt(4) == 0) {
+                sut.remove(id);
+                intervals[id] = null;
+            } else {
+                long start = random.nextInt(1000);
+                long end = start + random.nextInt(50);
+                sut.put(id, start, end);
+                intervals[id] = new long[]{start, end};
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            long from = random.nextInt(1000);
+            long to = from + random.nextInt(30) + 1;
+
+            // When
+            List<Long> result = sut.overlapping(from, to);
+
+            // Then
+            List<Long> expected = new ArrayList<>();
+            for (int id = 0; id < intervals.length; id++) {
+                long[] interval = intervals[id];
+                if (interval != null && interval[0] < to && interval[1] > from && interval[1] > interval[0]) {
+                    expected.add((long) id);
+                }
+            }
+            assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.study.covidinline.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("색인 - 한글 자모/초성")
+class JamoIndexTest {
+
+    @DisplayName("한글을 자모로 풀면, 겹자음과 겹모음까지 낱자로 풀고 공백은 없앤다.")
+    @Test
+    void givenHangul_whenDecomposing_thenReturnsJamoSequence() {
+        // Given
+
+        // When & Then
+        assertThat(HangulJamo.decompose("배드 민")).isEqualTo("ㅂㅐㄷㅡㅁㅣㄴ");
+        assertThat(HangulJamo.decompose("닭과")).isEqualTo("ㄷㅏㄹㄱㄱㅗㅏ");
+        assertThat(HangulJamo.chosung("서울 배드민턴장")).isEqualTo("ㅅㅇㅂㄷㅁㅌㅈ");
+        assertThat(HangulJamo.isChosungQuery("ㅂㄷ ㅁㅌ")).isTrue();
+        assertThat(HangulJamo.isChosungQuery("배ㄷ")).isFalse();
+    }
+
+    @DisplayName("초성, 입력 중인 글자, 뒤쪽 단어로 검색하면, 단어 앞부분이 맞는 id 를 찾는다.")
+    @Test
+    void givenIndexedTexts_whenSearching_thenMatchesByChosungAndPartialSyllable() {
+        // Given
+        JamoIndex sut = new JamoIndex();
+        sut.replaceAll(Map.of(
+                1L, List.of("서울 배드민턴장", "경기도 성남시 대왕판교로 999"),
+                2L, List.of("패캠 레스토랑", "서울시 강남구 가나대로 123"),
+                3L, List.of("천국 스키장", "하늘 천국 천국로 555")
+        ));
+
+        // When & Then
+        assertThat(sut.search("ㅂㄷㅁㅌ", 10)).containsExactly(1L);
+        assertThat(sut.search("배드미", 10)).containsExactly(1L);
+        assertThat(sut.search("서울배", 10)).containsExactly(1L);
+        assertThat(sut.search("서울", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(sut.search("강남", 10)).containsExactly(2L);
+        assertThat(sut.search("ㅅㅋ", 10)).containsExactly(3L);
+        assertThat(sut.search("드민", 10)).isEmpty();
+        assertThat(sut.search("서울", 1)).hasSize(1);
+    }
+
+    @DisplayName("색인을 만든 뒤에 바꾸거나 지우면, 본체를 다시 만들기 전에도 바로 반영한다.")
+    @Test
+    void givenChanges_whenSearching_thenReflectsChangesBeforeAndAfterRebuild() {
+        // Given
+        JamoIndex sut = new JamoIndex(2);
+        sut.replaceAll(Map.of(1L, List.of("서울 배드민턴장"), 2L, List.of("패캠 레스토랑")));
+
+        // When
+        sut.put(1L, "서울 탁구장");
+        sut.put(3L, "패캠 배드민턴 클럽");
+        List<Long> beforeRebuild = sut.search("ㅂㄷㅁㅌ", 10);
+        sut.remove(2L);
+        List<Long> afterRebuild = sut.search("ㅍㅋ", 10);
+
+        // Then
+        assertThat(beforeRebuild).containsExactly(3L);
+        assertThat(afterRebuild).containsExactly(3L);
+        assertThat(sut.search("ㅌㄱ", 10)).containsExactly(1L);
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+    @DisplayName("여러 글을 한 번에 넣거나 지우면, 기존 내용은 두고 한 번에 반영한다.")
+    @Test
+    void givenBatchChanges_whenSearching_thenReflectsAllChangesAndKeepsOthers() {
+        // Given
+        JamoIndex sut = new JamoIndex();
+        sut.replaceAll(Map.of(1L, List.of("서울 배드민턴장"), 2L, List.of("패캠 레스토랑")));
+
+        // When
+        sut.putAll(Map.of(3L, List.of("패캠 배드민턴 클럽"), 4L, List.of("천국 스키장")));
+        sut.removeAll(List.of(1L, 5L));
+
+        // Then
+        assertThat(sut.search("ㅂㄷㅁㅌ", 10)).containsExactly(3L);
+        assertThat(sut.search("ㅍㅋ", 10)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(sut.search("스키", 10)).containsExactly(4L);
+        assertThat(sut.size()).isEqualTo(3);
+    }
+
+    @DisplayName("한 번에 반영한 변경이 밀린 변경 한도를 넘으면, 본체를 한 번 다시 만들고 그대로 찾는다.")
+    @Test
+    void givenBatchLargerThanPendingLimit_whenSearching_thenRebuildsOnce() {
+        // Given
+        JamoIndex sut = new JamoIndex(2);
+
+        // When
+        sut.putAll(Map.of(1L, List.of("서울 배드민턴장"), 2L, List.of("패캠 레스토랑"), 3L, List.of("천국 스키장")));
+
+        // Then
+        assertThat(sut.search("ㅂㄷㅁㅌ", 10)).containsExactly(1L);
+        assertThat(sut.search("ㅅㅋ", 10)).containsExactly(3L);
+        assertThat(sut.size()).isEqualTo(3);
+    }
+}
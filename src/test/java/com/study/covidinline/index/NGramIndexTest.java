@@ -0,0 +1,67 @@
+package com.study.covidinline.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("색인 - n-gram 역색인")
+class NGramIndexTest {
+
+    private final NGramIndex sut = new NGramIndex();
+
+    @DisplayName("부분 문자열로 검색하면, 길이와 대소문자에 상관없이 그 문자열을 포함한 id 들을 돌려준다.")
+    @Test
+    void givenTexts_whenSearching_thenReturnsIdsContainingQuery() {
+        // Given
+        sut.put(1L, "서울 배드민턴장");
+        sut.put(2L, "패캠 레스토랑");
+        sut.put(3L, "Fastcampus Badminton Hall");
+
+        // When
+        Set<Long> single = sut.search("턴");
+        Set<Long> shortQuery = sut.search("패캠");
+        Set<Long> longQuery = sut.search("배드민턴장");
+        Set<Long> ignoreCase = sut.search("BADMINTON");
+        Set<Long> none = sut.search("배드민턴 레스토랑");
+
+        // Then
+        assertThat(single).containsExactly(1L);
+        assertThat(shortQuery).containsExactly(2L);
+        assertThat(longQuery).containsExactly(1L);
+        assertThat(ignoreCase).containsExactly(3L);
+        assertThat(none).isEmpty();
+    }
+
+    @DisplayName("조각은 모두 있지만 이어지지 않는 검색어는, 실제로 포함하지 않으므로 찾지 않는다.")
+    @Test
+    void givenScatteredGrams_whenSearching_thenVerifiesCandidates() {
+        // Given
+        sut.put(1L, "abcd xbcde");
+
+        // When
+        Set<Long> result = sut.search("abcde");
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @DisplayName("값을 바꾸거나 지우면, 이전 값으로는 더 이상 찾지 않는다.")
+    @Test
+    void givenChangedText_whenSearching_thenReflectsLatestText() {
+        // Given
+        sut.put(1L, "운동1");
+        sut.put(2L, "운동2");
+
+        // When
+        sut.put(1L, "행사1");
+        sut.remove(2L);
+
+        // Then
+        assertThat(sut.search("운동")).isEmpty();
+        assertThat(sut.search("행사")).containsExactly(1L);
+        assertThat(sut.size()).isEqualTo(1);
+    }
+}
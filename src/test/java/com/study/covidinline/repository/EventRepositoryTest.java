@@ -1,7 +1,21 @@
 package com.study.covidinline.repository;
 
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.BooleanBuilder;
 import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.constant.WaitlistStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.domain.WaitlistEntry;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.EventViewCursor;
 import com.study.covidinline.dto.EventViewResponse;
+import com.study.covidinline.dto.EventViewSliceResponse;
+import com.study.covidinline.dto.OccupancyResponse;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,20 +23,124 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.lang.reflect.Method;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
 @DisplayName("08 - 이벤트")
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class EventRepositoryTest {
 
     private final EventRepository eventRepository;
+    private final PlaceRepository placeRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Statistics statistics;
 
-    public EventRepositoryTest(@Autowired EventRepository eventRepository) {
+    public EventRepositoryTest(
+            @Autowired EventRepository eventRepository,
+            @Autowired PlaceRepository placeRepository,
+            @Autowired WaitlistEntryRepository waitlistEntryRepository,
+            @Autowired EntityManager entityManager,
+            @Autowired EntityManagerFactory entityManagerFactory
+    ) {
         this.eventRepository = eventRepository;
+        this.placeRepository = placeRepository;
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.entityManager = entityManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("predicate 로 이벤트를 조회하면, 장소까지 SQL 한 번으로 함께 읽어 온다.")
+    @Test
+    void givenPredicate_whenFindingEventsWithPlace_thenLoadsPlacesInSingleStatement() {
+        // Given
+        long eventCount = eventRepository.count();
+        statistics.clear();
+
+        // When
+        List<Event> events = eventRepository.findAllWithPlace(new BooleanBuilder());
+        List<String> placeNames = events.stream().map(event -> event.getPlace().getPlaceName()).toList();
+
+        // Then
+        assertThat(events).hasSize((int) eventCount);
+        assertThat(placeNames).doesNotContainNull();
+        assertThat(events).allSatisfy(event -> assertThat(Hibernate.isInitialized(event.getPlace())).isTrue());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("2차 캐시가 비어 있어도 이벤트를 id 로 조회하면, 장소를 join 으로 함께 읽어서 이벤트마다 SQL 한 번으로 끝난다.")
+    @Test
+    void givenEmptySecondLevelCache_whenFindingEventsById_thenLoadsPlaceInSameStatement() {
+        // Given
+        entityManagerFactory.getCache().evictAll();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        Event first = eventRepository.findById(1L).orElseThrow();
+        Event second = eventRepository.findById(2L).orElseThrow();
+
+        // Then
+        assertThat(first.getPlace().getPlaceName()).isEqualTo("서울 배드민턴장");
+        assertThat(second.getPlace()).isSameAs(first.getPlace());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("이벤트와 함께 읽은 장소는 2차 캐시에 들어가서, 장소를 id 로 다시 조회하면 place 테이블을 조회하지 않는다.")
+    @Test
+    void givenPlaceLoadedWithEvent_whenFindingPlace_thenReadsPlaceFromSecondLevelCache() {
+        // Given
+        entityManagerFactory.getCache().evictAll();
+        Long placeId = eventRepository.findById(1L).orElseThrow().getPlace().getId();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        Place place = placeRepository.findById(placeId).orElseThrow();
+
+        // Then
+        assertThat(place.getPlaceName()).isEqualTo("서울 배드민턴장");
+        assertThat(statistics.getDomainDataRegionStatistics(Place.class.getName()).getHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("predicate 로 이벤트 DTO 를 조회하면, 엔티티를 만들지 않고 장소 정보까지 DTO 로 바로 읽어 온다.")
+    @Test
+    void givenPredicate_whenFindingEventDTOs_thenReturnsDTOsWithoutLoadingEntities() {
+        // Given
+        QEvent event = QEvent.event;
+        statistics.clear();
+
+        // When
+        List<EventDTO> events = eventRepository.findEventDTOs(
+                event.place.placeName.containsIgnoreCase("배드민턴").and(event.eventName.eq("운동1"))
+        );
+
+        // Then
+        assertThat(events)
+                .hasSize(1)
+                .first()
+                .hasFieldOrPropertyWithValue("eventName", "운동1")
+                .hasFieldOrPropertyWithValue("eventStatus", EventStatus.OPENED);
+        assertThat(events.get(0).placeDTO())
+                .hasFieldOrPropertyWithValue("placeName", "서울 배드민턴장");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
     }
 
     @DisplayName("이벤트 뷰 데이터를 검색 파라미터와 함께 조회하면, 조건에 맞는 데이터를 페이징 처리하여 리턴한다.")
@@ -33,6 +151,7 @@ class EventRepositoryTest {
 
         // When
         Page<EventViewResponse> eventPage = eventRepository.findEventViewPageBySearchParams(
+                null,
                 "배드민턴",
                 "운동1",
                 EventStatus.OPENED,
@@ -52,6 +171,38 @@ class EventRepositoryTest {
                 .hasFieldOrPropertyWithValue("eventEndDatetime", LocalDateTime.of(2021, 1, 1, 12, 0, 0));
     }
 
+    @DisplayName("이벤트 뷰 데이터를 id 목록과 함께 조회하면, 이름 조건 대신 그 id 들 중에서 조건에 맞는 데이터를 리턴한다.")
+    @Test
+    void givenEventIds_whenFindingEventViewPage_thenReturnsOnlyGivenEvents() {
+        // Given
+
+        // When
+        Page<EventViewResponse> eventPage = eventRepository.findEventViewPageBySearchParams(
+                List.of(1L, 2L, 3L),
+                "무시되는 장소 이름",
+                null,
+                EventStatus.OPENED,
+                null,
+                null,
+                PageRequest.of(0, 5)
+        );
+        Page<EventViewResponse> emptyPage = eventRepository.findEventViewPageBySearchParams(
+                List.of(),
+                null,
+                null,
+                null,
+                null,
+                null,
+                PageRequest.of(0, 5)
+        );
+
+        // Then
+        assertThat(eventPage.getContent())
+                .extracting(EventViewResponse::id)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(emptyPage).isEmpty();
+    }
+
     @DisplayName("이벤트 뷰 데이터 검색어에 따른 조회 결과가 없으면, 빈 데이터를 페이징 정보와 함께 리턴한다.")
     @Test
     void givenSearchParams_whenFindingNonexistentEventViewPage_thenReturnsEmptyEventViewResponsePage() {
@@ -59,6 +210,7 @@ class EventRepositoryTest {
 
         // When
         Page<EventViewResponse> eventPage = eventRepository.findEventViewPageBySearchParams(
+                null,
                 "없은 장소",
                 "없는 이벤트",
                 null,
@@ -83,6 +235,7 @@ class EventRepositoryTest {
                 null,
                 null,
                 null,
+                null,
                 PageRequest.of(0, 5)
         );
 
@@ -90,6 +243,103 @@ class EventRepositoryTest {
         assertThat(eventPage).hasSize(5);
     }
 
+    @DisplayName("이벤트 뷰 데이터를 cursor 로 이어서 조회하면, 시작 일시가 같아도 중복이나 누락 없이 순서대로 리턴한다.")
+    @Test
+    void givenCursor_whenFindingEventViewSlices_thenReturnsSlicesInKeysetOrder() {
+        // Given
+        List<EventViewResponse> all = new ArrayList<>();
+        EventViewCursor cursor = null;
+
+        // When
+        EventViewSliceResponse slice;
+        do {
+            slice = eventRepository.findEventViewSliceBySearchParams(null, null, null, null, null, null, cursor, 4);
+            all.addAll(slice.events());
+            cursor = EventViewCursor.decode(slice.nextCursor());
+        } while (slice.hasNext());
+
+        // Then
+        assertThat(all).hasSize((int) eventRepository.count());
+        assertThat(all).extracting(EventViewResponse::id).doesNotHaveDuplicates();
+        assertThat(all)
+                .isSortedAccordingTo(Comparator.comparing(EventViewResponse::eventStartDatetime)
+                        .thenComparing(EventViewResponse::id));
+        assertThat(slice.nextCursor()).isNull();
+    }
+
+    @DisplayName("이벤트 뷰 데이터를 검색 파라미터와 cursor 없이 조회하면, 첫 페이지와 다음 cursor 를 리턴한다.")
+    @Test
+    void givenSearchParams_whenFindingFirstEventViewSlice_thenReturnsFirstSliceWithNextCursor() {
+        // Given
+
+        // When
+        EventViewSliceResponse slice = eventRepository.findEventViewSliceBySearchParams(
+                null,
+                null,
+                null,
+                EventStatus.ABORTED,
+                null,
+                null,
+                null,
+                3
+        );
+
+        // Then
+        assertThat(slice.events())
+                .hasSize(3)
+                .allSatisfy(event -> assertThat(event.eventStatus()).isEqualTo(EventStatus.ABORTED));
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(EventViewCursor.decode(slice.nextCursor()))
+                .isEqualTo(EventViewCursor.from(slice.events().get(2)));
+    }
+
+    @DisplayName("predicate 로 이벤트 뷰를 cursor 와 함께 조회하면, cursor 다음의 조건에 맞는 데이터만 한 페이지 리턴한다.")
+    @Test
+    void givenPredicateAndCursor_whenFindingEventViewSlice_thenReturnsNextSliceMatchingPredicate() {
+        // Given
+        EventViewSliceResponse first = eventRepository.findEventViewSlice(QEvent.event.eventStatus.eq(EventStatus.ABORTED), null, 2);
+
+        // When
+        EventViewSliceResponse next = eventRepository.findEventViewSlice(
+                QEvent.event.eventStatus.eq(EventStatus.ABORTED),
+                EventViewCursor.decode(first.nextCursor()),
+                2
+        );
+
+        // Then
+        assertThat(next.events())
+                .isNotEmpty()
+                .allSatisfy(event -> assertThat(event.eventStatus()).isEqualTo(EventStatus.ABORTED))
+                .doesNotContainAnyElementsOf(first.events());
+        assertThat(next.events().get(0).eventStartDatetime()).isAfterOrEqualTo(first.events().get(1).eventStartDatetime());
+    }
+
+    @DisplayName("이벤트 뷰 데이터를 커서로 읽으면, 검색 조건에 맞는 데이터를 시작 일시 순서대로 한 건씩 리턴한다.")
+    @Test
+    void givenSearchParams_whenIteratingEventViews_thenReturnsRowsInOrder() {
+        // Given
+        List<EventViewResponse> events = new ArrayList<>();
+
+        // When
+        try (CloseableIterator<EventViewResponse> iterator = eventRepository.iterateEventViewsBySearchParams(
+                null,
+                null,
+                EventStatus.CANCELLED,
+                null,
+                null,
+                3
+        )) {
+            iterator.forEachRemaining(events::add);
+        }
+
+        // Then
+        assertThat(events)
+                .isNotEmpty()
+                .allSatisfy(event -> assertThat(event.eventStatus()).isEqualTo(EventStatus.CANCELLED))
+                .isSortedAccordingTo(Comparator.comparing(EventViewResponse::eventStartDatetime)
+                        .thenComparing(EventViewResponse::id));
+    }
+
     @DisplayName("이벤트 뷰 데이터를 페이징 정보 없이 조회하면, 에러를 리턴한다.")
     @Test
     void givenNothing_whenFindingEventViewPage_thenThrowsError() {
@@ -102,6 +352,7 @@ class EventRepositoryTest {
                 null,
                 null,
                 null,
+                null,
                 null
         ));
 
@@ -109,4 +360,216 @@ class EventRepositoryTest {
         assertThat(t).isInstanceOf(InvalidDataAccessApiUsageException.class);
     }
 
-}
\ No newline at end of file
+    @DisplayName("상태를 한꺼번에 바꾸면, 전환 전 상태가 맞는 이벤트만 바꾸고 version 을 올린다.")
+    @Test
+    void givenEventIds_whenUpdatingEventStatus_thenUpdatesOnlyEventsInFromStatuses() {
+        // Given
+        Event opened = eventRepository.findById(1L).orElseThrow();
+        Event closed = eventRepository.findById(5L).orElseThrow();
+        Long version = opened.getVersion();
+        assertThat(closed.getEventStatus()).isEqualTo(EventStatus.CLOSED);
+
+        // When
+        int updated = eventRepository.updateEventStatus(
+                List.of(1L, 5L),
+                List.of(EventStatus.PENDING, EventStatus.OPENED),
+                EventStatus.CLOSED
+        );
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(eventRepository.findById(1L))
+                .hasValueSatisfying(event -> {
+                    assertThat(event.getEventStatus()).isEqualTo(EventStatus.CLOSED);
+                    assertThat(event.getVersion()).isEqualTo(version + 1);
+                });
+    }
+
+    @DisplayName("일부 정보만 바꾸면, 읽지 않고 그 컬럼만 UPDATE 하고 version 을 올린 뒤 올라와 있던 옛 엔티티를 떼어 낸다.")
+    @Test
+    void givenPartialEventInfo_whenUpdatingPartially_thenUpdatesOnlyGivenColumns() {
+        // Given
+        Event before = eventRepository.findById(1L).orElseThrow();
+        String eventName = before.getEventName();
+        Long version = before.getVersion();
+        EventDTO dto = EventDTO.of(null, null, null, null, null, null, null, 99, null, null, null);
+        statistics.clear();
+
+        // When
+        long updated = eventRepository.updatePartially(1L, version, dto);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(eventRepository.findById(1L))
+                .hasValueSatisfying(event -> {
+                    assertThat(event.getCapacity()).isEqualTo(99);
+                    assertThat(event.getEventName()).isEqualTo(eventName);
+                    assertThat(event.getVersion()).isEqualTo(version + 1);
+                });
+    }
+
+    @DisplayName("읽은 뒤 다른 요청이 먼저 고쳤으면, 일부 정보 변경은 아무것도 바꾸지 않고 낙관적 락 충돌 에러를 던진다.")
+    @Test
+    void givenStaleVersion_whenUpdatingPartially_thenThrowsOptimisticLockingFailure() {
+        // Given
+        Long version = eventRepository.findVersionById(1L).orElseThrow();
+        eventRepository.updatePartially(1L, version, EventDTO.of(null, null, "먼저 고친 이름", null, null, null, null, null, null, null, null));
+
+        // When
+        Throwable t = catchThrowable(() -> eventRepository.updatePartially(
+                1L, version, EventDTO.of(null, null, null, null, null, null, null, 99, null, null, null)));
+
+        // Then
+        assertThat(t).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(eventRepository.findById(1L))
+                .hasValueSatisfying(event -> {
+                    assertThat(event.getEventName()).isEqualTo("먼저 고친 이름");
+                    assertThat(event.getVersion()).isEqualTo(version + 1);
+                });
+    }
+
+    @DisplayName("여러 이벤트의 정원을 한꺼번에 바꾸면, 주어진 이벤트만 UPDATE 하고 바뀐 수를 리턴한다.")
+    @Test
+    void givenEventIds_whenUpdatingAllPartially_thenUpdatesOnlyGivenEvents() {
+        // Given
+        Integer untouchedCapacity = eventRepository.findById(3L).orElseThrow().getCapacity();
+        EventDTO dto = EventDTO.of(null, null, null, null, null, null, null, 77, null, null, null);
+
+        // When
+        long updated = eventRepository.updateAllPartially(List.of(1L, 2L), dto);
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(eventRepository.findAllById(List.of(1L, 2L))).extracting(Event::getCapacity).containsOnly(77);
+        assertThat(eventRepository.findById(3L)).hasValueSatisfying(event ->
+                assertThat(event.getCapacity()).isEqualTo(untouchedCapacity));
+    }
+
+    @DisplayName("변경 쿼리 메서드는 Spring Data REST 검색 경로(/api/events/search)로 내보내지 않는다.")
+    @Test
+    void givenModifyingQueries_whenCheckingRestExport_thenNoneIsExported() throws Exception {
+        // Given
+        List<Method> modifyingMethods = Arrays.stream(EventRepository.class.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Modifying.class))
+                .toList();
+        Method findAllByPlaceId = EventRepository.class.getDeclaredMethod("findAllByPlaceId", Long.class);
+
+        // When & Then
+        assertThat(modifyingMethods).isNotEmpty();
+        assertThat(modifyingMethods).allSatisfy(method -> {
+            RestResource restResource = method.getAnnotation(RestResource.class);
+            assertThat(restResource).as(method.getName()).isNotNull();
+            assertThat(restResource.exported()).as(method.getName()).isFalse();
+        });
+        assertThat(findAllByPlaceId.getAnnotation(RestResource.class).exported()).isFalse();
+    }
+
+    @DisplayName("장소의 이벤트 인원들을 조회하면, 엔티티를 읽지 않고 인원 정보만 읽어 온다.")
+    @Test
+    void givenPlaceId_whenFindingOccupancies_thenReadsProjectionWithoutLoadingEntities() {
+        // Given
+        long placeId = 1L;
+        List<Event> events = eventRepository.findAllByPlaceId(placeId);
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        List<OccupancyResponse> result = eventRepository.findOccupanciesByPlaceId(placeId);
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrderElementsOf(events.stream().map(OccupancyResponse::from).toList());
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("장소를 딸린 데이터와 함께 지우면, 이벤트와 관리자 매핑까지 컬렉션을 읽지 않고 지우고 지운 이벤트 id 를 리턴한다.")
+    @Test
+    void givenPlaceWithEvents_whenDeletingWithDependents_thenDeletesEventsAndMappingsWithoutLoadingCollections() {
+        // Given
+        long placeId = 1L;
+        List<Long> eventIds = eventRepository.findAllByPlaceId(placeId).stream().map(Event::getId).toList();
+        assertThat(eventIds).isNotEmpty();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        List<Long> result = placeRepository.deleteWithDependents(placeId);
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrderElementsOf(eventIds);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(placeRepository.findById(placeId)).isEmpty();
+        assertThat(eventRepository.findAllByPlaceId(placeId)).isEmpty();
+        assertThat(eventRepository.findById(eventIds.get(0))).isEmpty();
+    }
+
+    @DisplayName("대기열이 있던 이벤트를 딸린 데이터와 함께 지우면, 대기 정보부터 지우고 이벤트를 지운다.")
+    @Test
+    void givenEventWithWaitlist_whenDeletingWithDependents_thenDeletesWaitlistEntriesAndEvent() {
+        // Given
+        long eventId = 1L;
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        WaitlistEntry waiting = waitlistEntryRepository.save(WaitlistEntry.of(event, "010-1111-1111", WaitlistStatus.WAITING));
+        WaitlistEntry promoted = waitlistEntryRepository.save(WaitlistEntry.of(event, "010-2222-2222", WaitlistStatus.PROMOTED));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        long result = eventRepository.deleteWithDependents(eventId);
+        entityManager.flush();
+
+        // Then
+        assertThat(result).isEqualTo(1L);
+        assertThat(eventRepository.findById(eventId)).isEmpty();
+        assertThat(waitlistEntryRepository.findById(waiting.getId())).isEmpty();
+        assertThat(waitlistEntryRepository.findById(promoted.getId())).isEmpty();
+    }
+
+    @DisplayName("없는 이벤트를 딸린 데이터와 함께 지우면, 아무것도 지우지 않고 0 을 리턴한다.")
+    @Test
+    void givenNonexistentEvent_whenDeletingWithDependents_thenReturnsZero() {
+        // Given
+        long eventCount = eventRepository.count();
+
+        // When
+        long result = eventRepository.deleteWithDependents(0L);
+
+        // Then
+        assertThat(result).isZero();
+        assertThat(eventRepository.count()).isEqualTo(eventCount);
+    }
+
+    @DisplayName("새 이벤트들을 한꺼번에 저장하면, 초기 데이터와 겹치지 않는 id 를 미리 받아서 모두 저장한다.")
+    @Test
+    void givenNewEvents_whenInsertingAll_thenSavesEventsWithAllocatedIds() {
+        // Given
+        long eventCount = eventRepository.count();
+        Place place = eventRepository.findById(1L).orElseThrow().getPlace();
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            events.add(Event.of(
+                    place,
+                    "batch event " + i,
+                    EventStatus.OPENED,
+                    LocalDateTime.of(2022, 1, 1, 9, 0, 0).plusDays(i),
+                    LocalDateTime.of(2022, 1, 1, 12, 0, 0).plusDays(i),
+                    0,
+                    10,
+                    null
+            ));
+        }
+
+        // When
+        List<Event> result = eventRepository.insertAll(events);
+
+        // Then
+        assertThat(result)
+                .extracting(Event::getId)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates()
+                .allSatisfy(id -> assertThat(id).isGreaterThanOrEqualTo(1000L));
+        assertThat(eventRepository.count()).isEqualTo(eventCount + 120);
+    }
+
+}
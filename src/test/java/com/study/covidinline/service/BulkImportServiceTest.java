@@ -0,0 +1,288 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.constant.ImportStatus;
+import com.study.covidinline.constant.ImportTarget;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.ImportCheckpoint;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.ImportProgressResponse;
+import com.study.covidinline.index.IntervalSweep;
+import com.study.covidinline.dto.PlaceBatchChange;
+import com.study.covidinline.repository.EventRepository;
+import com.study.covidinline.repository.ImportCheckpointRepository;
+import com.study.covidinline.repository.PlaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.study.covidinline.service.ServiceFixtures.createPlace;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - CSV 일괄 등록")
+@ExtendWith(MockitoExtension.class)
+class BulkImportServiceTest {
+
+    private static final String PLACE_CSV = """
+            placeType,placeName,address,phoneNumber,capacity,memo
+            SPORTS,배드민턴장,"서울시 강남구, 1층",010-1111-1111,20,
+            COMMON,패캠 본사,서울시 강남구,010-2222-2222,50,"메모 ""중요""\"
+            PARTY,무도회장,서울시 강남구 2층,010-3333-3333,10,
+            """;
+
+    private BulkImportService sut;
+
+    @Mock private PlaceRepository placeRepository;
+    @Mock private EventRepository eventRepository;
+    @Mock private ImportCheckpointRepository importCheckpointRepository;
+    @Mock private EventIntervalIndex eventIntervalIndex;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final AtomicLong ids = new AtomicLong(1000);
+
+    @BeforeEach
+    void setUp() {
+        sut = new BulkImportService(
+                placeRepository,
+                eventRepository,
+                importCheckpointRepository,
+                eventIntervalIndex,
+                new TransactionTemplate(transactionManager),
+                eventPublisher,
+                2,
+                2,
+                100
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @DisplayName("장소 CSV 를 주면, chunk 마다 저장하고 진행 지점을 남긴 뒤 완료 상태를 보여준다.")
+    @Test
+    void givenPlaceCsv_whenImporting_thenSavesInChunksWithCheckpoints() throws Exception {
+        // Given
+        givenSavingPlaces();
+
+        // When
+        sut.importPlaces("job-1", bytes(PLACE_CSV));
+        ImportProgressResponse result = awaitProgress("job-1");
+
+        // Then
+        assertThat(result.importStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(result.totalRows()).isEqualTo(3);
+        assertThat(result.writtenRows()).isEqualTo(3);
+        assertThat(result.errors()).isEmpty();
+        then(placeRepository).should(times(2)).saveAll(anyList());
+        assertThat(savedCheckpoints()).extracting(ImportCheckpoint::getCommittedRows).containsExactly(2L, 3L);
+        then(eventPublisher).should(times(2)).publishEvent(any(PlaceBatchChange.class));
+    }
+
+    @DisplayName("진행 지점이 있으면, 이미 저장한 행은 건너뛰고 다음 행부터 이어서 저장한다.")
+    @Test
+    void givenCheckpoint_whenImportingSameFileAgain_thenResumesFromCheckpoint() throws Exception {
+        // Given
+        given(importCheckpointRepository.findById("job-1"))
+                .willReturn(Optional.of(ImportCheckpoint.of("job-1", ImportTarget.PLACE, sha256(PLACE_CSV), 2L)));
+        givenSavingPlaces();
+
+        // When
+        sut.importPlaces("job-1", bytes(PLACE_CSV));
+        ImportProgressResponse result = awaitProgress("job-1");
+
+        // Then
+        assertThat(result.importStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(result.skippedRows()).isEqualTo(2);
+        assertThat(result.writtenRows()).isEqualTo(1);
+        then(placeRepository).should().saveAll(anyList());
+        assertThat(savedCheckpoints()).extracting(ImportCheckpoint::getCommittedRows).containsExactly(3L);
+    }
+
+    @DisplayName("저장 중 실패하면, 실패한 행 범위를 알려주고 진행 지점은 마지막으로 저장한 chunk 까지만 남는다.")
+    @Test
+    void givenFailingChunk_whenImporting_thenFailsAndKeepsLastCheckpoint() throws Exception {
+        // Given
+        given(placeRepository.saveAll(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0))
+                .willThrow(new RuntimeException("db down"));
+
+        // When
+        sut.importPlaces("job-1", bytes(PLACE_CSV));
+        ImportProgressResponse result = awaitProgress("job-1");
+
+        // Then
+        assertThat(result.importStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(result.writtenRows()).isEqualTo(2);
+        assertThat(result.errors()).containsExactly("line 4-4: db down");
+        assertThat(savedCheckpoints()).extracting(ImportCheckpoint::getCommittedRows).containsExactly(2L);
+    }
+
+    @DisplayName("이벤트 CSV 에 잘못된 행이 있으면, 아무것도 저장하지 않고 행 번호와 이유를 보여준다.")
+    @Test
+    void givenInvalidEventRows_whenImporting_thenFailsWithoutSaving() throws Exception {
+        // Given
+        String csv = """
+                place_id,event_name,event_status,event_start_datetime,event_end_datetime,capacity
+                1,오전 운동,OPENED,2021-01-01 09:00:00,2021-01-01 12:00:00,20
+                9,오후 운동,OPENED,2021-01-01T13:00:00,2021-01-01T16:00:00,20
+                1,저녁 운동,PARTY,2021-01-01T18:00:00,2021-01-01T20:00:00,20
+                1,밤 운동,OPENED,2021-01-01T22:00:00,2021-01-01T21:00:00,20
+                """;
+        given(placeRepository.findAllById(any())).willReturn(List.of(createPlace(1L)));
+
+        // When
+        sut.importEvents("job-2", bytes(csv));
+        ImportProgressResponse result = awaitProgress("job-2");
+
+        // Then
+        assertThat(result.importStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(result.errors()).hasSize(3);
+        assertThat(result.errors().get(0)).isEqualTo("line 3: place not found - placeId: 9");
+        assertThat(result.errors().get(1)).startsWith("line 4: eventStatus must be one of");
+        assertThat(result.errors().get(2)).isEqualTo("line 5: eventEndDatetime must be after eventStartDatetime");
+        then(placeRepository).should().findAllById(any());
+        then(eventRepository).shouldHaveNoInteractions();
+        then(importCheckpointRepository).should(never()).save(any());
+    }
+
+    @DisplayName("이벤트 CSV 안에서 한 행이 여러 행과 시간이 겹치면, 겹치는 앞 행을 모두 알려준다.")
+    @Test
+    void givenRowOverlappingSeveralRows_whenImporting_thenReportsAllOverlappedLines() throws Exception {
+        // Given
+        String csv = """
+                placeId,eventName,eventStatus,eventStartDatetime,eventEndDatetime,capacity
+                1,오전 운동,OPENED,2021-01-01T09:00:00,2021-01-01T10:00:00,20
+                1,점심 운동,OPENED,2021-01-01T11:00:00,2021-01-01T12:00:00,20
+                1,종일 운동,OPENED,2021-01-01T09:00:00,2021-01-01T18:00:00,20
+                """;
+        given(placeRepository.findAllById(any())).willReturn(List.of(createPlace(1L)));
+        given(eventIntervalIndex.findConflictsAmong(anyList())).willReturn(List.of(
+                new IntervalSweep.Overlap(0L, 2L, 0L, 1L),
+                new IntervalSweep.Overlap(1L, 2L, 2L, 3L)
+        ));
+
+        // When
+        sut.importEvents("job-4", bytes(csv));
+        ImportProgressResponse result = awaitProgress("job-4");
+
+        // Then
+        assertThat(result.importStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(result.errors()).containsExactly("line 4: event time overlaps line 2, 3 at the same place");
+        then(eventRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("이벤트 CSV 를 주면, 장소를 한 번에 읽고 batch insert 로 저장한 뒤 변경 알림을 보낸다.")
+    @Test
+    void givenEventCsv_whenImporting_thenResolvesPlacesOnceAndInsertsInBatch() throws Exception {
+        // Given
+        String csv = """
+                placeId,eventName,eventStatus,eventStartDatetime,eventEndDatetime,capacity,memo
+                1,오전 운동,OPENED,2021-01-01T09:00:00,2021-01-01T12:00:00,20,
+                1,오후 운동,PENDING,2021-01-01T13:00:00,2021-01-01T16:00:00,20,"마스크, 꼭"
+                """;
+        given(placeRepository.findAllById(any())).willReturn(List.of(createPlace(1L)));
+        given(eventRepository.insertAll(anyList())).willAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            events.forEach(event -> ReflectionTestUtils.setField(event, "id", ids.incrementAndGet()));
+            return events;
+        });
+
+        // When
+        sut.importEvents("job-3", bytes(csv));
+        ImportProgressResponse result = awaitProgress("job-3");
+
+        // Then
+        assertThat(result.importStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(result.writtenRows()).isEqualTo(2);
+        then(placeRepository).should().findAllById(any());
+        then(placeRepository).should().findAllForUpdate(Set.of(1L));
+        then(placeRepository).shouldHaveNoMoreInteractions();
+        then(eventRepository).should().insertAll(anyList());
+        then(eventPublisher).should().publishEvent(any(EventBatchChange.class));
+    }
+
+    @DisplayName("검사한 뒤 저장하기 전에 같은 장소에 겹치는 이벤트가 생기면, 장소를 잠근 채 다시 검사해서 저장하지 않는다.")
+    @Test
+    void givenConflictCreatedAfterCheck_whenImportingEvents_thenFailsWithoutInserting() throws Exception {
+        // Given
+        String csv = """
+                placeId,eventName,eventStatus,eventStartDatetime,eventEndDatetime,capacity,memo
+                1,오전 운동,OPENED,2021-01-01T09:00:00,2021-01-01T12:00:00,20,
+                """;
+        given(placeRepository.findAllById(any())).willReturn(List.of(createPlace(1L)));
+        given(eventIntervalIndex.findConflict(any(), eq(1L), any(), any(), any()))
+                .willReturn(Optional.empty(), Optional.of(7L));
+
+        // When
+        sut.importEvents("job-4", bytes(csv));
+        ImportProgressResponse result = awaitProgress("job-4");
+
+        // Then
+        assertThat(result.importStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(result.errors()).containsExactly("line 2-2: event time overlaps eventId 7 at the same place");
+        then(placeRepository).should().findAllForUpdate(Set.of(1L));
+        then(eventRepository).should(never()).insertAll(anyList());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+
+    /**
+     * 작업은 뒤에서 돌기 때문에 끝날 때까지 잠깐 기다린다.
+     */
+    private ImportProgressResponse awaitProgress(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        ImportProgressResponse progress = sut.getProgress(jobId).orElseThrow();
+        while (progress.importStatus() == ImportStatus.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            progress = sut.getProgress(jobId).orElseThrow();
+        }
+
+        return progress;
+    }
+
+    private void givenSavingPlaces() {
+        given(placeRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Place> places = invocation.getArgument(0);
+            places.forEach(place -> ReflectionTestUtils.setField(place, "id", ids.incrementAndGet()));
+            return places;
+        });
+    }
+
+    private List<ImportCheckpoint> savedCheckpoints() {
+        ArgumentCaptor<ImportCheckpoint> captor = ArgumentCaptor.forClass(ImportCheckpoint.class);
+        then(importCheckpointRepository).should(atLeastOnce()).save(captor.capture());
+
+        return captor.getAllValues();
+    }
+
+    private byte[] bytes(String csv) {
+        return csv.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String sha256(String csv) throws Exception {
+        return String.format("%064x", new BigInteger(1, MessageDigest.getInstance("SHA-256").digest(bytes(csv))));
+    }
+}
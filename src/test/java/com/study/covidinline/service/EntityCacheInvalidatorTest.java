@@ -0,0 +1,40 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.config.CacheConfig;
+import com.study.covidinline.dto.OccupancyDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - id 캐시 무효화")
+class EntityCacheInvalidatorTest {
+
+    private EntityCacheInvalidator sut;
+    private Cache events;
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = new CacheConfig().cacheManager(10, 60, 10, 60);
+        sut = new EntityCacheInvalidator(cacheManager);
+        events = cacheManager.getCache(CacheConfig.EVENTS);
+    }
+
+    @DisplayName("이벤트 현재 인원이 바뀌면, 그 이벤트의 캐시만 버린다.")
+    @Test
+    void givenCachedEvents_whenOccupancyChanged_thenEvictsOnlyThatEvent() {
+        // Given
+        events.put(1L, "event 1");
+        events.put(2L, "event 2");
+
+        // When
+        sut.onOccupancyChanged(OccupancyDelta.of(1L, 1));
+
+        // Then
+        assertThat(events.get(1L)).isNull();
+        assertThat(events.get(2L)).isNotNull();
+    }
+}
@@ -0,0 +1,76 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.config.CacheConfig;
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.dto.EventChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - id 캐시 무효화와 트랜잭션")
+@SpringBootTest(classes = {
+        CacheConfig.class,
+        EntityCacheInvalidator.class,
+        TransactionalEventListenerFactory.class
+})
+class EntityCacheInvalidatorTransactionTest {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache events;
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+
+    public EntityCacheInvalidatorTransactionTest(
+            @Autowired ApplicationEventPublisher eventPublisher,
+            @Autowired CacheManager cacheManager
+    ) {
+        this.eventPublisher = eventPublisher;
+        this.events = cacheManager.getCache(CacheConfig.EVENTS);
+    }
+
+    @BeforeEach
+    void setUp() {
+        events.clear();
+    }
+
+    @DisplayName("트랜잭션 안에서 이벤트가 바뀌면, 커밋 전에는 캐시를 그대로 두고 커밋된 뒤에 버린다.")
+    @Test
+    void givenCachedEvent_whenEventChangedInTransaction_thenEvictsAfterCommit() {
+        // Given
+        events.put(1L, "event 1");
+
+        // When
+        Object beforeCommit = transactionTemplate.execute(status -> {
+            eventPublisher.publishEvent(EventChange.of(ChangeType.MODIFIED, 1L, null));
+            return events.get(1L);
+        });
+
+        // Then
+        assertThat(beforeCommit).isNotNull();
+        assertThat(events.get(1L)).isNull();
+    }
+
+    @DisplayName("이벤트를 바꾼 트랜잭션이 롤백되면, 캐시를 버리지 않는다.")
+    @Test
+    void givenCachedEvent_whenEventChangeRolledBack_thenKeepsCache() {
+        // Given
+        events.put(1L, "event 1");
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(EventChange.of(ChangeType.MODIFIED, 1L, null));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(events.get(1L)).isNotNull();
+    }
+}
@@ -0,0 +1,123 @@
+package com.study.covidinline.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mysema.commons.lang.IteratorAdapter;
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.constant.ExportFormat;
+import com.study.covidinline.dto.EventViewResponse;
+import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 이벤트 내보내기")
+@ExtendWith(MockitoExtension.class)
+class EventExportServiceTest {
+
+    private EventExportService sut;
+
+    @Mock private EventRepository eventRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        sut = new EventExportService(eventRepository, transactionManager, objectMapper, 2);
+    }
+
+    @DisplayName("NDJSON 으로 내보내면, 커서에서 읽은 이벤트를 한 줄에 하나씩 JSON 으로 쓴다.")
+    @Test
+    void givenEvents_whenExportingNdjson_thenWritesOneJsonObjectPerLine() {
+        // Given
+        givenEvents(createEventViewResponse(1L, "운동1"), createEventViewResponse(2L, "운동2"), createEventViewResponse(3L, "운동3"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        long count = sut.export(ExportFormat.NDJSON, null, null, null, null, null, outputStream);
+
+        // Then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0))
+                .startsWith("{")
+                .contains("\"eventName\":\"운동1\"")
+                .contains("\"eventStartDatetime\":\"2021-01-01T09:00:00\"");
+        then(eventRepository).should().iterateEventViewsBySearchParams(null, null, null, null, null, 2);
+    }
+
+    @DisplayName("CSV 로 내보내면, 헤더와 함께 쉼표나 따옴표가 있는 값은 따옴표로 감싸서 쓴다.")
+    @Test
+    void givenEventsWithSpecialCharacters_whenExportingCsv_thenWritesEscapedRows() {
+        // Given
+        givenEvents(createEventViewResponse(1L, "운동, \"오전\""));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        long count = sut.export(ExportFormat.CSV, null, null, null, null, null, outputStream);
+
+        // Then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(count).isEqualTo(1);
+        assertThat(lines).containsExactly(
+                "id,placeName,eventName,eventStatus,eventStartDatetime,eventEndDatetime,currentNumberOfPeople,capacity,memo",
+                "1,서울 배드민턴장,\"운동, \"\"오전\"\"\",OPENED,2021-01-01T09:00,2021-01-01T12:00,0,24,"
+        );
+    }
+
+    @DisplayName("이벤트를 읽다가 에러가 발생하면, 기본 에러로 전환하여 예외 던진다.")
+    @Test
+    void givenDataRelatedException_whenExporting_thenThrowsGeneralException() {
+        // Given
+        given(eventRepository.iterateEventViewsBySearchParams(any(), any(), any(), any(), any(), anyInt()))
+                .willThrow(new RuntimeException("This is test."));
+
+        // When
+        Throwable thrown = catchThrowable(() -> sut.export(ExportFormat.NDJSON, null, null, null, null, null, new ByteArrayOutputStream()));
+
+        // Then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DATA_ACCESS_ERROR);
+    }
+
+
+    private void givenEvents(EventViewResponse... events) {
+        given(eventRepository.iterateEventViewsBySearchParams(any(), any(), any(), any(), any(), anyInt()))
+                .willReturn(new IteratorAdapter<>(List.of(events).iterator()));
+    }
+
+    private EventViewResponse createEventViewResponse(Long id, String eventName) {
+        return EventViewResponse.of(
+                id,
+                "서울 배드민턴장",
+                eventName,
+                EventStatus.OPENED,
+                LocalDateTime.of(2021, 1, 1, 9, 0, 0),
+                LocalDateTime.of(2021, 1, 1, 12, 0, 0),
+                0,
+                24,
+                null
+        );
+    }
+}
@@ -0,0 +1,174 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.BooleanBuilder;
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventConflictResponse;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.study.covidinline.service.ServiceFixtures.createPlace;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@DisplayName("비즈니스 로직 - 이벤트 시간 색인")
+@ExtendWith(MockitoExtension.class)
+class EventIntervalIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
+
+    private EventIntervalIndex sut;
+
+    @Mock private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new EventIntervalIndex(eventRepository);
+        given(eventRepository.findEventDTOs(any(BooleanBuilder.class))).willReturn(List.of(
+                EventDTO.of(createEvent(1L, 1L, EventStatus.OPENED, 9, 12)),
+                EventDTO.of(createEvent(2L, 1L, EventStatus.OPENED, 13, 16)),
+                EventDTO.of(createEvent(3L, 2L, EventStatus.OPENED, 10, 14)),
+                EventDTO.of(createEvent(4L, 1L, EventStatus.CANCELLED, 10, 12))
+        ));
+        sut.load();
+    }
+
+    @DisplayName("시각을 주면, 장소와 상관없이 그때 진행 중인 이벤트들을 돌려준다.")
+    @Test
+    void givenDatetime_whenFindingLiveEvents_thenReturnsRunningEventIds() {
+        // Given
+
+        // When
+        List<Long> result = sut.findLiveEventIds(DAY.withHour(11)).orElseThrow();
+
+        // Then
+        assertThat(result).containsExactly(1L, 3L, 4L);
+    }
+
+    @DisplayName("같은 장소에서 시간이 겹치면 충돌한 이벤트를 알려주고, 취소된 이벤트나 자기 자신은 충돌로 보지 않는다.")
+    @Test
+    void givenOverlappingTime_whenFindingConflict_thenReturnsConflictingEventAtSamePlace() {
+        // Given
+
+        // When & Then
+        assertThat(sut.findConflict(null, 1L, EventStatus.OPENED, DAY.withHour(11), DAY.withHour(14))).hasValue(1L);
+        assertThat(sut.findConflict(null, 1L, EventStatus.OPENED, DAY.withHour(12), DAY.withHour(13))).isEmpty();
+        assertThat(sut.findConflict(null, 1L, EventStatus.CANCELLED, DAY.withHour(11), DAY.withHour(14))).isEmpty();
+        assertThat(sut.findConflict(1L, null, null, null, DAY.withHour(12).withMinute(30))).isEmpty();
+        assertThat(sut.findConflict(1L, null, null, null, DAY.withHour(14))).hasValue(2L);
+    }
+
+    @DisplayName("이벤트가 바뀌면, 바뀐 시간으로 충돌을 판단한다.")
+    @Test
+    void givenModifiedEvent_whenFindingConflict_thenUsesNewTime() {
+        // Given
+        sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, 2L, createEvent(2L, 1L, EventStatus.OPENED, 17, 18)));
+
+        // When & Then
+        assertThat(sut.findConflict(null, 1L, EventStatus.OPENED, DAY.withHour(13), DAY.withHour(16))).isEmpty();
+        assertThat(sut.findLiveEventIds(DAY.withHour(17)).orElseThrow()).containsExactly(2L);
+    }
+
+    @DisplayName("트랜잭션 안에서 이벤트가 바뀌면, 커밋 전에는 색인에 반영하지 않고 그 장소의 겹침 검사는 DB 로 하다가 커밋된 뒤에 반영한다.")
+    @Test
+    void givenEventChangedInTransaction_whenFindingConflict_thenUsesDatabaseUntilCommitted() {
+        // Given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+        Event created = createEvent(5L, 1L, EventStatus.OPENED, 17, 18);
+        given(eventRepository.findEventDTOs(any(BooleanBuilder.class))).willReturn(List.of(EventDTO.of(created)));
+
+        // When
+        List<Optional<Long>> beforeCommit = transactionTemplate.execute(status -> {
+            sut.onEventChanged(EventChange.of(ChangeType.CREATED, 5L, created));
+            return List.of(
+                    sut.findConflict(null, 1L, EventStatus.OPENED, DAY.withHour(17), DAY.withHour(18)),
+                    sut.findConflict(null, 2L, EventStatus.OPENED, DAY.withHour(17), DAY.withHour(18)),
+                    sut.findLiveEventIds(DAY.withHour(17)).orElseThrow().stream().findFirst()
+            );
+        });
+        Optional<Long> afterCommit = sut.findConflict(null, 1L, EventStatus.OPENED, DAY.withHour(17), DAY.withHour(18));
+
+        // Then
+        assertThat(beforeCommit).containsExactly(Optional.of(5L), Optional.empty(), Optional.empty());
+        assertThat(afterCommit).hasValue(5L);
+        assertThat(sut.findLiveEventIds(DAY.withHour(17)).orElseThrow()).containsExactly(5L);
+        then(eventRepository).should(times(2)).findEventDTOs(any(BooleanBuilder.class));
+    }
+
+    @DisplayName("이벤트를 바꾼 트랜잭션이 롤백되면, 색인에 반영하지 않고 겹침 검사도 다시 색인으로 한다.")
+    @Test
+    void givenEventChangeRolledBack_whenFindingConflict_thenKeepsIndexUnchanged() {
+        // Given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            sut.onEventChanged(EventChange.of(ChangeType.CREATED, 5L, createEvent(5L, 1L, EventStatus.OPENED, 17, 18)));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(sut.findConflict(null, 1L, EventStatus.OPENED, DAY.withHour(17), DAY.withHour(18))).isEmpty();
+        assertThat(sut.findLiveEventIds(DAY.withHour(17)).orElseThrow()).isEmpty();
+        then(eventRepository).should(times(1)).findEventDTOs(any(BooleanBuilder.class));
+    }
+
+    @DisplayName("충돌 보고서를 만들면, 장소별로 겹치는 이벤트 쌍을 모두 돌려준다.")
+    @Test
+    void givenOverlappingEvents_whenFindingAllConflicts_thenReturnsConflictingPairsPerPlace() {
+        // Given
+        sut.onEventChanged(EventChange.of(ChangeType.CREATED, 5L, createEvent(5L, 1L, EventStatus.OPENED, 11, 14)));
+
+        // When
+        List<EventConflictResponse> result = sut.findAllConflicts();
+
+        // Then
+        assertThat(result)
+                .extracting(EventConflictResponse::placeId, EventConflictResponse::eventId, EventConflictResponse::conflictingEventId, EventConflictResponse::overlapStartDatetime)
+                .containsExactly(
+                        tuple(1L, 1L, 5L, DAY.withHour(11)),
+                        tuple(1L, 5L, 2L, DAY.withHour(13))
+                );
+    }
+
+    @DisplayName("한 번에 만들 이벤트들을 주면, 같은 장소에서 시간이 겹치는 쌍을 모두 목록 안의 순번으로 알려준다.")
+    @Test
+    void givenNewEvents_whenFindingConflictsAmongThem_thenReturnsAllOverlappingIndexesAtSamePlace() {
+        // Given
+        List<EventDTO> events = List.of(
+                EventDTO.of(createEvent(0L, 1L, EventStatus.OPENED, 9, 12)),
+                EventDTO.of(createEvent(0L, 2L, EventStatus.OPENED, 10, 12)),
+                EventDTO.of(createEvent(0L, 1L, EventStatus.CANCELLED, 10, 11)),
+                EventDTO.of(createEvent(0L, 1L, EventStatus.OPENED, 11, 13)),
+                EventDTO.of(createEvent(0L, 1L, EventStatus.OPENED, 12, 14))
+        );
+
+        // When & Then
+        assertThat(sut.findConflictsAmong(events))
+                .extracting("id", "otherId")
+                .containsExactly(tuple(0L, 3L), tuple(3L, 4L));
+        assertThat(sut.findConflictsAmong(events.subList(0, 3))).isEmpty();
+    }
+
+
+    private Event createEvent(long id, long placeId, EventStatus eventStatus, int hourStart, int hourEnd) {
+        return ServiceFixtures.createEvent(id, createPlace(placeId), eventStatus, DAY.withHour(hourStart), DAY.withHour(hourEnd));
+    }
+}
@@ -0,0 +1,111 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.dto.OccupancyDelta;
+import com.study.covidinline.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 입장/퇴장 group commit")
+@ExtendWith(MockitoExtension.class)
+class EventOccupancyBatcherTest {
+
+    private EventOccupancyBatcher sut;
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private EventRepository eventRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        sut = new EventOccupancyBatcher(jdbcTemplate, eventRepository, new TransactionTemplate(transactionManager), eventPublisher, 5, 256);
+    }
+
+    @DisplayName("여러 이벤트의 입장/퇴장 요청을 모아 반영하면, 이벤트별 증감분을 합쳐 JDBC batch 한 번으로 기록하고 모두 허용한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenRequestsForSeveralEvents_whenCommitting_thenWritesOneBatchAndAcceptsAll() {
+        // Given
+        List<EventOccupancyBatcher.Request> batch = List.of(
+                request(1L, 1),
+                request(2L, 1),
+                request(1L, 1),
+                request(1L, -1),
+                request(1L, 1)
+        );
+        ArgumentCaptor<List<Object[]>> argsCaptor = ArgumentCaptor.forClass(List.class);
+        given(jdbcTemplate.batchUpdate(anyString(), argsCaptor.capture())).willReturn(new int[]{1, 1});
+
+        // When
+        sut.commit(batch);
+
+        // Then
+        assertThat(batch).allSatisfy(request -> assertThat(request.result()).isCompletedWithValue(true));
+        assertThat(argsCaptor.getValue())
+                .containsExactly(new Object[]{2, 1L, 2, 1}, new Object[]{1, 2L, 1, 1});
+        then(jdbcTemplate).should().batchUpdate(anyString(), anyList());
+        then(eventRepository).shouldHaveNoInteractions();
+        then(eventPublisher).should().publishEvent(OccupancyDelta.of(1L, 2));
+        then(eventPublisher).should().publishEvent(OccupancyDelta.of(2L, 1));
+    }
+
+    @DisplayName("합친 증감분이 정원 조건에 걸리면, 해당 이벤트 요청만 도착 순서대로 한 건씩 판정한다.")
+    @Test
+    void givenEventNearCapacity_whenCommitting_thenFallsBackToPerRequestUpdates() {
+        // Given
+        EventOccupancyBatcher.Request first = request(1L, 1);
+        EventOccupancyBatcher.Request second = request(1L, 1);
+        EventOccupancyBatcher.Request other = request(2L, -1);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{0, 1});
+        given(eventRepository.checkIn(1L)).willReturn(1, 0);
+
+        // When
+        sut.commit(List.of(first, second, other));
+
+        // Then
+        assertThat(first.result()).isCompletedWithValue(true);
+        assertThat(second.result()).isCompletedWithValue(false);
+        assertThat(other.result()).isCompletedWithValue(true);
+        then(eventRepository).should(times(2)).checkIn(1L);
+        then(eventRepository).should(never()).checkOut(any());
+        then(eventPublisher).should().publishEvent(OccupancyDelta.of(1L, 1));
+        then(eventPublisher).should().publishEvent(OccupancyDelta.of(2L, -1));
+    }
+
+    @DisplayName("배치 반영 중 에러가 발생하면, 모든 요청을 예외로 완료한다.")
+    @Test
+    void givenDataRelatedException_whenCommitting_thenFailsAllRequests() {
+        // Given
+        EventOccupancyBatcher.Request request = request(1L, 1);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new RuntimeException("This is test."));
+
+        // When
+        sut.commit(List.of(request));
+
+        // Then
+        assertThat(request.result()).isCompletedExceptionally();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+
+    private EventOccupancyBatcher.Request request(Long eventId, int delta) {
+        return new EventOccupancyBatcher.Request(eventId, delta, new CompletableFuture<>());
+    }
+}
@@ -0,0 +1,100 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.dto.OccupancyDelta;
+import com.study.covidinline.dto.OccupancyResponse;
+import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 이벤트 인원 스트림")
+@ExtendWith(MockitoExtension.class)
+class EventOccupancyStreamServiceTest {
+
+    private EventOccupancyStreamService sut;
+
+    @Mock private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new EventOccupancyStreamService(eventRepository, 60_000, 3, 1, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @DisplayName("장소의 인원 스트림을 구독하면, 장소의 이벤트 인원들을 조회해서 구독자로 등록한다.")
+    @Test
+    void givenPlaceId_whenSubscribing_thenRegistersSubscriber() {
+        // Given
+        long placeId = 1L;
+        given(eventRepository.findOccupanciesByPlaceId(placeId)).willReturn(List.of(createOccupancy(1L), createOccupancy(2L)));
+
+        // When
+        SseEmitter emitter = sut.subscribePlace(placeId);
+        sut.onOccupancyChanged(OccupancyDelta.of(1L, 1));
+        sut.dispatch();
+
+        // Then
+        assertThat(emitter).isNotNull();
+        assertThat(sut.subscriberCount()).isEqualTo(1);
+        then(eventRepository).should().findOccupanciesByPlaceId(placeId);
+    }
+
+    @DisplayName("스냅샷을 읽는 사이에 인원이 바뀌면, 구독한 이벤트의 증감분만 남겨 두었다가 보낸다.")
+    @Test
+    void givenDeltaDuringSnapshot_whenSubscribing_thenKeepsOnlySubscribedEventDelta() {
+        // Given
+        long placeId = 1L;
+        given(eventRepository.findOccupanciesByPlaceId(placeId)).willAnswer(invocation -> {
+            sut.onOccupancyChanged(OccupancyDelta.of(1L, 1));
+            sut.onOccupancyChanged(OccupancyDelta.of(9L, 1));
+            return List.of(createOccupancy(1L), createOccupancy(2L));
+        });
+
+        // When
+        sut.subscribePlace(placeId);
+
+        // Then
+        assertThat(sut.subscriberCount()).isEqualTo(1);
+        assertThat(sut.pendingDeltaCount()).isEqualTo(1);
+    }
+
+    @DisplayName("없는 이벤트의 인원 스트림을 구독하면, 에러를 던진다.")
+    @Test
+    void givenNonexistentEventId_whenSubscribing_thenThrowsGeneralException() {
+        // Given
+        long eventId = 1L;
+        given(eventRepository.findOccupancyById(eventId)).willReturn(Optional.empty());
+
+        // When
+        Throwable thrown = catchThrowable(() -> sut.subscribeEvent(eventId));
+
+        // Then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND);
+        assertThat(sut.subscriberCount()).isZero();
+    }
+
+
+    private OccupancyResponse createOccupancy(long eventId) {
+        return OccupancyResponse.of(eventId, 1L, 0, 10);
+    }
+}
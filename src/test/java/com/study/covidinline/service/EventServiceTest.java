@@ -2,34 +2,52 @@ package com.study.covidinline.service;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
+import com.study.covidinline.constant.ChangeType;
 import com.study.covidinline.constant.ErrorCode;
 import com.study.covidinline.constant.EventStatus;
-import com.study.covidinline.constant.PlaceType;
 import com.study.covidinline.domain.Event;
-import com.study.covidinline.domain.Place;
+import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
 import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.EventViewCursor;
 import com.study.covidinline.dto.EventViewResponse;
+import com.study.covidinline.dto.EventViewSliceResponse;
 import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.index.IntervalSweep;
 import com.study.covidinline.repository.EventRepository;
 import com.study.covidinline.repository.PlaceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
 
+import static com.study.covidinline.service.ServiceFixtures.createPlace;
+import static com.study.covidinline.service.ServiceFixtures.withId;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.*;
 
 @DisplayName("비즈니스 로직 - 이벤트")
@@ -42,22 +60,31 @@ class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
     @Mock private PlaceRepository placeRepository;
+    @Mock private PlaceOccupancyService placeOccupancyService;
+    @Mock private EventWaitlistService eventWaitlistService;
+    @Spy private OptimisticLockRetrier optimisticLockRetrier = new OptimisticLockRetrier(new SimpleMeterRegistry(), 3, 0);
+    @Spy private ListingResultCache listingResultCache = new ListingResultCache(new CaffeineCacheManager());
+    @Mock private NameSearchIndex nameSearchIndex;
+    @Mock private EventIntervalIndex eventIntervalIndex;
+    @Spy private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("이벤트를 검색하면, 결과를 출력하여 보여준다.")
     @Test
     void givenNothing_whenSearchingEvents_thenReturnsEntireEventList() {
         //given
-        given(eventRepository.findAll(any(Predicate.class)))
+        given(nameSearchIndex.rewrite(any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(eventRepository.findEventDTOs(any(Predicate.class)))
                 .willReturn(List.of(
-                        createEvent("오전 운동", true),
-                        createEvent("오후 운동", false)
+                        EventDTO.of(createEvent("오전 운동", true)),
+                        EventDTO.of(createEvent("오후 운동", false))
                 ));
         //when
         List<EventDTO> list = sut.getEvents(new BooleanBuilder());
 
         //then
         assertThat(list).hasSize(2);
-        then(eventRepository).should().findAll(any(Predicate.class));
+        then(eventRepository).should().findEventDTOs(any(Predicate.class));
     }
 
     @DisplayName("이벤트를 검색하는데 에러가 발생한 경우, 기본 에러로 전환하여 예외 던진다.")
@@ -65,7 +92,8 @@ class EventServiceTest {
     void givenDataRelatedException_whenSearchingEvents_thenThrowsGeneralException() {
         //given
         RuntimeException e = new RuntimeException("This is test.");
-        given(eventRepository.findAll(any(Predicate.class))).willThrow(e);
+        given(nameSearchIndex.rewrite(any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(eventRepository.findEventDTOs(any(Predicate.class))).willThrow(e);
 
         //when
         Throwable thrown = catchThrowable(() -> sut.getEvents(new BooleanBuilder()));
@@ -74,7 +102,7 @@ class EventServiceTest {
         assertThat(thrown)
                 .isInstanceOf(GeneralException.class)
                 .hasMessageContaining(ErrorCode.DATA_ACCESS_ERROR.getMessage());
-        then(eventRepository).should().findAll(any(Predicate.class));
+        then(eventRepository).should().findEventDTOs(any(Predicate.class));
     }
 
     @DisplayName("이벤트 뷰 데이터를 검색하면, 페이징된 결과를 출력하여 보여준다.")
@@ -87,6 +115,7 @@ class EventServiceTest {
                 null,
                 null,
                 null,
+                null,
                 PageRequest.ofSize(10)))
                 .willReturn(new PageImpl<>(List.of(
                         EventViewResponse.from(EventDTO.of(createEvent("오전 운동", true))),
@@ -110,11 +139,90 @@ class EventServiceTest {
                 null,
                 null,
                 null,
+                null,
                 PageRequest.ofSize(10)
         );
 
     }
 
+    @DisplayName("진행 중인 이벤트를 조회하면, 시간 색인에서 찾은 id 를 묶음으로 나눠 읽고 시작 시각 순으로 한 페이지만 보여준다.")
+    @Test
+    void givenDatetime_whenSearchingLiveEventViews_thenReturnsSliceFoundByIntervalIndex() {
+        // Given
+        LocalDateTime at = LocalDateTime.of(2021, 1, 1, 10, 0, 0);
+        List<Long> eventIds = LongStream.rangeClosed(1, 1001).boxed().toList();
+        given(eventIntervalIndex.findLiveEventIds(at)).willReturn(Optional.of(eventIds));
+        given(eventRepository.findEventViewSlice(any(Predicate.class), isNull(), eq(2))).willReturn(
+                EventViewSliceResponse.of(List.of(
+                        createEventViewResponse(2L, "오전 운동2", at.minusHours(1)),
+                        createEventViewResponse(5L, "오전 운동5", at)
+                ), null, false),
+                EventViewSliceResponse.of(List.of(
+                        createEventViewResponse(1001L, "오전 운동1001", at.minusHours(2))
+                ), null, false)
+        );
+
+        // When
+        EventViewSliceResponse result = sut.getLiveEventViews(at, null, 2);
+
+        // Then
+        assertThat(result.events())
+                .extracting(EventViewResponse::eventName)
+                .containsExactly("오전 운동1001", "오전 운동2");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(EventViewCursor.of(at.minusHours(1), 2L).encode());
+        then(eventRepository).should(times(2)).findEventViewSlice(any(Predicate.class), isNull(), eq(2));
+    }
+
+    @DisplayName("시간 색인에서 겹치는 이벤트를 못 찾으면, DB 를 읽지 않고 빈 결과를 보여준다.")
+    @Test
+    void givenNoOverlappingEvents_whenSearchingOverlappingEventViews_thenReturnsEmptySliceWithoutQuery() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
+        LocalDateTime to = from.plusHours(1);
+        given(eventIntervalIndex.findEventIds(from, to)).willReturn(Optional.of(List.of()));
+
+        // When
+        EventViewSliceResponse result = sut.getOverlappingEventViews(from, to, null, 20);
+
+        // Then
+        assertThat(result.events()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+        then(eventRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("cursor 와 함께 이벤트 뷰를 조회하면, cursor 를 풀어서 keyset 페이징으로 조회한다.")
+    @Test
+    void givenCursor_whenSearchingEventViewSlice_thenReturnsSliceAfterCursor() {
+        //given
+        EventViewCursor cursor = EventViewCursor.of(LocalDateTime.of(2021, 1, 1, 9, 0, 0), 3L);
+        EventViewSliceResponse slice = EventViewSliceResponse.of(List.of(), null, false);
+        given(eventRepository.findEventViewSliceBySearchParams(null, null, null, null, null, null, cursor, 10))
+                .willReturn(slice);
+
+        //when
+        EventViewSliceResponse result = sut.getEventViewSlice(null, null, null, null, null, cursor.encode(), 10);
+
+        //then
+        assertThat(result).isEqualTo(slice);
+        then(eventRepository).should().findEventViewSliceBySearchParams(null, null, null, null, null, null, cursor, 10);
+    }
+
+    @DisplayName("잘못된 cursor 로 이벤트 뷰를 조회하면, 조회하지 않고 잘못된 요청 에러를 던진다.")
+    @Test
+    void givenMalformedCursor_whenSearchingEventViewSlice_thenThrowsGeneralException() {
+        //given
+
+        //when
+        Throwable thrown = catchThrowable(() -> sut.getEventViewSlice(null, null, null, null, null, "not-a-cursor", 10));
+
+        //then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BAD_REQUEST);
+        then(eventRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("이벤트 ID로 존재하는 이벤트를 조회하면 해당 이벤트 정보를 출력하여 보여준다.")
     @Test
     void givenEventId_whenSearchingExistingEvent_thenReturnEvent() {
@@ -168,7 +276,7 @@ class EventServiceTest {
     void givenEvent_whenCreating_thenCreatesEventAndReturnsTrue() {
         //given
         EventDTO eventDto = EventDTO.of(createEvent("오후 운동", false));
-        given(placeRepository.findById(eventDto.placeDTO().id())).willReturn(Optional.of(createPlace()));
+        given(placeRepository.findById(eventDto.placeDTO().id())).willReturn(Optional.of(createPlace(1L)));
         given(eventRepository.save(any(Event.class))).willReturn(any());
 
         //when
@@ -180,6 +288,32 @@ class EventServiceTest {
         then(eventRepository).should().save(any(Event.class));
     }
 
+    @DisplayName("같은 장소에서 시간이 겹치는 이벤트를 생성하면, 저장하지 않고 시간 충돌 에러를 던진다.")
+    @Test
+    void givenOverlappingEvent_whenCreating_thenThrowsTimeConflictException() {
+        // Given
+        EventDTO eventDto = EventDTO.of(createEvent("오후 운동", false));
+        given(eventIntervalIndex.findConflict(
+                null,
+                eventDto.placeDTO().id(),
+                eventDto.eventStatus(),
+                eventDto.eventStartDatetime(),
+                eventDto.eventEndDatetime()
+        )).willReturn(Optional.of(2L));
+
+        // When
+        Throwable thrown = catchThrowable(() -> sut.createEvent(eventDto));
+
+        // Then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EVENT_TIME_CONFLICT)
+                .hasMessageContaining("eventId: 2");
+        then(placeRepository).should().findAllForUpdate(Set.of(eventDto.placeDTO().id()));
+        then(placeRepository).shouldHaveNoMoreInteractions();
+        then(eventRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("이벤트 정보를 주지 않으면 이벤트 생성을 중단하고 결과를 false 로 보여준다.")
     @Test
     void givenNothing_whenCreating_thenAbortCreatingAndReTurnFalse() {
@@ -218,7 +352,7 @@ class EventServiceTest {
         //given
         Event event = createEvent(null, false);
         RuntimeException e = new RuntimeException("This is test.");
-        given(placeRepository.findById(event.getPlace().getId())).willReturn(Optional.of(createPlace()));
+        given(placeRepository.findById(event.getPlace().getId())).willReturn(Optional.of(createPlace(1L)));
         given(eventRepository.save(any())).willThrow(e);
 
         //when
@@ -232,27 +366,137 @@ class EventServiceTest {
         then(eventRepository).should().save(any());
     }
 
-    @DisplayName("이벤트 ID와 정보를 주면 이벤트 정보를 변경하고 결과를 true 로 보여준다.")
+    @DisplayName("이벤트 여러 개를 주면, 장소를 한 번에 읽고 한꺼번에 저장한 뒤 만든 id 들을 보여준다.")
+    @Test
+    void givenEvents_whenCreatingInBatch_thenInsertsAllAndReturnsIds() {
+        // Given
+        List<EventDTO> eventDTOs = List.of(
+                EventDTO.of(createEvent("오전 운동", true)),
+                EventDTO.of(createEvent("오후 운동", false))
+        );
+        given(placeRepository.findAllForUpdate(Set.of(1L))).willReturn(List.of(createPlace(1L)));
+        given(eventRepository.insertAll(anyList())).willAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            for (int i = 0; i < events.size(); i++) {
+                ReflectionTestUtils.setField(events.get(i), "id", 1000L + i);
+            }
+            return events;
+        });
+
+        // When
+        List<Long> result = sut.createEvents(eventDTOs);
+
+        // Then
+        assertThat(result).containsExactly(1000L, 1001L);
+        then(placeRepository).should().findAllForUpdate(Set.of(1L));
+        then(eventRepository).should().insertAll(anyList());
+        then(eventPublisher).should().publishEvent(any(EventBatchChange.class));
+    }
+
+    @DisplayName("이벤트 여러 개 중 없는 장소가 있으면, 하나도 저장하지 않고 데이터 없음 에러를 던진다.")
+    @Test
+    void givenEventsWithUnknownPlace_whenCreatingInBatch_thenThrowsNotFound() {
+        // Given
+        List<EventDTO> eventDTOs = List.of(EventDTO.of(createEvent("오전 운동", true)));
+        given(placeRepository.findAllForUpdate(Set.of(1L))).willReturn(List.of());
+
+        // When
+        Throwable thrown = catchThrowable(() -> sut.createEvents(eventDTOs));
+
+        // Then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND);
+        then(eventRepository).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("한 번에 만들 이벤트들끼리 같은 장소에서 시간이 겹치면, 하나도 저장하지 않고 시간 충돌 에러를 던진다.")
     @Test
-    void givenEventIdAndItsInfo_whenModifying_thenModifiesEventAndReturnTrue() {
+    void givenOverlappingEventsInBatch_whenCreatingInBatch_thenThrowsTimeConflictException() {
+        // Given
+        List<EventDTO> eventDTOs = List.of(
+                EventDTO.of(createEvent("오후 운동", false)),
+                EventDTO.of(createEvent("오후 운동 2", false))
+        );
+        given(placeRepository.findAllForUpdate(Set.of(1L))).willReturn(List.of(createPlace(1L)));
+        given(eventIntervalIndex.findConflictsAmong(eventDTOs))
+                .willReturn(List.of(new IntervalSweep.Overlap(0L, 1L, 0L, 1L)));
+
+        // When
+        Throwable thrown = catchThrowable(() -> sut.createEvents(eventDTOs));
+
+        // Then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EVENT_TIME_CONFLICT)
+                .hasMessageContaining("index: 0, 1");
+        then(placeRepository).should().findAllForUpdate(Set.of(1L));
+        then(placeRepository).shouldHaveNoMoreInteractions();
+        then(eventRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("이벤트 ID와 정보를 주면 바뀐 컬럼만 UPDATE 하고, 바뀐 이벤트로 변경 알림을 보낸 뒤 결과를 true 로 보여준다.")
+    @Test
+    void givenEventIdAndItsInfo_whenModifying_thenUpdatesPartiallyAndReturnTrue() {
         //given
         Long eventId = 1L;
-        Event originalEvent = createEvent("오후 운동", false);
         Event changedEvent = createEvent("오전 운동", true);
-        given(eventRepository.findById(eventId)).willReturn(Optional.of(originalEvent));
-        given(eventRepository.save(changedEvent)).willReturn(changedEvent);
+        EventDTO dto = EventDTO.of(changedEvent);
+        given(eventRepository.findVersionById(eventId)).willReturn(Optional.of(0L));
+        given(eventRepository.updatePartially(eventId, 0L, dto)).willReturn(1L);
+        given(eventRepository.findById(eventId)).willReturn(Optional.of(changedEvent));
 
         //when
-        boolean result = sut.modifyEvent(eventId, EventDTO.of(changedEvent));
+        boolean result = sut.modifyEvent(eventId, dto);
 
         //then
         assertThat(result).isTrue();
-        assertThat(originalEvent.getEventName()).isEqualTo(changedEvent.getEventName());
-        assertThat(originalEvent.getEventStartDatetime()).isEqualTo(changedEvent.getEventStartDatetime());
-        assertThat(originalEvent.getEventEndDatetime()).isEqualTo(changedEvent.getEventEndDatetime());
-        assertThat(originalEvent.getEventStatus()).isEqualTo(changedEvent.getEventStatus());
-        then(eventRepository).should().findById(eventId);
-        then(eventRepository).should().save(changedEvent);
+        then(placeRepository).should().findForUpdateByEventId(eventId);
+        then(eventRepository).should().updatePartially(eventId, 0L, dto);
+        then(eventRepository).should(never()).save(any());
+        then(eventPublisher).should().publishEvent(EventChange.of(ChangeType.MODIFIED, eventId, changedEvent));
+    }
+
+    @DisplayName("이벤트 변경 중 다른 요청과 충돌하면, version 을 다시 읽어 재시도하고 결과를 true 로 보여준다.")
+    @Test
+    void givenOptimisticLockConflict_whenModifying_thenRetriesAndReturnsTrue() {
+        //given
+        Long eventId = 1L;
+        Event changedEvent = createEvent("오전 운동", true);
+        EventDTO dto = EventDTO.of(changedEvent);
+        given(eventRepository.findVersionById(eventId)).willReturn(Optional.of(0L), Optional.of(1L));
+        given(eventRepository.updatePartially(eventId, 0L, dto))
+                .willThrow(new ObjectOptimisticLockingFailureException(Event.class, eventId));
+        given(eventRepository.updatePartially(eventId, 1L, dto)).willReturn(1L);
+        given(eventRepository.findById(eventId)).willReturn(Optional.of(changedEvent));
+
+        //when
+        boolean result = sut.modifyEvent(eventId, dto);
+
+        //then
+        assertThat(result).isTrue();
+        then(eventRepository).should(times(2)).findVersionById(eventId);
+        then(eventRepository).should().updatePartially(eventId, 1L, dto);
+        then(eventPublisher).should().publishEvent(EventChange.of(ChangeType.MODIFIED, eventId, changedEvent));
+    }
+
+    @DisplayName("없는 이벤트를 변경하면, UPDATE 도 변경 알림도 보내지 않고 결과를 true 로 보여준다.")
+    @Test
+    void givenNonexistentEvent_whenModifying_thenSkipsUpdateAndReturnsTrue() {
+        //given
+        Long eventId = 1L;
+        EventDTO dto = EventDTO.of(createEvent("오전 운동", true));
+        given(eventRepository.findVersionById(eventId)).willReturn(Optional.empty());
+
+        //when
+        boolean result = sut.modifyEvent(eventId, dto);
+
+        //then
+        assertThat(result).isTrue();
+        then(eventRepository).should(never()).updatePartially(any(), any(), any());
+        then(eventRepository).should(never()).findById(any());
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("이벤트 ID를 주지 않으면 이벤트 정보 변경을 중단하고 결과를 false 로 보여준다.")
@@ -289,11 +533,10 @@ class EventServiceTest {
     void givenDataRelatedException_whenModifying_thenThrowsGeneralException() {
         //given
         long eventId = 1L;
-        Event originalEvent = createEvent("오후 운동", false);
         Event wrongEvent = createEvent(null, false);
         RuntimeException e = new RuntimeException("This is test.");
-        given(eventRepository.findById(eventId)).willReturn(Optional.of(originalEvent));
-        given(eventRepository.save(any())).willThrow(e);
+        given(eventRepository.findVersionById(eventId)).willReturn(Optional.of(0L));
+        given(eventRepository.updatePartially(eq(eventId), eq(0L), any())).willThrow(e);
 
         //when
         Throwable thrown = catchThrowable(() -> sut.modifyEvent(eventId, EventDTO.of(wrongEvent)));
@@ -302,8 +545,170 @@ class EventServiceTest {
         assertThat(thrown)
                 .isInstanceOf(GeneralException.class)
                 .hasMessageContaining(ErrorCode.DATA_ACCESS_ERROR.getMessage());
-        then(eventRepository).should().findById(eventId);
-        then(eventRepository).should().save(any());
+        then(eventRepository).should().updatePartially(eq(eventId), eq(0L), any());
+        then(eventRepository).should(never()).findById(any());
+    }
+
+    @DisplayName("조건과 바꿀 상태를 주면, 맞는 이벤트들을 한 번에 UPDATE 하고 묶음 변경 알림을 한 번 보낸 뒤 바뀐 수를 보여준다.")
+    @Test
+    void givenPredicateAndStatus_whenModifyingEvents_thenUpdatesInBulkAndPublishesChanges() {
+        // Given
+        Predicate predicate = QEvent.event.place.id.eq(1L);
+        Event morning = createEvent(1L, 1L, "오전 운동", EventStatus.CANCELLED,
+                LocalDateTime.of(2021, 1, 1, 9, 0, 0), LocalDateTime.of(2021, 1, 1, 12, 0, 0));
+        Event afternoon = createEvent(2L, 1L, "오후 운동", EventStatus.CANCELLED,
+                LocalDateTime.of(2021, 1, 1, 13, 0, 0), LocalDateTime.of(2021, 1, 1, 16, 0, 0));
+        given(nameSearchIndex.rewrite(predicate)).willReturn(predicate);
+        given(eventRepository.findEventDTOs(predicate)).willReturn(List.of(EventDTO.of(morning), EventDTO.of(afternoon)));
+        given(eventRepository.updateAllPartially(eq(List.of(1L, 2L)), any())).willReturn(2L);
+        given(eventRepository.findAllWithPlace(any())).willReturn(List.of(morning, afternoon));
+
+        // When
+        long result = sut.modifyEvents(predicate, EventStatus.CANCELLED, null);
+
+        // Then
+        assertThat(result).isEqualTo(2L);
+        then(placeRepository).should().findAllForUpdate(Set.of(1L));
+        then(eventRepository).should().updateAllPartially(eq(List.of(1L, 2L)), any());
+        then(eventRepository).should(never()).save(any());
+        then(eventPublisher).should().publishEvent(EventBatchChange.of(List.of(
+                EventChange.of(ChangeType.MODIFIED, 1L, morning),
+                EventChange.of(ChangeType.MODIFIED, 2L, afternoon)
+        )));
+    }
+
+    @DisplayName("바꿀 이벤트들끼리 시간이 겹치는 상태로 바꾸면, 아무것도 바꾸지 않고 충돌 에러를 던진다.")
+    @Test
+    void givenOverlappingTargets_whenOpeningEvents_thenThrowsEventTimeConflict() {
+        // Given
+        Predicate predicate = QEvent.event.place.id.eq(1L);
+        List<EventDTO> targets = List.of(
+                EventDTO.of(createEvent(1L, 1L, "오전 운동", EventStatus.CANCELLED,
+                        LocalDateTime.of(2021, 1, 1, 9, 0, 0), LocalDateTime.of(2021, 1, 1, 12, 0, 0))),
+                EventDTO.of(createEvent(2L, 1L, "점심 운동", EventStatus.CANCELLED,
+                        LocalDateTime.of(2021, 1, 1, 11, 0, 0), LocalDateTime.of(2021, 1, 1, 14, 0, 0)))
+        );
+        given(nameSearchIndex.rewrite(predicate)).willReturn(predicate);
+        given(eventRepository.findEventDTOs(predicate)).willReturn(targets);
+        given(eventIntervalIndex.findConflictsAmong(anyList()))
+                .willReturn(List.of(new IntervalSweep.Overlap(0, 1, 0, 0)));
+
+        // When
+        Throwable thrown = catchThrowable(() -> sut.modifyEvents(predicate, EventStatus.OPENED, null));
+
+        // Then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EVENT_TIME_CONFLICT)
+                .hasMessageContaining("eventId: 1, 2");
+        then(eventRepository).should(never()).updateAllPartially(any(), any());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("조건 없이 이벤트들을 한꺼번에 바꾸려고 하면, 아무것도 읽지 않고 잘못된 요청 에러를 던진다.")
+    @Test
+    void givenEmptyPredicate_whenModifyingEvents_thenThrowsBadRequest() {
+        // When
+        Throwable thrown = catchThrowable(() -> sut.modifyEvents(new BooleanBuilder(), EventStatus.CANCELLED, null));
+
+        // Then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BAD_REQUEST);
+        then(eventRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("정원에 여유가 있는 이벤트에 입장하면, 결과를 true 로 보여준다.")
+    @Test
+    void givenEventWithRoom_whenCheckingIn_thenReturnsTrue() {
+        //given
+        Long eventId = 1L;
+        given(placeOccupancyService.checkIn(eventId)).willReturn(CompletableFuture.completedFuture(true));
+
+        //when
+        boolean result = sut.checkIn(eventId);
+
+        //then
+        assertThat(result).isTrue();
+        then(placeOccupancyService).should().checkIn(eventId);
+    }
+
+    @DisplayName("정원이 찼거나 열리지 않은 이벤트에 입장하면, 결과를 false 로 보여준다.")
+    @Test
+    void givenFullEvent_whenCheckingIn_thenReturnsFalse() {
+        //given
+        Long eventId = 1L;
+        given(placeOccupancyService.checkIn(eventId)).willReturn(CompletableFuture.completedFuture(false));
+
+        //when
+        boolean result = sut.checkIn(eventId);
+
+        //then
+        assertThat(result).isFalse();
+        then(placeOccupancyService).should().checkIn(eventId);
+    }
+
+    @DisplayName("이벤트 ID를 주지 않으면 입장을 중단하고 결과를 false 로 보여준다.")
+    @Test
+    void givenNothing_whenCheckingIn_thenAbortsCheckingInAndReturnsFalse() {
+        //given
+
+        //when
+        boolean result = sut.checkIn(null);
+
+        //then
+        assertThat(result).isFalse();
+        then(placeOccupancyService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("입장 중 데이터 오류가 발생하면, 줄서기 프로젝트 기본 에러로 전환하여 예외 던진다.")
+    @Test
+    void givenDataRelatedException_whenCheckingIn_thenThrowsGeneralException() {
+        //given
+        Long eventId = 1L;
+        RuntimeException e = new RuntimeException("This is test.");
+        given(placeOccupancyService.checkIn(eventId)).willReturn(CompletableFuture.failedFuture(e));
+
+        //when
+        Throwable thrown = catchThrowable(() -> sut.checkIn(eventId));
+
+        //then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasMessageContaining(ErrorCode.DATA_ACCESS_ERROR.getMessage());
+        then(placeOccupancyService).should().checkIn(eventId);
+    }
+
+    @DisplayName("사람이 있는 이벤트에서 퇴장하면, 결과를 true 로 보여준다.")
+    @Test
+    void givenOccupiedEvent_whenCheckingOut_thenReturnsTrue() {
+        //given
+        Long eventId = 1L;
+        given(placeOccupancyService.checkOut(eventId)).willReturn(CompletableFuture.completedFuture(true));
+
+        //when
+        boolean result = sut.checkOut(eventId);
+
+        //then
+        assertThat(result).isTrue();
+        then(placeOccupancyService).should().checkOut(eventId);
+        then(eventWaitlistService).should().promote(eventId);
+    }
+
+    @DisplayName("아무도 없는 이벤트에서 퇴장하면, 결과를 false 로 보여주고 대기자를 입장시키지 않는다.")
+    @Test
+    void givenEmptyEvent_whenCheckingOut_thenReturnsFalseWithoutPromoting() {
+        //given
+        Long eventId = 1L;
+        given(placeOccupancyService.checkOut(eventId)).willReturn(CompletableFuture.completedFuture(false));
+
+        //when
+        boolean result = sut.checkOut(eventId);
+
+        //then
+        assertThat(result).isFalse();
+        then(placeOccupancyService).should().checkOut(eventId);
+        then(eventWaitlistService).shouldHaveNoInteractions();
     }
 
         @DisplayName("이벤트 ID를 주면, 이벤트 정보를 삭제하고 결과를 true 로 보여준다.")
@@ -311,14 +716,31 @@ class EventServiceTest {
     void givenEventId_whenDeleting_thenDeletesEventAndReturnTrue() {
         //given
         Long eventId = 1L;
-        willDoNothing().given(eventRepository).deleteById(eventId);
+        given(eventRepository.deleteWithDependents(eventId)).willReturn(1L);
 
         //when
         boolean result = sut.removeEvent(eventId);
 
         //then
         assertThat(result).isTrue();
-            then(eventRepository).should().deleteById(eventId);
+            then(eventRepository).should().deleteWithDependents(eventId);
+        then(eventPublisher).should().publishEvent(EventChange.of(ChangeType.REMOVED, eventId, null));
+    }
+
+    @DisplayName("없는 이벤트를 삭제하면, 변경 알림 없이 결과를 false 로 보여준다.")
+    @Test
+    void givenNonexistentEventId_whenDeleting_thenReturnsFalseWithoutPublishing() {
+        //given
+        Long eventId = 1L;
+        given(eventRepository.deleteWithDependents(eventId)).willReturn(0L);
+
+        //when
+        boolean result = sut.removeEvent(eventId);
+
+        //then
+        assertThat(result).isFalse();
+        then(eventRepository).should().deleteWithDependents(eventId);
+        then(eventPublisher).shouldHaveNoInteractions();
     }
     @DisplayName("이벤트 ID를 주지 않으면 삭제 중단하고 결과를 false 로 보여준다.")
     @Test
@@ -339,7 +761,7 @@ class EventServiceTest {
         //given
         long eventId = 0L;
         RuntimeException e = new RuntimeException("This is test.");
-        willThrow(e).given(eventRepository).deleteById(eventId);
+        given(eventRepository.deleteWithDependents(eventId)).willThrow(e);
 
         //when
         Throwable thrown = catchThrowable(() -> sut.removeEvent(eventId));
@@ -348,7 +770,7 @@ class EventServiceTest {
         assertThat(thrown)
                 .isInstanceOf(GeneralException.class)
                 .hasMessageContaining(ErrorCode.DATA_ACCESS_ERROR.getMessage());
-        then(eventRepository).should().deleteById(eventId);
+        then(eventRepository).should().deleteWithDependents(eventId);
     }
 
     private Event createEvent(String eventName, boolean isMorning) {
@@ -373,7 +795,7 @@ class EventServiceTest {
             LocalDateTime eventStartDatetime,
             LocalDateTime eventEndDatetime
     ) {
-        Event event =  Event.of(
+        return withId(Event.of(
                 createPlace(placeId),
                 eventName,
                 eventStatus,
@@ -382,21 +804,21 @@ class EventServiceTest {
                 0,
                 24,
                 "마스크 꼭 착용하세요"
-        );
-        ReflectionTestUtils.setField(event, "id", id);
-
-        return event;
-    }
-
-    private Place createPlace() {
-        return createPlace(1L);
+        ), id);
     }
 
-    private Place createPlace(long id) {
-        Place place = Place.of(PlaceType.COMMON, "test place", "test address", "010-1234-1234", 10, null);
-        ReflectionTestUtils.setField(place, "id", id);
-
-        return place;
+    private EventViewResponse createEventViewResponse(long id, String eventName, LocalDateTime eventStartDatetime) {
+        return EventViewResponse.of(
+                id,
+                "test place",
+                eventName,
+                EventStatus.OPENED,
+                eventStartDatetime,
+                eventStartDatetime.plusHours(3),
+                0,
+                10,
+                null
+        );
     }
 
 }
\ No newline at end of file
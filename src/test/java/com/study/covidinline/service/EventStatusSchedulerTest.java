@@ -0,0 +1,97 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.types.Predicate;
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static com.study.covidinline.service.ServiceFixtures.createPlace;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 이벤트 상태 자동 전환")
+@ExtendWith(MockitoExtension.class)
+class EventStatusSchedulerTest {
+
+    private EventStatusScheduler sut;
+
+    @Mock private EventRepository eventRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        sut = new EventStatusScheduler(eventRepository, new TransactionTemplate(transactionManager), eventPublisher, 100, 64, 500);
+    }
+
+    @DisplayName("시작 시각이 지난 대기 이벤트는 열고, 종료 시각이 지난 이벤트는 닫는다. 상태별로 한 번씩 bulk UPDATE 한다.")
+    @Test
+    void givenDueEvents_whenTicking_thenAppliesTransitionsInBulkAndPublishesChanges() {
+        // Given
+        Event starting = createEvent(1L, EventStatus.PENDING, now.minusMinutes(1), now.plusHours(1));
+        Event ending = createEvent(2L, EventStatus.OPENED, now.minusHours(2), now.minusMinutes(1));
+        Event finished = createEvent(3L, EventStatus.PENDING, now.minusHours(2), now.minusHours(1));
+        Event upcoming = createEvent(4L, EventStatus.PENDING, now.plusHours(1), now.plusHours(2));
+        given(eventRepository.findEventDTOs(any(Predicate.class)))
+                .willReturn(List.of(EventDTO.of(starting), EventDTO.of(ending), EventDTO.of(finished), EventDTO.of(upcoming)));
+        given(eventRepository.updateEventStatus(any(), any(), any())).willReturn(1);
+        given(eventRepository.findAllById(any())).willReturn(List.of(starting, ending, finished));
+        sut.load();
+
+        // When
+        sut.tick(System.currentTimeMillis() + 1000);
+
+        // Then
+        then(eventRepository).should().updateEventStatus(List.of(1L, 3L), List.of(EventStatus.PENDING), EventStatus.OPENED);
+        then(eventRepository).should().updateEventStatus(List.of(2L, 3L), List.of(EventStatus.PENDING, EventStatus.OPENED), EventStatus.CLOSED);
+        then(eventRepository).should().findAllById(Set.of(1L, 3L, 2L));
+        then(eventPublisher).should().publishEvent(EventBatchChange.of(List.of(
+                EventChange.of(ChangeType.MODIFIED, 1L, starting),
+                EventChange.of(ChangeType.MODIFIED, 2L, ending),
+                EventChange.of(ChangeType.MODIFIED, 3L, finished)
+        )));
+        assertThat(sut.scheduledCount()).isEqualTo(3);
+    }
+
+    @DisplayName("이벤트가 취소되면, 예약된 상태 전환을 지운다.")
+    @Test
+    void givenCancelledEvent_whenEventChanged_thenRemovesScheduledTransitions() {
+        // Given
+        sut.onEventChanged(EventChange.of(ChangeType.CREATED, 1L, createEvent(1L, EventStatus.PENDING, now.plusHours(1), now.plusHours(2))));
+        int scheduled = sut.scheduledCount();
+
+        // When
+        sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, 1L, createEvent(1L, EventStatus.CANCELLED, now.plusHours(1), now.plusHours(2))));
+
+        // Then
+        assertThat(scheduled).isEqualTo(2);
+        assertThat(sut.scheduledCount()).isZero();
+        sut.tick(System.currentTimeMillis() + 1000);
+        then(eventRepository).shouldHaveNoInteractions();
+    }
+
+
+    private Event createEvent(long id, EventStatus eventStatus, LocalDateTime start, LocalDateTime end) {
+        return ServiceFixtures.createEvent(id, createPlace(1L), eventStatus, start, end);
+    }
+}
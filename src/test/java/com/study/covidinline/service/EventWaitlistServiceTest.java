@@ -0,0 +1,287 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.ErrorCode;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.constant.WaitlistStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.WaitlistEntry;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.WaitlistResponse;
+import com.study.covidinline.exception.GeneralException;
+import com.study.covidinline.repository.EventRepository;
+import com.study.covidinline.repository.WaitlistEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.study.covidinline.service.ServiceFixtures.createPlace;
+import static com.study.covidinline.service.ServiceFixtures.withId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 이벤트 대기열")
+@ExtendWith(MockitoExtension.class)
+class EventWaitlistServiceTest {
+
+    private EventWaitlistService sut;
+
+    @Mock private WaitlistEntryRepository waitlistEntryRepository;
+    @Mock private EventRepository eventRepository;
+    @Mock private PlaceOccupancyService placeOccupancyService;
+
+    private final AtomicLong entryIds = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        sut = new EventWaitlistService(waitlistEntryRepository, eventRepository, placeOccupancyService, 2);
+    }
+
+    @DisplayName("대기열에 등록하면, 대기 정보를 저장하고 대기 순번을 보여준다.")
+    @Test
+    void givenEventId_whenJoiningWaitlist_thenSavesEntryAndReturnsPosition() {
+        // Given
+        long eventId = 1L;
+        givenEvent(eventId);
+
+        // When
+        WaitlistResponse first = sut.join(eventId, "010-1111-1111");
+        WaitlistResponse second = sut.join(eventId, "010-2222-2222");
+
+        // Then
+        assertThat(first.waitlistStatus()).isEqualTo(WaitlistStatus.WAITING);
+        assertThat(first.position()).isEqualTo(1);
+        assertThat(second.position()).isEqualTo(2);
+        then(waitlistEntryRepository).should(times(2)).save(any());
+    }
+
+    @DisplayName("자리가 남은 열린 이벤트의 대기열에 등록하면, 저장하지 않고 대기 불필요 에러를 던진다.")
+    @Test
+    void givenEventWithRoom_whenJoiningWaitlist_thenThrowsGeneralException() {
+        // Given
+        long eventId = 1L;
+        given(eventRepository.findById(eventId)).willReturn(Optional.of(createEvent(eventId, 9, 10)));
+
+        // When
+        Throwable thrown = catchThrowable(() -> sut.join(eventId, "010-1111-1111"));
+
+        // Then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.WAITLIST_NOT_NEEDED);
+        then(waitlistEntryRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("대기열이 가득 찼는데 등록하면, 대기열 초과 에러를 던진다.")
+    @Test
+    void givenFullWaitlist_whenJoiningWaitlist_thenThrowsGeneralException() {
+        // Given
+        long eventId = 1L;
+        givenEvent(eventId);
+        sut.join(eventId, "010-1111-1111");
+        sut.join(eventId, "010-2222-2222");
+
+        // When
+        Throwable thrown = catchThrowable(() -> sut.join(eventId, "010-3333-3333"));
+
+        // Then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.WAITLIST_FULL);
+        then(waitlistEntryRepository).should(times(2)).save(any());
+    }
+
+    @DisplayName("자리가 나서 맨 앞 대기자가 입장하면, 입장 처리 상태를 저장하고 기다리던 클라이언트에 알려준다.")
+    @Test
+    void givenWaitingEntry_whenPromoting_thenPromotesHeadAndNotifiesWaiter() throws Exception {
+        // Given
+        long eventId = 1L;
+        givenEvent(eventId);
+        WaitlistResponse entry = sut.join(eventId, "010-1111-1111");
+        CompletableFuture<WaitlistResponse> promotion = sut.awaitPromotion(eventId, entry.id());
+        given(placeOccupancyService.checkIn(eventId)).willReturn(CompletableFuture.completedFuture(true));
+
+        // When
+        sut.promote(eventId);
+
+        // Then
+        WaitlistResponse result = promotion.get(1, TimeUnit.SECONDS);
+        assertThat(result.waitlistStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+        then(waitlistEntryRepository).should().updateWaitlistStatus(entry.id(), WaitlistStatus.PROMOTED);
+    }
+
+    @DisplayName("맨 앞 대기자의 입장이 거절되면, 대기자를 다시 맨 앞에 세운다.")
+    @Test
+    void givenRejectedCheckIn_whenPromoting_thenKeepsEntryAtHead() throws Exception {
+        // Given
+        long eventId = 1L;
+        givenEvent(eventId);
+        WaitlistResponse entry = sut.join(eventId, "010-1111-1111");
+        given(placeOccupancyService.checkIn(eventId)).willReturn(CompletableFuture.completedFuture(false));
+
+        // When
+        sut.promote(eventId);
+
+        // Then
+        then(placeOccupancyService).should().checkIn(eventId);
+        assertThat(awaitEntry(eventId, entry.id()))
+                .hasValueSatisfying(response -> assertThat(response.position()).isEqualTo(1));
+        then(waitlistEntryRepository).should(never()).updateWaitlistStatus(any(), any());
+    }
+
+    @DisplayName("이미 끝난 대기를 기다리면, 기다리지 않고 그 상태로 바로 알려준다.")
+    @Test
+    void givenFinishedEntry_whenAwaitingPromotion_thenCompletesImmediately() throws Exception {
+        // Given
+        long eventId = 1L;
+        givenEvent(eventId);
+        WaitlistResponse entry = sut.join(eventId, "010-1111-1111");
+        sut.cancel(eventId, entry.id());
+        WaitlistEntry cancelled = WaitlistEntry.of(createEvent(eventId), "010-1111-1111", WaitlistStatus.CANCELLED);
+        ReflectionTestUtils.setField(cancelled, "id", entry.id());
+        given(waitlistEntryRepository.findById(entry.id())).willReturn(Optional.of(cancelled));
+
+        // When
+        CompletableFuture<WaitlistResponse> promotion = sut.awaitPromotion(eventId, entry.id());
+
+        // Then
+        assertThat(promotion).isCompleted();
+        assertThat(promotion.get().waitlistStatus()).isEqualTo(WaitlistStatus.CANCELLED);
+    }
+
+    @DisplayName("정원이 늘어나면, 빈 자리만큼 대기자를 입장시킨다.")
+    @Test
+    void givenWaitingEntries_whenCapacityIncreased_thenPromotesAsManyAsFreeSeats() throws Exception {
+        // Given
+        long eventId = 1L;
+        givenEvent(eventId);
+        WaitlistResponse first = sut.join(eventId, "010-1111-1111");
+        WaitlistResponse second = sut.join(eventId, "010-2222-2222");
+        CompletableFuture<WaitlistResponse> promotion = sut.awaitPromotion(eventId, first.id());
+        given(placeOccupancyService.checkIn(eventId)).willReturn(CompletableFuture.completedFuture(true));
+
+        // When
+        sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, eventId, createEvent(eventId, 10, 11)));
+
+        // Then
+        assertThat(promotion.get(1, TimeUnit.SECONDS).waitlistStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+        then(placeOccupancyService).should(times(1)).checkIn(eventId);
+        assertThat(sut.getEntry(eventId, second.id()))
+                .hasValueSatisfying(response -> assertThat(response.position()).isEqualTo(1));
+    }
+
+    @DisplayName("대기를 취소하면, 대기열에서 빼고 취소 상태를 저장한다.")
+    @Test
+    void givenWaitingEntry_whenCancelling_thenRemovesEntry() {
+        // Given
+        long eventId = 1L;
+        givenEvent(eventId);
+        WaitlistResponse entry = sut.join(eventId, "010-1111-1111");
+
+        // When
+        boolean result = sut.cancel(eventId, entry.id());
+
+        // Then
+        assertThat(result).isTrue();
+        then(waitlistEntryRepository).should().updateWaitlistStatus(entry.id(), WaitlistStatus.CANCELLED);
+    }
+
+    @DisplayName("이벤트가 지워지면, 대기열을 버리고 기다리던 클라이언트에 취소로 알려준다.")
+    @Test
+    void givenWaitingEntry_whenEventRemoved_thenDropsQueueAndCancelsWaiter() throws Exception {
+        // Given
+        long eventId = 1L;
+        givenEvent(eventId);
+        WaitlistResponse entry = sut.join(eventId, "010-1111-1111");
+        CompletableFuture<WaitlistResponse> promotion = sut.awaitPromotion(eventId, entry.id());
+
+        // When
+        sut.onEventsChanged(EventBatchChange.of(List.of(EventChange.of(ChangeType.REMOVED, eventId, null))));
+
+        // Then
+        WaitlistResponse result = promotion.get(1, TimeUnit.SECONDS);
+        assertThat(result.waitlistStatus()).isEqualTo(WaitlistStatus.CANCELLED);
+        assertThat(sut.cancel(eventId, entry.id())).isFalse();
+        then(waitlistEntryRepository).should(never()).updateWaitlistStatus(any(), any());
+    }
+
+    @DisplayName("재시작 때 읽지 못하는 대기 정보가 있으면, 그 대기만 건너뛰고 나머지로 대기열을 다시 만든다.")
+    @Test
+    void givenBrokenWaitingEntry_whenRestoring_thenSkipsItAndRestoresOthers() {
+        // Given
+        long eventId = 1L;
+        WaitlistEntry broken = withId(WaitlistEntry.of(null, "010-1111-1111", WaitlistStatus.WAITING), 1L);
+        WaitlistEntry waiting = withId(WaitlistEntry.of(createEvent(eventId), "010-2222-2222", WaitlistStatus.WAITING), 2L);
+        given(waitlistEntryRepository.findAllByWaitlistStatusOrderByIdAsc(WaitlistStatus.WAITING)).willReturn(List.of(broken, waiting));
+
+        // When
+        Throwable thrown = catchThrowable(() -> sut.restore());
+
+        // Then
+        assertThat(thrown).isNull();
+        assertThat(sut.getEntry(eventId, waiting.getId()))
+                .hasValueSatisfying(response -> assertThat(response.position()).isEqualTo(1));
+    }
+
+    @DisplayName("재시작 때 대기 정보를 읽다가 데이터 오류가 나면, 서버 시작을 막지 않고 빈 대기열로 시작한다.")
+    @Test
+    void givenDataRelatedException_whenRestoring_thenStartsWithEmptyWaitlist() {
+        // Given
+        long eventId = 1L;
+        given(waitlistEntryRepository.findAllByWaitlistStatusOrderByIdAsc(WaitlistStatus.WAITING))
+                .willThrow(new RuntimeException("This is test."));
+        givenEvent(eventId);
+
+        // When
+        Throwable thrown = catchThrowable(() -> sut.restore());
+
+        // Then
+        assertThat(thrown).isNull();
+        assertThat(sut.join(eventId, "010-1111-1111").position()).isEqualTo(1);
+    }
+
+
+    /**
+     * 입장 결과 처리는 비동기로 일어나므로 대기열에 다시 들어올 때까지 잠깐 기다린다.
+     */
+    private Optional<WaitlistResponse> awaitEntry(long eventId, long entryId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        Optional<WaitlistResponse> entry = sut.getEntry(eventId, entryId);
+        while (entry.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            entry = sut.getEntry(eventId, entryId);
+        }
+
+        return entry;
+    }
+
+    private void givenEvent(long eventId) {
+        given(eventRepository.findById(eventId)).willReturn(Optional.of(createEvent(eventId)));
+        given(waitlistEntryRepository.save(any())).willAnswer(invocation -> {
+            WaitlistEntry entry = invocation.getArgument(0);
+            ReflectionTestUtils.setField(entry, "id", entryIds.incrementAndGet());
+            return entry;
+        });
+    }
+
+    private Event createEvent(long id) {
+        return createEvent(id, 10, 10);
+    }
+
+    private Event createEvent(long id, int currentNumberOfPeople, int capacity) {
+        return ServiceFixtures.createEvent(id, createPlace(1L), "test event", EventStatus.OPENED, currentNumberOfPeople, capacity);
+    }
+}
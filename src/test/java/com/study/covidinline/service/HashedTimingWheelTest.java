@@ -0,0 +1,66 @@
+package com.study.covidinline.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 타이밍 휠")
+class HashedTimingWheelTest {
+
+    private final HashedTimingWheel<String> sut = new HashedTimingWheel<>(100, 8, 0);
+
+    @DisplayName("tick 을 진행하면, 마감된 예약만 마감 순서대로 꺼낸다.")
+    @Test
+    void givenScheduledKeys_whenAdvancing_thenReturnsExpiredKeysInDeadlineOrder() {
+        // Given
+        sut.schedule("b", 250);
+        sut.schedule("a", 120);
+        sut.schedule("c", 1000);
+
+        // When
+        List<String> first = sut.advance(199);
+        List<String> second = sut.advance(300);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).containsExactly("a", "b");
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("한 바퀴보다 먼 예약은, 같은 버킷을 지나가도 마감 전에는 꺼내지 않는다.")
+    @Test
+    void givenDeadlineBeyondOneRound_whenAdvancing_thenWaitsForDeadline() {
+        // Given
+        sut.schedule("far", 100 * 8 * 3 + 50);
+
+        // When & Then
+        for (long now = 100; now < 100 * 8 * 3; now += 100) {
+            assertThat(sut.advance(now)).isEmpty();
+        }
+        assertThat(sut.advance(100 * 8 * 3 + 100)).containsExactly("far");
+    }
+
+    @DisplayName("다시 예약하거나 취소하면, 이전 예약은 꺼내지 않는다. 이미 지난 시각은 다음 tick 에 꺼낸다.")
+    @Test
+    void givenRescheduledAndCancelledKeys_whenAdvancing_thenUsesLatestSchedule() {
+        // Given
+        sut.advance(500);
+        sut.schedule("moved", 600);
+        sut.schedule("moved", 900);
+        sut.schedule("cancelled", 600);
+        sut.cancel("cancelled");
+        sut.schedule("late", 100);
+
+        // When
+        List<String> next = sut.advance(700);
+        List<String> later = sut.advance(5000);
+
+        // Then
+        assertThat(next).containsExactly("late");
+        assertThat(later).containsExactly("moved");
+        assertThat(sut.size()).isZero();
+    }
+}
@@ -0,0 +1,153 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.types.Predicate;
+import com.study.covidinline.config.CacheConfig;
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.OccupancyDelta;
+import com.study.covidinline.dto.PlaceChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.study.covidinline.service.ServiceFixtures.createPlace;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 목록 조회 결과 캐시")
+class ListingResultCacheTest {
+
+    private static final QEvent EVENT = QEvent.event;
+
+    private ListingResultCache sut;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        sut = new ListingResultCache(new CacheConfig().cacheManager(10, 60, 10, 60));
+    }
+
+    @DisplayName("조건 순서만 다른 predicate 로 조회하면, 같은 캐시 결과를 쓴다.")
+    @Test
+    void givenSamePredicateInDifferentOrder_whenGettingEvents_thenLoadsOnce() {
+        // Given
+        Predicate first = EVENT.eventName.containsIgnoreCase("운동").and(EVENT.eventStatus.eq(EventStatus.OPENED));
+        Predicate second = EVENT.eventStatus.eq(EventStatus.OPENED).and(EVENT.eventName.containsIgnoreCase("운동"));
+
+        // When
+        getEvents(first, createEvent(1L, "오전 운동"));
+        getEvents(second, createEvent(1L, "오전 운동"));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @DisplayName("캐시된 결과에 들어 있는 이벤트가 바뀌면, 그 결과만 버린다.")
+    @Test
+    void givenCachedEvent_whenEventModified_thenEvictsOnlyListingsContainingIt() {
+        // Given
+        Predicate morning = EVENT.eventName.containsIgnoreCase("오전");
+        Predicate evening = EVENT.eventName.containsIgnoreCase("저녁");
+        Event event = createEvent(1L, "오전 운동");
+        getEvents(morning, event);
+        getEvents(evening, createEvent(2L, "저녁 운동"));
+
+        // When
+        event.setEventName("오전 산책");
+        sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, 1L, event));
+        getEvents(morning, event);
+        getEvents(evening, createEvent(2L, "저녁 운동"));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @DisplayName("새 이벤트가 캐시된 조회 조건에 맞으면, 그 결과만 버린다.")
+    @Test
+    void givenNewEvent_whenEventCreated_thenEvictsOnlyMatchingListings() {
+        // Given
+        Predicate morning = EVENT.eventName.containsIgnoreCase("오전");
+        Predicate evening = EVENT.eventName.containsIgnoreCase("저녁");
+        getEvents(morning, createEvent(1L, "오전 운동"));
+        getEvents(evening, createEvent(2L, "저녁 운동"));
+
+        // When
+        sut.onEventChanged(EventChange.of(ChangeType.CREATED, 3L, createEvent(3L, "저녁 산책")));
+        getEvents(morning, createEvent(1L, "오전 운동"));
+        getEvents(evening, createEvent(2L, "저녁 운동"));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @DisplayName("장소가 바뀌면, 그 장소의 이벤트가 들어 있는 이벤트 목록도 버린다.")
+    @Test
+    void givenCachedEventOfPlace_whenPlaceModified_thenEvictsEventListing() {
+        // Given
+        Predicate morning = EVENT.eventName.containsIgnoreCase("오전");
+        Event event = createEvent(1L, "오전 운동");
+        getEvents(morning, event);
+
+        // When
+        sut.onPlaceChanged(PlaceChange.of(ChangeType.MODIFIED, event.getPlace().getId(), event.getPlace()));
+        getEvents(morning, event);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @DisplayName("캐시된 결과에 들어 있는 이벤트의 현재 인원이 바뀌면, 그 결과만 버린다.")
+    @Test
+    void givenCachedEvent_whenOccupancyChanged_thenEvictsOnlyListingsContainingIt() {
+        // Given
+        Predicate morning = EVENT.eventName.containsIgnoreCase("오전");
+        Predicate evening = EVENT.eventName.containsIgnoreCase("저녁");
+        getEvents(morning, createEvent(1L, "오전 운동"));
+        getEvents(evening, createEvent(2L, "저녁 운동"));
+
+        // When
+        sut.onOccupancyChanged(OccupancyDelta.of(1L, 1));
+        getEvents(morning, createEvent(1L, "오전 운동"));
+        getEvents(evening, createEvent(2L, "저녁 운동"));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @DisplayName("여러 이벤트가 한 번에 바뀌면, 결과를 골라내지 않고 이벤트 목록을 전부 버린다.")
+    @Test
+    void givenCachedListings_whenEventsChangedInBatch_thenEvictsAllEventListings() {
+        // Given
+        Predicate morning = EVENT.eventName.containsIgnoreCase("오전");
+        Predicate evening = EVENT.eventName.containsIgnoreCase("저녁");
+        getEvents(morning, createEvent(1L, "오전 운동"));
+        getEvents(evening, createEvent(2L, "저녁 운동"));
+
+        // When
+        sut.onEventsChanged(EventBatchChange.of(List.of(EventChange.of(ChangeType.REMOVED, 3L, null))));
+        getEvents(morning, createEvent(1L, "오전 운동"));
+        getEvents(evening, createEvent(2L, "저녁 운동"));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+
+    private List<EventDTO> getEvents(Predicate predicate, Event event) {
+        return sut.getEvents(predicate, () -> {
+            loads.incrementAndGet();
+            return List.of(EventDTO.of(event));
+        });
+    }
+
+    private Event createEvent(long id, String eventName) {
+        return ServiceFixtures.createEvent(id, createPlace(1L), eventName, EventStatus.OPENED, 0, 10);
+    }
+}
@@ -0,0 +1,100 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.types.Predicate;
+import com.study.covidinline.config.CacheConfig;
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.study.covidinline.service.ServiceFixtures.createEvent;
+import static com.study.covidinline.service.ServiceFixtures.createPlace;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 목록 조회 결과 캐시와 트랜잭션")
+@SpringBootTest(classes = {
+        CacheConfig.class,
+        ListingResultCache.class,
+        TransactionalEventListenerFactory.class
+})
+class ListingResultCacheTransactionTest {
+
+    private static final Predicate MORNING = QEvent.event.eventName.containsIgnoreCase("오전");
+
+    private final ListingResultCache sut;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    public ListingResultCacheTransactionTest(
+            @Autowired ListingResultCache sut,
+            @Autowired ApplicationEventPublisher eventPublisher
+    ) {
+        this.sut = sut;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @BeforeEach
+    void setUp() {
+        sut.invalidateAll();
+    }
+
+    @DisplayName("트랜잭션 안에서 이벤트가 바뀌면, 커밋 전에는 캐시된 목록을 그대로 두고 커밋된 뒤에 버린다.")
+    @Test
+    void givenCachedListing_whenEventChangedInTransaction_thenEvictsAfterCommit() {
+        // Given
+        Event event = createEvent(1L, createPlace(1L), "오전 운동", EventStatus.OPENED, 0, 10);
+        getEvents(event);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(EventChange.of(ChangeType.MODIFIED, event.getId(), event));
+            getEvents(event);
+        });
+        int loadsBeforeCommit = loads.get();
+        getEvents(event);
+
+        // Then
+        assertThat(loadsBeforeCommit).isEqualTo(1);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @DisplayName("이벤트를 바꾼 트랜잭션이 롤백되면, 캐시된 목록을 버리지 않는다.")
+    @Test
+    void givenCachedListing_whenEventChangeRolledBack_thenKeepsListing() {
+        // Given
+        Event event = createEvent(2L, createPlace(1L), "오전 요가", EventStatus.OPENED, 0, 10);
+        getEvents(event);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(EventChange.of(ChangeType.MODIFIED, event.getId(), event));
+            status.setRollbackOnly();
+        });
+        getEvents(event);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+
+    private List<EventDTO> getEvents(Event event) {
+        return sut.getEvents(MORNING, () -> {
+            loads.incrementAndGet();
+            return List.of(EventDTO.of(event));
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.domain.QEvent;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.PlaceChange;
+import com.study.covidinline.dto.PlaceDTO;
+import com.study.covidinline.repository.EventRepository;
+import com.study.covidinline.repository.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스 로직 - 이름 검색 색인")
+@ExtendWith(MockitoExtension.class)
+class NameSearchIndexTest {
+
+    private NameSearchIndex sut;
+
+    @Mock private EventRepository eventRepository;
+    @Mock private PlaceRepository placeRepository;
+
+    private Place badminton;
+    private Place restaurant;
+
+    @BeforeEach
+    void setUp() {
+        sut = new NameSearchIndex(eventRepository, placeRepository, 1);
+        badminton = createPlace(1L, "서울 배드민턴장");
+        restaurant = createPlace(2L, "패캠 레스토랑");
+    }
+
+    @DisplayName("색인을 채우기 전이면, 후보를 주지 않고 조건도 바꾸지 않는다.")
+    @Test
+    void givenNotLoaded_whenSearching_thenFallsBackToDatabase() {
+        // Given
+        Predicate predicate = QEvent.event.eventName.containsIgnoreCase("운동");
+
+        // When
+        Optional<Set<Long>> eventIds = sut.findEventIds(null, "운동");
+        Predicate rewritten = sut.rewrite(predicate);
+
+        // Then
+        assertThat(eventIds).isEmpty();
+        assertThat(rewritten).isSameAs(predicate);
+    }
+
+    @DisplayName("장소 이름과 이벤트 이름으로 찾으면, 두 조건에 모두 맞는 이벤트 id 를 돌려준다.")
+    @Test
+    void givenLoadedIndex_whenFindingEventIds_thenReturnsMatchingIds() {
+        // Given
+        givenLoaded(
+                createEvent(1L, badminton, "운동1"),
+                createEvent(2L, badminton, "운동2"),
+                createEvent(3L, restaurant, "행사1")
+        );
+
+        // When
+        Optional<Set<Long>> both = sut.findEventIds("배드민턴", "운동1");
+        Optional<Set<Long>> byPlace = sut.findEventIds("레스토랑", null);
+        Optional<Set<Long>> tooMany = sut.findEventIds(null, "운동");
+
+        // Then
+        assertThat(both).hasValue(Set.of(1L));
+        assertThat(byPlace).hasValue(Set.of(3L));
+        assertThat(tooMany).isEmpty();
+    }
+
+    @DisplayName("이름 부분 일치 조건이 든 predicate 를 바꾸면, 색인에서 찾은 id 조건으로 바꾸고 다른 조건은 그대로 둔다.")
+    @Test
+    void givenContainsPredicate_whenRewriting_thenReplacesWithIdCondition() {
+        // Given
+        givenLoaded(
+                createEvent(1L, badminton, "운동1"),
+                createEvent(3L, restaurant, "행사1")
+        );
+        QEvent event = QEvent.event;
+        Predicate predicate = event.place.placeName.containsIgnoreCase("레스토랑")
+                .and(event.eventStatus.eq(EventStatus.OPENED))
+                .and(event.eventName.containsIgnoreCase("없는 이름"));
+
+        // When
+        Predicate rewritten = sut.rewrite(predicate);
+
+        // Then
+        assertThat(rewritten).isEqualTo(
+                event.place.id.eq(2L)
+                        .and(event.eventStatus.eq(EventStatus.OPENED))
+                        .and(event.id.isNull())
+        );
+    }
+
+    @DisplayName("변경 알림을 받으면, 색인에 바로 반영한다.")
+    @Test
+    void givenChanges_whenFindingEventIds_thenReflectsChanges() {
+        // Given
+        givenLoaded(createEvent(1L, badminton, "운동1"));
+
+        // When
+        sut.onEventChanged(EventChange.of(ChangeType.CREATED, 4L, createEvent(4L, restaurant, "저녁 행사")));
+        sut.onEventChanged(EventChange.of(ChangeType.REMOVED, 1L, null));
+        restaurant.setPlaceName("패캠 배드민턴 카페");
+        sut.onPlaceChanged(PlaceChange.of(ChangeType.MODIFIED, 2L, restaurant));
+
+        // Then
+        assertThat(sut.findEventIds(null, "운동")).hasValue(Set.of());
+        assertThat(sut.findEventIds("배드민턴", "행사")).hasValue(Set.of(4L));
+        assertThat(sut.findPlaceIds("레스토랑")).hasValue(Set.of());
+    }
+
+
+    private void givenLoaded(Event... events) {
+        given(placeRepository.findPlaceDTOs(any(BooleanBuilder.class)))
+                .willReturn(List.of(PlaceDTO.of(badminton), PlaceDTO.of(restaurant)));
+        given(eventRepository.findEventDTOs(any(BooleanBuilder.class)))
+                .willReturn(List.of(events).stream().map(EventDTO::of).toList());
+        sut.load();
+    }
+
+    private Place createPlace(long id, String placeName) {
+        return ServiceFixtures.createPlace(id, placeName, 10);
+    }
+
+    private Event createEvent(long id, Place place, String eventName) {
+        return ServiceFixtures.createEvent(id, place, eventName, EventStatus.OPENED, 0, 10);
+    }
+}
@@ -0,0 +1,26 @@
+package com.study.covidinline.service;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * DB 없이 트랜잭션 경계와 동기화(커밋 후 콜백 등)만 흉내 내는 트랜잭션 매니저.
+ * 커밋 뒤에 처리하는 변경 알림을 테스트할 때 쓴다.
+ */
+final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {}
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {}
+}
@@ -0,0 +1,252 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.BooleanBuilder;
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.PlaceDTO;
+import com.study.covidinline.repository.EventRepository;
+import com.study.covidinline.repository.PlaceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 장소 인원")
+@ExtendWith(MockitoExtension.class)
+class PlaceOccupancyServiceTest {
+
+    @Mock private EventRepository eventRepository;
+    @Mock private PlaceRepository placeRepository;
+    @Mock private EventOccupancyBatcher eventOccupancyBatcher;
+
+    @DisplayName("장소 정원이 차면, 같은 장소의 다른 이벤트에 자리가 있어도 DB 를 거치지 않고 입장을 거절한다.")
+    @Test
+    void givenFullPlace_whenCheckingIn_thenRejectsWithoutEventCheckIn() {
+        // Given
+        PlaceOccupancyService sut = load(3, 0,
+                createEvent(1L, EventStatus.OPENED, 2),
+                createEvent(2L, EventStatus.OPENED, 0)
+        );
+        given(eventOccupancyBatcher.checkIn(anyLong())).willReturn(CompletableFuture.completedFuture(true));
+
+        // When
+        boolean first = sut.checkIn(2L).join();
+        boolean second = sut.checkIn(2L).join();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(sut.getCurrentNumberOfPeople(1L)).hasValue(3);
+        then(eventOccupancyBatcher).should(times(1)).checkIn(2L);
+    }
+
+    @DisplayName("이벤트 정원에 걸려 입장이 거절되면, 먼저 잡았던 장소 자리를 돌려준다.")
+    @Test
+    void givenRejectedEventCheckIn_whenCheckingIn_thenReleasesPlaceSlot() {
+        // Given
+        PlaceOccupancyService sut = load(3, 0, createEvent(1L, EventStatus.OPENED, 1));
+        given(eventOccupancyBatcher.checkIn(1L)).willReturn(CompletableFuture.completedFuture(false));
+
+        // When
+        boolean result = sut.checkIn(1L).join();
+
+        // Then
+        assertThat(result).isFalse();
+        assertThat(sut.getCurrentNumberOfPeople(1L)).hasValue(1);
+    }
+
+    @DisplayName("이벤트가 닫히면 그 이벤트 인원을 장소 인원에서 빼고, 퇴장하면 장소 자리를 돌려준다.")
+    @Test
+    void givenClosedEventAndCheckOut_whenCountingPlace_thenAdjustsPlaceOccupancy() {
+        // Given
+        PlaceOccupancyService sut = load(10, 0,
+                createEvent(1L, EventStatus.OPENED, 4),
+                createEvent(2L, EventStatus.OPENED, 3)
+        );
+        given(eventOccupancyBatcher.checkOut(2L)).willReturn(CompletableFuture.completedFuture(true));
+
+        // When
+        sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, 1L, createEvent(1L, EventStatus.CLOSED, 4)));
+        sut.checkOut(2L).join();
+
+        // Then
+        assertThat(sut.getCurrentNumberOfPeople(1L)).hasValue(2);
+    }
+
+    @DisplayName("여러 스레드가 동시에 입장해도, 장소 정원만큼만 입장시킨다.")
+    @Test
+    void givenConcurrentCheckIns_whenCheckingIn_thenNeverExceedsPlaceCapacity() throws InterruptedException {
+        // Given
+        PlaceOccupancyService sut = load(50, 4,
+                createEvent(1L, EventStatus.OPENED, 0),
+                createEvent(2L, EventStatus.OPENED, 0)
+        );
+        given(eventOccupancyBatcher.checkIn(anyLong())).willReturn(CompletableFuture.completedFuture(true));
+        int threads = 16;
+        int requestsPerThread = 20;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            long eventId = i % 2 + 1;
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        if (sut.checkIn(eventId).join()) { accepted.incrementAndGet(); }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        // Then
+        assertThat(accepted.get()).isEqualTo(50);
+        assertThat(sut.getCurrentNumberOfPeople(1L)).hasValue(50);
+    }
+
+    @DisplayName("입장 처리 중에 이벤트가 닫히고 입장이 반영되면, 잡았던 장소 자리가 장소 인원에 남지 않는다.")
+    @Test
+    void givenEventClosedDuringCheckIn_whenCheckInAccepted_thenDoesNotLeakPlaceSlot() {
+        // Given
+        PlaceOccupancyService sut = load(10, 0, createEvent(1L, EventStatus.OPENED, 2));
+        CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        given(eventOccupancyBatcher.checkIn(1L)).willReturn(pending);
+        CompletableFuture<Boolean> result = sut.checkIn(1L);
+
+        // When
+        sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, 1L, createEvent(1L, EventStatus.CLOSED, 2)));
+        pending.complete(true);
+        int closed = sut.getCurrentNumberOfPeople(1L).orElseThrow();
+        sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, 1L, createEvent(1L, EventStatus.OPENED, 3)));
+
+        // Then
+        assertThat(result.join()).isTrue();
+        assertThat(closed).isZero();
+        assertThat(sut.getCurrentNumberOfPeople(1L)).hasValue(3);
+    }
+
+    @DisplayName("입장 처리 중에 이벤트가 닫혀서 입장이 거절되면, 장소 자리를 두 번 돌려주지 않는다.")
+    @Test
+    void givenEventClosedDuringCheckIn_whenCheckInRejected_thenReleasesPlaceSlotOnce() {
+        // Given
+        PlaceOccupancyService sut = load(10, 0, createEvent(1L, EventStatus.OPENED, 2));
+        CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        given(eventOccupancyBatcher.checkIn(1L)).willReturn(pending);
+        CompletableFuture<Boolean> result = sut.checkIn(1L);
+
+        // When
+        sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, 1L, createEvent(1L, EventStatus.CLOSED, 2)));
+        pending.complete(false);
+        int closed = sut.getCurrentNumberOfPeople(1L).orElseThrow();
+        sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, 1L, createEvent(1L, EventStatus.OPENED, 2)));
+
+        // Then
+        assertThat(result.join()).isFalse();
+        assertThat(closed).isZero();
+        assertThat(sut.getCurrentNumberOfPeople(1L)).hasValue(2);
+    }
+
+    @DisplayName("입장이 몰리는 동안 이벤트가 닫혔다 열렸다 해도, 끝나고 나면 장소 인원은 입장한 인원과 같다.")
+    @Test
+    void givenConcurrentCheckInsAndToggling_whenSettled_thenPlaceMatchesAcceptedCheckIns() throws Exception {
+        // Given
+        PlaceOccupancyService sut = load(100_000, 4, createEvent(1L, EventStatus.OPENED, 0));
+        ExecutorService database = Executors.newFixedThreadPool(4);
+        given(eventOccupancyBatcher.checkIn(1L)).willAnswer(invocation -> CompletableFuture.supplyAsync(() -> true, database));
+        int threads = 8;
+        int requestsPerThread = 200;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        List<CompletableFuture<?>> checkIns = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            checkIns.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < requestsPerThread; j++) {
+                    if (sut.checkIn(1L).join()) { accepted.incrementAndGet(); }
+                }
+            }, executor));
+        }
+        CompletableFuture<Void> toggling = CompletableFuture.runAsync(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            for (int i = 0; i < 500; i++) {
+                EventStatus status = i % 2 == 0 ? EventStatus.CLOSED : EventStatus.OPENED;
+                sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, 1L, createEvent(1L, status, 0)));
+            }
+        }, executor);
+        start.countDown();
+        CompletableFuture.allOf(checkIns.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        toggling.get(10, TimeUnit.SECONDS);
+        sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, 1L, createEvent(1L, EventStatus.OPENED, 0)));
+        executor.shutdownNow();
+        database.shutdownNow();
+
+        // Then
+        assertThat(accepted.get()).isEqualTo(threads * requestsPerThread);
+        assertThat(sut.getCurrentNumberOfPeople(1L)).hasValue(accepted.get());
+    }
+
+    private PlaceOccupancyService load(int placeCapacity, int fastPathHeadroom, Event... events) {
+        Place place = createPlace(placeCapacity);
+        given(placeRepository.findPlaceDTOs(any(BooleanBuilder.class))).willReturn(List.of(PlaceDTO.of(place)));
+        given(eventRepository.findEventDTOs(any(BooleanBuilder.class)))
+                .willReturn(List.of(events).stream().map(EventDTO::of).toList());
+
+        PlaceOccupancyService sut = new PlaceOccupancyService(eventRepository, placeRepository, eventOccupancyBatcher, fastPathHeadroom);
+        sut.load();
+
+        return sut;
+    }
+
+    private Event createEvent(long id, EventStatus eventStatus, int currentNumberOfPeople) {
+        return ServiceFixtures.createEvent(id, createPlace(null), "test event", eventStatus, currentNumberOfPeople, 10);
+    }
+
+    private Place createPlace(Integer capacity) {
+        return ServiceFixtures.createPlace(1L, "test place", capacity);
+    }
+}
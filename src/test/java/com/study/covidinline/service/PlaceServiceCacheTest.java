@@ -0,0 +1,89 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.config.CacheConfig;
+import com.study.covidinline.dto.PlaceDTO;
+import com.study.covidinline.repository.PlaceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static com.study.covidinline.service.ServiceFixtures.createPlace;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 장소 id 캐시")
+@SpringBootTest(classes = {
+        CacheConfig.class,
+        PlaceService.class,
+        ListingResultCache.class,
+        EntityCacheInvalidator.class
+})
+class PlaceServiceCacheTest {
+
+    private final PlaceService sut;
+
+    @MockBean private PlaceRepository placeRepository;
+    @MockBean private OptimisticLockRetrier optimisticLockRetrier;
+    @MockBean private NameSearchIndex nameSearchIndex;
+
+    public PlaceServiceCacheTest(@Autowired PlaceService sut) {
+        this.sut = sut;
+    }
+
+    @DisplayName("같은 장소를 여러 번 조회하면, DB 는 한 번만 조회하고 삭제하면 다시 조회한다.")
+    @Test
+    void givenCachedPlace_whenReadingAgainAndRemoving_thenReadsThroughOnlyOnMiss() {
+        // Given
+        long placeId = 1L;
+        given(placeRepository.findById(placeId)).willReturn(Optional.of(createPlace(placeId)));
+
+        // When
+        Optional<PlaceDTO> first = sut.getPlace(placeId);
+        Optional<PlaceDTO> second = sut.getPlace(placeId);
+        sut.removePlace(placeId);
+        sut.getPlace(placeId);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).isEqualTo(first);
+        then(placeRepository).should(times(2)).findById(placeId);
+    }
+
+    @DisplayName("같은 장소 조회가 동시에 몰리면, DB 조회는 한 번만 하고 모두 같은 결과를 받는다.")
+    @Test
+    void givenConcurrentMisses_whenReadingPlace_thenLoadsOnce() throws Exception {
+        // Given
+        long placeId = 2L;
+        given(placeRepository.findById(placeId)).willAnswer(invocation -> {
+            Thread.sleep(200);
+            return Optional.of(createPlace(placeId));
+        });
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<PlaceDTO>>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < requests; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return sut.getPlace(placeId);
+            }));
+        }
+        start.countDown();
+        for (Future<Optional<PlaceDTO>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isPresent();
+        }
+        executor.shutdown();
+
+        // Then
+        then(placeRepository).should(times(1)).findById(placeId);
+    }
+}
@@ -2,18 +2,27 @@ package com.study.covidinline.service;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
+import com.study.covidinline.constant.ChangeType;
 import com.study.covidinline.constant.ErrorCode;
 import com.study.covidinline.constant.PlaceType;
 import com.study.covidinline.domain.Place;
+import com.study.covidinline.dto.EventBatchChange;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.PlaceChange;
 import com.study.covidinline.dto.PlaceDTO;
 import com.study.covidinline.exception.GeneralException;
 import com.study.covidinline.repository.PlaceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -32,15 +41,24 @@ class PlaceServiceTest {
     private PlaceService sut;
     @Mock
     private PlaceRepository placeRepository;
+    @Spy
+    private OptimisticLockRetrier optimisticLockRetrier = new OptimisticLockRetrier(new SimpleMeterRegistry(), 3, 0);
+    @Spy
+    private ListingResultCache listingResultCache = new ListingResultCache(new CaffeineCacheManager());
+    @Mock
+    private NameSearchIndex nameSearchIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("장소를 검색하면, 결과를 출력하여 보여준다.")
     @Test
     void givenNothing_whenSearchingPlaces_thenReturnsEntirePlaceList() {
         // Given
-        given(placeRepository.findAll(any(Predicate.class)))
+        given(nameSearchIndex.rewrite(any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(placeRepository.findPlaceDTOs(any(Predicate.class)))
                 .willReturn(List.of(
-                        createPlace(PlaceType.COMMON, "레스토랑"),
-                        createPlace(PlaceType.SPORTS, "체육관")
+                        PlaceDTO.of(createPlace(PlaceType.COMMON, "레스토랑")),
+                        PlaceDTO.of(createPlace(PlaceType.SPORTS, "체육관"))
                 ));
 
         // When
@@ -48,7 +66,7 @@ class PlaceServiceTest {
 
         // Then
         assertThat(list).hasSize(2);
-        then(placeRepository).should().findAll(any(Predicate.class));
+        then(placeRepository).should().findPlaceDTOs(any(Predicate.class));
     }
 
     @DisplayName("장소를 검색하는데 에러가 발생한 경우, 줄서기 프로젝트 기본 에러로 전환하여 예외 던진다.")
@@ -56,7 +74,8 @@ class PlaceServiceTest {
     void givenDataRelatedException_whenSearchingPlaces_thenThrowsGeneralException() {
         // Given
         RuntimeException e = new RuntimeException("This is test.");
-        given(placeRepository.findAll(any(Predicate.class))).willThrow(e);
+        given(nameSearchIndex.rewrite(any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(placeRepository.findPlaceDTOs(any(Predicate.class))).willThrow(e);
 
         // When
         Throwable thrown = catchThrowable(() -> sut.getPlaces(new BooleanBuilder()));
@@ -65,7 +84,7 @@ class PlaceServiceTest {
         assertThat(thrown)
                 .isInstanceOf(GeneralException.class)
                 .hasMessageContaining(ErrorCode.DATA_ACCESS_ERROR.getMessage());
-        then(placeRepository).should().findAll(any(Predicate.class));
+        then(placeRepository).should().findPlaceDTOs(any(Predicate.class));
     }
 
     @DisplayName("장소 ID로 존재하는 장소를 조회하면, 해당 장소 정보를 출력하여 보여준다.")
@@ -162,23 +181,85 @@ class PlaceServiceTest {
         then(placeRepository).should().save(any());
     }
 
-    @DisplayName("장소 ID와 정보를 주면, 장소 정보를 변경하고 결과를 true 로 보여준다.")
+    @DisplayName("장소 ID와 정보를 주면, 바뀐 컬럼만 UPDATE 하고 바뀐 장소로 변경 알림을 보낸 뒤 결과를 true 로 보여준다.")
     @Test
-    void givenPlaceIdAndItsInfo_whenModifying_thenModifiesPlaceAndReturnsTrue() {
+    void givenPlaceIdAndItsInfo_whenModifying_thenUpdatesPartiallyAndReturnsTrue() {
         // Given
         long placeId = 1L;
-        Place originalPlace = createPlace(PlaceType.SPORTS, "체육관");
         Place changedPlace = createPlace(PlaceType.PARTY, "무도회장");
-        given(placeRepository.findById(placeId)).willReturn(Optional.of(originalPlace));
-        given(placeRepository.save(changedPlace)).willReturn(changedPlace);
+        PlaceDTO dto = PlaceDTO.of(changedPlace);
+        given(placeRepository.findVersionById(placeId)).willReturn(Optional.of(0L));
+        given(placeRepository.updatePartially(placeId, 0L, dto)).willReturn(1L);
+        given(placeRepository.findById(placeId)).willReturn(Optional.of(changedPlace));
 
         // When
-        boolean result = sut.modifyPlace(placeId, PlaceDTO.of(changedPlace));
+        boolean result = sut.modifyPlace(placeId, dto);
 
         // Then
         assertThat(result).isTrue();
-        then(placeRepository).should().findById(placeId);
-        then(placeRepository).should().save(changedPlace);
+        then(placeRepository).should().updatePartially(placeId, 0L, dto);
+        then(placeRepository).should(never()).save(any());
+        then(eventPublisher).should().publishEvent(PlaceChange.of(ChangeType.MODIFIED, placeId, changedPlace));
+    }
+
+    @DisplayName("장소 변경 중 다른 요청과 충돌하면, version 을 다시 읽어 재시도하고 결과를 true 로 보여준다.")
+    @Test
+    void givenOptimisticLockConflict_whenModifying_thenRetriesAndReturnsTrue() {
+        // Given
+        long placeId = 1L;
+        Place changedPlace = createPlace(PlaceType.PARTY, "무도회장");
+        PlaceDTO dto = PlaceDTO.of(changedPlace);
+        given(placeRepository.findVersionById(placeId)).willReturn(Optional.of(0L), Optional.of(1L));
+        given(placeRepository.updatePartially(placeId, 0L, dto))
+                .willThrow(new ObjectOptimisticLockingFailureException(Place.class, placeId));
+        given(placeRepository.updatePartially(placeId, 1L, dto)).willReturn(1L);
+        given(placeRepository.findById(placeId)).willReturn(Optional.of(changedPlace));
+
+        // When
+        boolean result = sut.modifyPlace(placeId, dto);
+
+        // Then
+        assertThat(result).isTrue();
+        then(placeRepository).should(times(2)).findVersionById(placeId);
+        then(placeRepository).should().updatePartially(placeId, 1L, dto);
+    }
+
+    @DisplayName("장소 변경 중 충돌이 계속되면, 재시도를 멈추고 줄서기 프로젝트 기본 에러로 전환하여 예외 던진다.")
+    @Test
+    void givenRepeatedOptimisticLockConflicts_whenModifying_thenThrowsGeneralException() {
+        // Given
+        long placeId = 1L;
+        PlaceDTO dto = PlaceDTO.of(createPlace(PlaceType.PARTY, "무도회장"));
+        given(placeRepository.findVersionById(placeId)).willReturn(Optional.of(0L));
+        given(placeRepository.updatePartially(placeId, 0L, dto))
+                .willThrow(new ObjectOptimisticLockingFailureException(Place.class, placeId));
+
+        // When
+        Throwable thrown = catchThrowable(() -> sut.modifyPlace(placeId, dto));
+
+        // Then
+        assertThat(thrown)
+                .isInstanceOf(GeneralException.class)
+                .hasMessageContaining(ErrorCode.DATA_ACCESS_ERROR.getMessage());
+        then(placeRepository).should(times(3)).updatePartially(placeId, 0L, dto);
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("없는 장소를 변경하면, UPDATE 도 변경 알림도 보내지 않고 결과를 true 로 보여준다.")
+    @Test
+    void givenNonexistentPlace_whenModifying_thenSkipsUpdateAndReturnsTrue() {
+        // Given
+        long placeId = 1L;
+        PlaceDTO dto = PlaceDTO.of(createPlace(PlaceType.PARTY, "무도회장"));
+        given(placeRepository.findVersionById(placeId)).willReturn(Optional.empty());
+
+        // When
+        boolean result = sut.modifyPlace(placeId, dto);
+
+        // Then
+        assertThat(result).isTrue();
+        then(placeRepository).should(never()).updatePartially(any(), any(), any());
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("장소 ID를 주지 않으면, 장소 정보 변경 중단하고 결과를 false 로 보여준다.")
@@ -214,11 +295,10 @@ class PlaceServiceTest {
     void givenDataRelatedException_whenModifying_thenThrowsGeneralException() {
         // Given
         long placeId = 1L;
-        Place originalPlace = createPlace(PlaceType.SPORTS, "체육관");
         Place wrongPlace = createPlace(null, null);
         RuntimeException e = new RuntimeException("This is test.");
-        given(placeRepository.findById(placeId)).willReturn(Optional.of(originalPlace));
-        given(placeRepository.save(any())).willThrow(e);
+        given(placeRepository.findVersionById(placeId)).willReturn(Optional.of(0L));
+        given(placeRepository.updatePartially(eq(placeId), eq(0L), any())).willThrow(e);
 
         // When
         Throwable thrown = catchThrowable(() -> sut.modifyPlace(placeId, PlaceDTO.of(wrongPlace)));
@@ -227,8 +307,8 @@ class PlaceServiceTest {
         assertThat(thrown)
                 .isInstanceOf(GeneralException.class)
                 .hasMessageContaining(ErrorCode.DATA_ACCESS_ERROR.getMessage());
-        then(placeRepository).should().findById(placeId);
-        then(placeRepository).should().save(any());
+        then(placeRepository).should().updatePartially(eq(placeId), eq(0L), any());
+        then(placeRepository).should(never()).findById(any());
     }
 
     @DisplayName("장소 ID를 주면, 장소 정보를 삭제하고 결과를 true 로 보여준다.")
@@ -236,14 +316,21 @@ class PlaceServiceTest {
     void givenPlaceId_whenDeleting_thenDeletesPlaceAndReturnsTrue() {
         // Given
         long placeId = 1L;
-        willDoNothing().given(placeRepository).deleteById(placeId);
+        given(placeRepository.deleteWithDependents(placeId)).willReturn(List.of(10L, 11L));
 
         // When
         boolean result = sut.removePlace(placeId);
 
         // Then
         assertThat(result).isTrue();
-        then(placeRepository).should().deleteById(placeId);
+        then(placeRepository).should().deleteWithDependents(placeId);
+        then(placeRepository).should(never()).deleteById(any());
+        then(eventPublisher).should().publishEvent(EventBatchChange.of(List.of(
+                EventChange.of(ChangeType.REMOVED, 10L, null),
+                EventChange.of(ChangeType.REMOVED, 11L, null)
+        )));
+        then(eventPublisher).should(never()).publishEvent(any(EventChange.class));
+        then(eventPublisher).should().publishEvent(PlaceChange.of(ChangeType.REMOVED, placeId, null));
     }
 
     @DisplayName("장소 ID를 주지 않으면, 삭제 중단하고 결과를 false 로 보여준다.")
@@ -265,7 +352,7 @@ class PlaceServiceTest {
         // Given
         long placeId = 0L;
         RuntimeException e = new RuntimeException("This is test.");
-        willThrow(e).given(placeRepository).deleteById(placeId);
+        given(placeRepository.deleteWithDependents(placeId)).willThrow(e);
 
         // When
         Throwable thrown = catchThrowable(() -> sut.removePlace(placeId));
@@ -274,7 +361,7 @@ class PlaceServiceTest {
         assertThat(thrown)
                 .isInstanceOf(GeneralException.class)
                 .hasMessageContaining(ErrorCode.DATA_ACCESS_ERROR.getMessage());
-        then(placeRepository).should().deleteById(placeId);
+        then(placeRepository).should().deleteWithDependents(placeId);
     }
 
     private Place createPlace(PlaceType placeType, String placeName) {
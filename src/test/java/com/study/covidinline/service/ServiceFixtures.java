@@ -0,0 +1,46 @@
+package com.study.covidinline.service;
+
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.constant.PlaceType;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.Place;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서비스 테스트에서 같이 쓰는 장소, 이벤트 데이터.
+ * 엔티티의 id 는 DB 가 채우므로 테스트에서는 reflection 으로 넣는다.
+ */
+final class ServiceFixtures {
+
+    static final LocalDateTime EVENT_START = LocalDateTime.of(2021, 1, 1, 9, 0, 0);
+    static final LocalDateTime EVENT_END = LocalDateTime.of(2021, 1, 1, 12, 0, 0);
+
+    private ServiceFixtures() {}
+
+    static <T> T withId(T entity, long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+
+    static Place createPlace(long id) {
+        return createPlace(id, "test place", 10);
+    }
+
+    static Place createPlace(long id, String placeName, Integer capacity) {
+        return createPlace(id, PlaceType.COMMON, placeName, capacity);
+    }
+
+    static Place createPlace(long id, PlaceType placeType, String placeName, Integer capacity) {
+        return withId(Place.of(placeType, placeName, "test address", "010-1234-1234", capacity, null), id);
+    }
+
+    static Event createEvent(long id, Place place, EventStatus eventStatus, LocalDateTime eventStartDatetime, LocalDateTime eventEndDatetime) {
+        return withId(Event.of(place, "test event", eventStatus, eventStartDatetime, eventEndDatetime, 0, 10, null), id);
+    }
+
+    static Event createEvent(long id, Place place, String eventName, EventStatus eventStatus, int currentNumberOfPeople, int capacity) {
+        return withId(Event.of(place, eventName, eventStatus, EVENT_START, EVENT_END, currentNumberOfPeople, capacity, null), id);
+    }
+}
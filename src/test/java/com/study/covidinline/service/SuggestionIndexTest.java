@@ -0,0 +1,104 @@
+package com.study.covidinline.service;
+
+import com.querydsl.core.BooleanBuilder;
+import com.study.covidinline.constant.ChangeType;
+import com.study.covidinline.constant.EventStatus;
+import com.study.covidinline.constant.PlaceType;
+import com.study.covidinline.constant.SuggestionType;
+import com.study.covidinline.domain.Event;
+import com.study.covidinline.domain.Place;
+import com.study.covidinline.dto.EventChange;
+import com.study.covidinline.dto.EventDTO;
+import com.study.covidinline.dto.OccupancyDelta;
+import com.study.covidinline.dto.PlaceDTO;
+import com.study.covidinline.dto.SuggestionResponse;
+import com.study.covidinline.repository.EventRepository;
+import com.study.covidinline.repository.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스 로직 - 자동완성 색인")
+@ExtendWith(MockitoExtension.class)
+class SuggestionIndexTest {
+
+    private SuggestionIndex sut;
+
+    @Mock private EventRepository eventRepository;
+    @Mock private PlaceRepository placeRepository;
+
+    private Place badminton;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SuggestionIndex(eventRepository, placeRepository, 100);
+        badminton = createPlace(1L, "서울 배드민턴장");
+        given(placeRepository.findPlaceDTOs(any(BooleanBuilder.class))).willReturn(List.of(PlaceDTO.of(badminton)));
+        given(eventRepository.findEventDTOs(any(BooleanBuilder.class))).willReturn(List.of(
+                EventDTO.of(createEvent(1L, "배드민턴 초급반", 3)),
+                EventDTO.of(createEvent(2L, "배드민턴 대회", 5))
+        ));
+        sut.load();
+    }
+
+    @DisplayName("입력 중인 글자로 자동완성하면, 점수(입장 수 + 현재 인원) 순서로 장소와 이벤트를 돌려준다.")
+    @Test
+    void givenPartialSyllable_whenSuggesting_thenReturnsRankedSuggestions() {
+        // Given
+
+        // When
+        List<SuggestionResponse> result = sut.suggest("배드미", 10);
+
+        // Then
+        assertThat(result)
+                .extracting(SuggestionResponse::type, SuggestionResponse::id, SuggestionResponse::score)
+                .containsExactly(
+                        tuple(SuggestionType.PLACE, 1L, 16L),
+                        tuple(SuggestionType.EVENT, 2L, 10L),
+                        tuple(SuggestionType.EVENT, 1L, 6L)
+                );
+        assertThat(sut.suggest("ㅅㅇㅂㄷ", 10))
+                .extracting(SuggestionResponse::text)
+                .containsExactly("서울 배드민턴장");
+    }
+
+    @DisplayName("인원이 바뀌거나 이벤트가 바뀌면, 순위와 이름에 바로 반영한다.")
+    @Test
+    void givenOccupancyAndEventChanges_whenSuggesting_thenReflectsChanges() {
+        // Given
+
+        // When
+        sut.onOccupancyChanged(OccupancyDelta.of(1L, 5));
+        sut.onEventChanged(EventChange.of(ChangeType.MODIFIED, 2L, createEvent(2L, "셔틀콕 대회", 5)));
+
+        // Then
+        assertThat(sut.suggest("배드민턴", 2))
+                .extracting(SuggestionResponse::type, SuggestionResponse::id, SuggestionResponse::score)
+                .containsExactly(
+                        tuple(SuggestionType.PLACE, 1L, 26L),
+                        tuple(SuggestionType.EVENT, 1L, 16L)
+                );
+        assertThat(sut.suggest("ㅅㅌㅋ", 10))
+                .extracting(SuggestionResponse::id)
+                .containsExactly(2L);
+    }
+
+
+    private Place createPlace(long id, String placeName) {
+        return ServiceFixtures.createPlace(id, PlaceType.SPORTS, placeName, 30);
+    }
+
+    private Event createEvent(long id, String eventName, int currentNumberOfPeople) {
+        return ServiceFixtures.createEvent(id, badminton, eventName, EventStatus.OPENED, currentNumberOfPeople, 10);
+    }
+}